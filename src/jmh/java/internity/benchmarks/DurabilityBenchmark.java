@@ -0,0 +1,92 @@
+package internity.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.storage.Durability;
+import internity.storage.JournaledStorage;
+import internity.storage.SnapshotFormat;
+import internity.storage.Storage;
+import internity.utils.InternityLogger;
+
+/**
+ * Measures the latency of a snapshot save and of a single journal append under each durability policy.
+ * The write and sync counts of each trial are printed at tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DurabilityBenchmark {
+    @Param({"none", "on-exit", "every-10-ms", "every-write"})
+    public String durability;
+
+    @Param({"1000"})
+    public int records;
+
+    private Path directory;
+    private Storage storage;
+    private JournaledStorage journaledStorage;
+    private ArrayList<Internship> internships;
+    private Internship added;
+
+    /**
+     * Creates a storage and a journaled storage with the durability policy in a new directory.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        InternityLogger.getLogger();
+        directory = Files.createTempDirectory("internity-bench");
+        Durability policy = Durability.parse(durability);
+        storage = new Storage(directory.resolve("snapshot.txt").toString(), SnapshotFormat.TEXT, policy);
+        journaledStorage = new JournaledStorage(directory.resolve("journaled.txt").toString(), Integer.MAX_VALUE,
+                SnapshotFormat.TEXT, policy);
+        internships = Fixtures.generate(records);
+        added = internships.get(0);
+    }
+
+    /**
+     * Closes both storages, prints their metrics and deletes the directory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        storage.close();
+        journaledStorage.close();
+        System.out.println("snapshot: " + storage.getWriteMetrics());
+        System.out.println("journal: " + journaledStorage.getWriteMetrics());
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(Fixtures::delete);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Benchmark
+    public void saveSnapshot() throws InternityException {
+        storage.save(internships);
+    }
+
+    @Benchmark
+    public void appendJournal() throws InternityException {
+        journaledStorage.recordAdd(added);
+        journaledStorage.save(internships);
+    }
+}
@@ -0,0 +1,103 @@
+package internity.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.Status;
+import internity.storage.Storage;
+
+/**
+ * Generates deterministic internship data sets for the benchmarks.
+ *
+ * <p>
+ * The same seed always produces the same records, so runs at the same size are comparable.
+ * Deadlines spread over a few years around today so that the nearest deadline search has
+ * both past and future entries to skip.
+ * </p>
+ */
+final class Fixtures {
+    private static final String[] COMPANIES = {
+        "Google", "Meta", "Grab", "Shopee", "Goldman Sachs", "Jane Street", "Stripe", "ByteDance"
+    };
+    private static final String[] ROLES = {
+        "Software Engineer", "Data Analyst", "Quant Researcher", "Product Manager", "SRE Intern"
+    };
+    private static final int DEADLINE_SPREAD_DAYS = 3 * 365;
+    private static final long SEED = 2103L;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Generates the given number of internships.
+     *
+     * @param count the number of internships
+     * @return the generated internships
+     */
+    static ArrayList<Internship> generate(int count) {
+        Random random = new Random(SEED);
+        int firstDeadline = Date.getToday().toEpochDay() - DEADLINE_SPREAD_DAYS / 2;
+        ArrayList<Internship> internships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String company = COMPANIES[random.nextInt(COMPANIES.length)] + " " + i;
+            String role = ROLES[random.nextInt(ROLES.length)];
+            Date deadline = Date.ofEpochDay(firstDeadline + random.nextInt(DEADLINE_SPREAD_DAYS));
+            Internship internship = new Internship(company, role, deadline, random.nextInt(10000));
+            internship.setStatus(Status.ofOrdinal(random.nextInt(Status.count())));
+            internships.add(internship);
+        }
+        return internships;
+    }
+
+    /**
+     * Writes the given number of generated internships to a new text storage file.
+     *
+     * @param count the number of internships
+     * @return the storage file
+     */
+    static Path writeStorageFile(int count) {
+        try {
+            Path file = Files.createTempFile("internity-bench", ".txt");
+            new Storage(file.toString()).save(generate(count));
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InternityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Deletes a storage file written by {@link #writeStorageFile(int)}.
+     *
+     * @param file the file to delete
+     */
+    static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replaces standard output with a stream that discards everything, so benchmarks of
+     * commands that print measure the work rather than the terminal.
+     *
+     * @return the previous standard output, to be restored afterwards
+     */
+    static PrintStream silenceStandardOutput() {
+        PrintStream previous = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        return previous;
+    }
+}
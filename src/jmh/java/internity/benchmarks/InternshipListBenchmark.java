@@ -0,0 +1,97 @@
+package internity.benchmarks;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.logic.commands.ListCommand;
+import internity.storage.Storage;
+import internity.utils.InternityLogger;
+
+/**
+ * Measures the read-only queries of {@link InternshipList}.
+ *
+ * <p>
+ * The list is loaded through storage, as on start-up, so that every index is rebuilt
+ * exactly as the application builds it. Standard output is discarded while the queries print.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InternshipListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int records;
+
+    private Path file;
+    private PrintStream standardOutput;
+
+    /**
+     * The keywords searched for, kept apart so that only the find benchmark runs once per keyword.
+     */
+    @State(Scope.Benchmark)
+    public static class Search {
+        @Param({"goo", "analyst", "jane street 42"})
+        public String keyword;
+    }
+
+    /**
+     * Loads the fixture list and silences standard output.
+     *
+     * @throws InternityException if the fixture file cannot be loaded
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InternityException {
+        InternityLogger.getLogger();
+        file = Fixtures.writeStorageFile(records);
+        InternshipList.setStorage(new Storage(file.toString()));
+        InternshipList.loadFromStorage();
+        standardOutput = Fixtures.silenceStandardOutput();
+    }
+
+    /**
+     * Restores standard output and deletes the fixture file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(standardOutput);
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+        Fixtures.delete(file);
+    }
+
+    @Benchmark
+    public void findInternship(Search search) {
+        InternshipList.findInternship(search.keyword);
+    }
+
+    @Benchmark
+    public void listAll() throws InternityException {
+        InternshipList.listAll(ListCommand.OrderType.DEFAULT);
+    }
+
+    @Benchmark
+    public void listAll_sortedByDeadline() throws InternityException {
+        InternshipList.listAll(ListCommand.OrderType.DESCENDING);
+    }
+
+    @Benchmark
+    public AbstractMap.SimpleEntry<Internship, Integer> findNearestDeadlineInternship() throws InternityException {
+        return InternshipList.findNearestDeadlineInternship();
+    }
+}
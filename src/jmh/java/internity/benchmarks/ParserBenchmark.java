@@ -0,0 +1,84 @@
+package internity.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.InternshipList;
+import internity.logic.cli.ArgumentParser;
+import internity.logic.cli.CommandParser;
+import internity.logic.commands.AddCommand;
+import internity.logic.commands.Command;
+import internity.utils.DateFormatter;
+import internity.utils.InternityLogger;
+
+/**
+ * Measures parsing of user input into commands.
+ *
+ * <p>
+ * The list size matters because parsing an update validates the index against the list.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final String ADD_ARGS = "company/Google role/Software Engineer deadline/15-06-2026 pay/5000";
+    private static final String ADD_INPUT = "add " + ADD_ARGS;
+
+    @Param({"1000", "100000", "1000000"})
+    public int records;
+
+    private final CommandParser commandParser = new CommandParser();
+    private String updateArgs;
+
+    /**
+     * Fills the list so that update indexes near its end are valid.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        InternityLogger.getLogger();
+        InternshipList.clear();
+        Fixtures.generate(records).forEach(InternshipList::add);
+        updateArgs = records + " status/Applied pay/6000 deadline/01-07-2026";
+    }
+
+    /**
+     * Empties the list after the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        InternshipList.clear();
+    }
+
+    @Benchmark
+    public Command parseInput_add() throws InternityException {
+        return commandParser.parseInput(ADD_INPUT);
+    }
+
+    @Benchmark
+    public AddCommand parseAddCommandArgs() throws InternityException {
+        return ArgumentParser.parseAddCommandArgs(ADD_ARGS);
+    }
+
+    @Benchmark
+    public Command parseUpdateCommandArgs() throws InternityException {
+        return ArgumentParser.parseUpdateCommandArgs(updateArgs);
+    }
+
+    @Benchmark
+    public Date parseDate() throws InternityException {
+        return DateFormatter.parse("15-06-2026");
+    }
+}
@@ -0,0 +1,66 @@
+package internity.benchmarks;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.storage.Storage;
+import internity.utils.InternityLogger;
+
+/**
+ * Measures loading and saving a text storage file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int records;
+
+    private Path file;
+    private Storage storage;
+    private ArrayList<Internship> internships;
+
+    /**
+     * Writes the fixture file and keeps its records in memory for the save benchmark.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        InternityLogger.getLogger();
+        file = Fixtures.writeStorageFile(records);
+        storage = new Storage(file.toString());
+        internships = Fixtures.generate(records);
+    }
+
+    /**
+     * Deletes the fixture file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        storage.close();
+        Fixtures.delete(file);
+    }
+
+    @Benchmark
+    public ArrayList<Internship> load() throws InternityException {
+        return storage.load();
+    }
+
+    @Benchmark
+    public void save() throws InternityException {
+        storage.save(internships);
+    }
+}
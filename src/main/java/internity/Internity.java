@@ -1,8 +1,21 @@
 package internity;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import internity.core.InternityManager;
+import internity.storage.BackgroundStorage;
+import internity.storage.Durability;
+import internity.storage.IncrementalStorage;
+import internity.storage.JournaledStorage;
+import internity.storage.SnapshotFormat;
+import internity.storage.Storage;
+import internity.ui.Ui;
 import internity.utils.InternityLogger;
 
 /**
@@ -19,6 +32,46 @@ public class Internity {
      */
     private static final String DEFAULT_STORAGE_PATH = "./data/internships.txt";
 
+    /**
+     * Command-line flag that enables the append-only journal storage mode.
+     */
+    private static final String FLAG_JOURNAL = "--journal";
+
+    /**
+     * Command-line flag that rewrites only the changed records of the text data file on each save.
+     */
+    private static final String FLAG_INCREMENTAL = "--incremental";
+
+    /**
+     * Command-line flag that saves the data file in the compact binary snapshot format.
+     */
+    private static final String FLAG_BINARY = "--binary";
+
+    /**
+     * Command-line option that sets when saved data is synced to the disk.
+     */
+    private static final String FLAG_DURABILITY = "--durability";
+
+    /**
+     * Command-line option that runs the commands in the given file in batch mode.
+     */
+    private static final String FLAG_SCRIPT = "--script";
+
+    /**
+     * Command-line flag that runs the commands read from standard input in batch mode.
+     */
+    private static final String FLAG_BATCH = "--batch";
+
+    /**
+     * Command-line option that saves after the given number of modifying commands in batch mode.
+     */
+    private static final String FLAG_SAVE_EVERY = "--save-every";
+
+    /**
+     * Command-line flag that writes console output line by line instead of in large blocks.
+     */
+    private static final String FLAG_PLAIN = "--plain";
+
     /**
      * Initializes the Internity system by creating an {@link InternityManager}
      * instance and starting it.
@@ -27,21 +80,142 @@ public class Internity {
      * </p>
      */
     public static void initInternity() {
+        initInternity(new String[0]);
+    }
+
+    /**
+     * Initializes the Internity system with the given command-line options.
+     * <p>
+     * In interactive mode, saves are written to disk on a background thread by {@link BackgroundStorage};
+     * batch mode saves synchronously, since no prompt waits on it.
+     * </p>
+     * <p>
+     * Supported options:
+     * <ul>
+     *     <li>{@code --journal} - append changes to a journal instead of rewriting the data file
+     *         after every command</li>
+     *     <li>{@code --incremental} - patch only the changed records of the text data file in place
+     *         instead of rewriting it after every command; ignored with {@code --journal} or {@code --binary}</li>
+     *     <li>{@code --binary} - save the data file in the compact binary format instead of text;
+     *         a data file in either format is read</li>
+     *     <li>{@code --durability MODE} - when saved data is synced to the disk: {@code none}, {@code on-exit}
+     *         (the default), {@code every-N-ms} to group the syncs of all saves made within {@code N}
+     *         milliseconds, or {@code every-write}</li>
+     *     <li>{@code --script FILE} - run the commands in {@code FILE} in batch mode and exit</li>
+     *     <li>{@code --batch} - run the commands read from standard input in batch mode and exit</li>
+     *     <li>{@code --save-every N} - in batch mode, also save after every {@code N} modifying commands
+     *         instead of only at the end</li>
+     *     <li>{@code --plain} - write console output line by line instead of in large blocks,
+     *         as used by the text UI test</li>
+     * </ul>
+     * </p>
+     *
+     * @param args the command-line options
+     */
+    public static void initInternity(String[] args) {
         Logger logger = InternityLogger.getLogger();
         logger.info("Internity starting...");
 
-        InternityManager manager = new InternityManager(DEFAULT_STORAGE_PATH);
-        manager.start();
+        boolean isJournaled = false;
+        boolean isIncremental = false;
+        SnapshotFormat format = SnapshotFormat.TEXT;
+        Durability durability = Durability.ON_EXIT;
+        boolean isBatch = false;
+        String scriptPath = null;
+        int saveInterval = 0;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals(FLAG_JOURNAL)) {
+                isJournaled = true;
+            } else if (arg.equals(FLAG_INCREMENTAL)) {
+                isIncremental = true;
+            } else if (arg.equals(FLAG_BINARY)) {
+                format = SnapshotFormat.BINARY;
+            } else if (arg.equals(FLAG_DURABILITY) && i + 1 < args.length) {
+                durability = parseDurability(args[++i], durability, logger);
+            } else if (arg.equals(FLAG_PLAIN)) {
+                Ui.setPlainOutput(true);
+            } else if (arg.equals(FLAG_BATCH)) {
+                isBatch = true;
+            } else if (arg.equals(FLAG_SCRIPT) && i + 1 < args.length) {
+                isBatch = true;
+                scriptPath = args[++i];
+            } else if (arg.equals(FLAG_SAVE_EVERY) && i + 1 < args.length) {
+                saveInterval = parseSaveInterval(args[++i], logger);
+            } else {
+                logger.warning("Ignoring unknown option: " + arg);
+            }
+        }
+
+        Storage storage;
+        if (isJournaled) {
+            storage = new JournaledStorage(DEFAULT_STORAGE_PATH, JournaledStorage.DEFAULT_COMPACTION_THRESHOLD,
+                    format, durability);
+        } else if (isIncremental && format == SnapshotFormat.TEXT) {
+            storage = new IncrementalStorage(DEFAULT_STORAGE_PATH, durability);
+        } else {
+            storage = new Storage(DEFAULT_STORAGE_PATH, format, durability);
+        }
+        if (!isBatch) {
+            // Write in the background so the prompt never waits for the disk
+            new InternityManager(new BackgroundStorage(storage)).start();
+            return;
+        }
+
+        InternityManager manager = new InternityManager(storage);
+
+        try (BufferedReader reader = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : Files.newBufferedReader(Path.of(scriptPath))) {
+            manager.startBatch(reader, saveInterval);
+        } catch (NoSuchFileException e) {
+            System.out.println("Script file not found: " + scriptPath);
+        } catch (IOException e) {
+            System.out.println("Could not read script " + scriptPath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the value of the {@code --save-every} option, falling back to saving only at the end.
+     *
+     * @param value the option value
+     * @param logger the logger to warn on if the value is invalid
+     * @return the number of modifying commands between saves, or {@code 0} to save only at the end
+     */
+    private static int parseSaveInterval(String value, Logger logger) {
+        try {
+            return Math.max(0, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            logger.warning("Ignoring invalid save interval: " + value);
+            return 0;
+        }
+    }
+
+    /**
+     * Parses the value of the {@code --durability} option, falling back to the default policy.
+     *
+     * @param value the option value
+     * @param defaultDurability the policy to use if the value is invalid
+     * @param logger the logger to warn on if the value is invalid
+     * @return the durability policy
+     */
+    private static Durability parseDurability(String value, Durability defaultDurability, Logger logger) {
+        Durability durability = Durability.parse(value);
+        if (durability == null) {
+            logger.warning("Ignoring invalid durability: " + value);
+            return defaultDurability;
+        }
+        return durability;
     }
 
     /**
      * The main entry point for the <b>Internity</b> application.
      * <p>
      * This method serves as the program launcher and delegates initialization
-     * to {@link #initInternity()}.
+     * to {@link #initInternity(String[])}.
      * </p>
      */
     public static void main(String[] args) {
-        initInternity();
+        initInternity(args);
     }
 }
@@ -1,27 +1,33 @@
 package internity.core;
 
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.time.ZoneId;
 
 /**
  * Represents a simple calendar date consisting of a day, month and year.
  *
  * <p>
- * The {@code Date} class encapsulates a specific day in the calendar and provides
- * methods to access and modify the day, month, and year. It also implements
- * {@link Comparable} to allow chronological comparison between {@code Date} objects.
+ * A {@code Date} is an immutable value stored as a single epoch-day number (days since 01-01-1970),
+ * so comparing two dates is one subtraction. The day, month and year are derived from it on demand.
+ * It implements {@link Comparable} to allow chronological comparison between {@code Date} objects.
  * </p>
  *
  */
-public class Date implements Comparable<Date> {
-    private int day;
-    private int month;
-    private int year;
+public final class Date implements Comparable<Date> {
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int DAYS_FROM_YEAR_ZERO_TO_EPOCH = 719468;
+
+    private static volatile Date cachedToday;
+    private static volatile long cachedTodayExpiryMillis;
+
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date} object with the specified day, month, and year.
      *
      * <p>
-     * The constructor initialises the date fields using the respective setter methods.
+     * The values are expected to form a valid calendar date, as checked by
+     * {@link internity.utils.DateFormatter}.
      * </p>
      *
      * @param day   the day of the month
@@ -29,45 +35,51 @@ public class Date implements Comparable<Date> {
      * @param year  the year
      */
     public Date(int day, int month, int year) {
-        setDay(day);
-        setMonth(month);
-        setYear(year);
+        this.epochDay = toEpochDay(day, month, year);
+    }
+
+    private Date(int epochDay) {
+        this.epochDay = epochDay;
     }
 
     /**
-     * Returns the month of this date.
+     * Returns the {@code Date} for the given number of days since 01-01-1970.
      *
-     * @return the month (1-12)
+     * @param epochDay the epoch day
+     * @return the date on that day
      */
-    public int getMonth() {
-        return month;
+    public static Date ofEpochDay(int epochDay) {
+        return new Date(epochDay);
     }
 
     /**
-     * Sets the month of this date.
+     * Returns the number of days from 01-01-1970 to this date.
      *
-     * @param month the month (1-12) to set
+     * @return the epoch day
      */
-    public void setMonth(int month) {
-        this.month = month;
+    public int toEpochDay() {
+        return epochDay;
     }
 
     /**
-     * Returns the day of this date.
+     * Returns the month of this date.
      *
-     * @return the day of the month
+     * @return the month (1-12)
      */
-    public int getDay() {
-        return day;
+    public int getMonth() {
+        int shiftedMonth = (5 * dayOfYear(dayOfEra()) + 2) / 153;
+        return shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
     }
 
     /**
-     * Sets the day of this date.
+     * Returns the day of this date.
      *
-     * @param day the day of the month to set
+     * @return the day of the month
      */
-    public void setDay(int day) {
-        this.day = day;
+    public int getDay() {
+        int dayOfYear = dayOfYear(dayOfEra());
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        return dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
     }
 
     /**
@@ -76,40 +88,50 @@ public class Date implements Comparable<Date> {
      * @return the year
      */
     public int getYear() {
-        return year;
-    }
-
-    /**
-     * Sets the year of this date.
-     *
-     * @param year the year to set
-     */
-    public void setYear(int year) {
-        this.year = year;
+        int dayOfEra = dayOfEra();
+        int yearOfEra = yearOfEra(dayOfEra);
+        int shiftedMonth = (5 * dayOfYear(dayOfEra) + 2) / 153;
+        int year = yearOfEra + era() * 400;
+        return shiftedMonth < 10 ? year : year + 1;
     }
 
     /**
      * Returns a {@code Date} object representing today's date.
      *
+     * <p>
+     * The date is cached until the next local midnight, so repeated calls do not query the calendar.
+     * </p>
+     *
      * @return a {@code Date} object set to the current day, month, and year
      */
     public static Date getToday() {
-        Calendar cal = Calendar.getInstance();
-        int day = cal.get(Calendar.DAY_OF_MONTH);
-        int month = cal.get(Calendar.MONTH) + 1; // Calendar.MONTH is 0-based
-        int year = cal.get(Calendar.YEAR);
-        return new Date(day, month, year);
+        long now = System.currentTimeMillis();
+        Date today = cachedToday;
+        if (today != null && now < cachedTodayExpiryMillis) {
+            return today;
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate localToday = LocalDate.now(zone);
+        today = new Date((int) localToday.toEpochDay());
+        cachedTodayExpiryMillis = localToday.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        cachedToday = today;
+        return today;
     }
 
     @Override
     public int compareTo(Date other) {
-        if (this.year != other.year) {
-            return this.year - other.year;
-        }
-        if (this.month != other.month) {
-            return this.month - other.month;
-        }
-        return this.day - other.day;
+        return this.epochDay - other.epochDay;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Date && ((Date) other).epochDay == epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return epochDay;
     }
 
     /**
@@ -125,6 +147,53 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public String toString() {
-        return String.format("%02d-%02d-%04d", day, month, year);
+        int day = getDay();
+        int month = getMonth();
+        int year = getYear();
+        if (year < 0 || year > 9999) {
+            return String.format("%02d-%02d-%04d", day, month, year);
+        }
+
+        char[] text = {
+            digit(day / 10), digit(day % 10), '-',
+            digit(month / 10), digit(month % 10), '-',
+            digit(year / 1000), digit(year / 100 % 10), digit(year / 10 % 10), digit(year % 10)
+        };
+        return new String(text);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+
+    /**
+     * Converts a civil date to an epoch day, counting years from March so that
+     * the leap day falls at the end of the year.
+     */
+    private static int toEpochDay(int day, int month, int year) {
+        int shiftedYear = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(shiftedYear, 400);
+        int yearOfEra = shiftedYear - era * 400;
+        int shiftedMonth = month > 2 ? month - 3 : month + 9;
+        int dayOfYear = (153 * shiftedMonth + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_FROM_YEAR_ZERO_TO_EPOCH;
+    }
+
+    private int era() {
+        return Math.floorDiv(epochDay + DAYS_FROM_YEAR_ZERO_TO_EPOCH, DAYS_PER_ERA);
+    }
+
+    private int dayOfEra() {
+        return epochDay + DAYS_FROM_YEAR_ZERO_TO_EPOCH - era() * DAYS_PER_ERA;
+    }
+
+    private static int yearOfEra(int dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    private static int dayOfYear(int dayOfEra) {
+        int yearOfEra = yearOfEra(dayOfEra);
+        return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
     }
 }
@@ -0,0 +1,67 @@
+package internity.core;
+
+/**
+ * Keeps the positions of the {@link InternshipList} sorted by deadline, so that sorted listing
+ * is a walk over an array instead of a sort on every call.
+ *
+ * <p>
+ * Deadlines are keyed by their epoch day; a missing deadline sorts first. Walking in descending
+ * order visits later deadlines first but keeps internships with the same deadline in list order,
+ * matching a stable sort with a reversed comparator.
+ * </p>
+ */
+class DeadlineIndex extends SortedIndex {
+
+    /**
+     * Creates an index over the given columns. The index must be told about every change to them.
+     *
+     * @param columns the columns whose positions are indexed
+     */
+    DeadlineIndex(InternshipColumns columns) {
+        super(columns, columns::deadline);
+    }
+
+    /**
+     * Moves the internship at the given position after its deadline changed.
+     *
+     * @param position the zero-based position of the updated internship
+     * @param oldDeadline the deadline before the update
+     */
+    void updateDeadline(int position, Date oldDeadline) {
+        update(position, keyOf(oldDeadline));
+    }
+
+    /**
+     * Finds the internships with the deadline nearest to the given day: the earliest deadline
+     * on or after it, or the latest deadline if every deadline is before it.
+     *
+     * @param today the day to measure from
+     * @return the ranks {@code [first, end)} of the internships with that deadline in list order,
+     *         or an empty range if the index is empty
+     */
+    int[] findNearest(Date today) {
+        if (size() == 0) {
+            return new int[] {0, 0};
+        }
+        int[] upcoming = findRange(keyOf(today), Integer.MAX_VALUE);
+        int first = upcoming[0] < upcoming[1] ? upcoming[0] : size() - 1;
+        return findRange(keyAt(first), keyAt(first));
+    }
+
+    /**
+     * Finds the internships whose deadline lies between the given days, inclusive.
+     *
+     * @param from the earliest deadline to include, or {@code null} for no lower bound
+     * @param to the latest deadline to include, or {@code null} for no upper bound
+     * @return the ranks {@code [first, end)} of those internships
+     */
+    int[] findBetween(Date from, Date to) {
+        int low = from == null ? MISSING_KEY + 1 : keyOf(from);
+        int high = to == null ? Integer.MAX_VALUE : keyOf(to);
+        return findRange(low, high);
+    }
+
+    static int keyOf(Date deadline) {
+        return deadline == null ? MISSING_KEY : deadline.toEpochDay();
+    }
+}
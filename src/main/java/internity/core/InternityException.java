@@ -66,7 +66,7 @@ public class InternityException extends Exception {
      * @return an {@code InternityException} for an invalid delete command format
      */
     public static InternityException invalidDeleteCommand() {
-        return new InternityException("Invalid delete command.\nUsage: delete INDEX");
+        return new InternityException("Invalid delete command.\nUsage: delete INDEX or delete id/ID");
     }
 
     /**
@@ -78,6 +78,16 @@ public class InternityException extends Exception {
         return new InternityException("Invalid find command.\nUsage: find KEYWORD");
     }
 
+    /**
+     * Returns an exception indicating that the filter command format is invalid.
+     *
+     * @return an {@code InternityException} for an invalid filter command format
+     */
+    public static InternityException invalidFilterCommand() {
+        return new InternityException("Invalid filter command.\n"
+                + "Usage: filter [status/STATUS] [minpay/PAY] [maxpay/PAY] [from/DATE] [to/DATE] [due/DAYS]");
+    }
+
     /**
      * Returns an exception indicating that the specified internship index is invalid.
      *
@@ -87,13 +97,46 @@ public class InternityException extends Exception {
         return new InternityException("Invalid internship index.");
     }
 
+    /**
+     * Returns an exception indicating that a list of indices and index ranges is malformed.
+     *
+     * @param selection the selection as entered by the user
+     * @return an {@code InternityException} for an invalid index selection
+     */
+    public static InternityException invalidIndexSelection(String selection) {
+        return new InternityException("Invalid index selection: " + selection + "\n"
+                + "Use indices and ranges within the list, for example: 3-40,57");
+    }
+
+    /**
+     * Returns an exception indicating that several IDs or a range of IDs were given where one ID is expected.
+     *
+     * @param token the {@code id/} token as entered by the user
+     * @return an {@code InternityException} for an ID list or range
+     */
+    public static InternityException invalidIdSelection(String token) {
+        return new InternityException("IDs cannot be ranges or lists: " + token + "\n"
+                + "Give a single ID such as id/3, or select by index, for example: 3-40,57");
+    }
+
+    /**
+     * Returns an exception indicating that no internship has the specified ID.
+     *
+     * @param id the ID that was not found
+     * @return an {@code InternityException} for an unknown internship ID
+     */
+    public static InternityException unknownInternshipId(long id) {
+        return new InternityException("No internship with ID " + id + ".");
+    }
+
     /**
      * Returns an exception indicating that the list command format is invalid.
      *
      * @return an {@code InternityException} for an invalid list command format
      */
     public static InternityException invalidListCommand() {
-        return new InternityException("Invalid list command.\nUsage: list [sort/asc|sort/desc]");
+        return new InternityException("Invalid list command.\n"
+                + "Usage: list [sort/asc|sort/desc] [limit/LIMIT] [page/PAGE]");
     }
 
     /**
@@ -1,5 +1,11 @@
 package internity.core;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 import java.util.logging.Logger;
 
@@ -25,6 +31,7 @@ public class InternityManager {
     private static final Logger logger = Logger.getLogger(InternityManager.class.getName());
     private final Scanner scanner;
     private final CommandParser commandParser;
+    private final Storage storage;
 
     /**
      * Constructs a new {@code InternityManager} instance.
@@ -32,8 +39,17 @@ public class InternityManager {
      * @param storagePath the path to the file or directory used for storing internship data
      */
     public InternityManager(String storagePath) {
+        this(new Storage(storagePath));
+    }
+
+    /**
+     * Constructs a new {@code InternityManager} instance backed by the given storage.
+     *
+     * @param storage the storage used for loading and saving internship data
+     */
+    public InternityManager(Storage storage) {
         scanner = new Scanner(System.in);
-        Storage storage = new Storage(storagePath);
+        this.storage = storage;
         InternshipList.setStorage(storage);
         commandParser = new CommandParser();
     }
@@ -44,14 +60,17 @@ public class InternityManager {
      * This method performs the following tasks in sequence:
      * <ol>
      *     <li>Redirects error output to standard output for ordered display.</li>
-     *     <li>Loads saved internship data from storage.</li>
+     *     <li>Reads the saved username and starts loading the internships in the background.</li>
      *     <li>Prints the welcome message and configures the username if necessary.</li>
      *     <li>Begins the main command loop, processing user input until an exit command is issued.</li>
      * </ol>
+     * Commands that use the internships wait until they are loaded, while {@code help} and {@code username}
+     * run at once. Saves are skipped until the load is done, so a username set meanwhile is saved with
+     * the first save after it.
      */
     public void start() {
         System.setErr(System.out);
-        loadData();
+        loadDataInBackground();
         Ui.printWelcomeMessage();
         configureUsername();
         Ui.printHorizontalLine();
@@ -64,13 +83,106 @@ public class InternityManager {
                 Command command = commandParser.parseInput(input);
                 command.execute();
                 isExit = command.isExit();
-                saveData(); // auto-save after each command
+                if (command.isMutating() && InternshipList.isLoaded()) {
+                    saveData(); // read-only commands never touch storage
+                }
             } catch (Exception e) {
                 System.out.println(e.getMessage());
             }
             Ui.printHorizontalLine();
         }
+        saveData(); // persist anything not yet saved, e.g. a username entered at startup
+        flushData();
         scanner.close();
+        storage.close();
+    }
+
+    /**
+     * Runs the commands read from the given reader without user interaction.
+     * <p>
+     * Batch mode is meant for bulk imports, so it differs from {@link #start()} as follows:
+     * <ul>
+     *     <li>No welcome message, username prompt or horizontal lines are printed.</li>
+     *     <li>The output of each command is discarded; failing commands are reported by line number
+     *         in a summary printed at the end.</li>
+     *     <li>Blank lines are skipped, and an exit command stops the batch early.</li>
+     *     <li>Storage is written once at the end, or additionally after every {@code saveInterval}
+     *         modifying commands if {@code saveInterval} is positive.</li>
+     *     <li>The number and latency of the storage writes and syncs are printed with the summary.</li>
+     * </ul>
+     *
+     * @param reader the source of commands, one per line
+     * @param saveInterval the number of modifying commands between saves, or {@code 0} to save only at the end
+     */
+    public void startBatch(BufferedReader reader, int saveInterval) {
+        assert saveInterval >= 0 : "Save interval must not be negative";
+        loadData();
+
+        long startTime = System.nanoTime();
+        List<String> errors = new ArrayList<>();
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failedCount = 0;
+        int saveCount = 0;
+        int unsavedCount = 0;
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            boolean isExit = false;
+            String input;
+            while (!isExit && (input = reader.readLine()) != null) {
+                lineNumber++;
+                if (input.isBlank()) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    Command command = commandParser.parseInput(input);
+                    command.execute();
+                    isExit = command.isExit();
+                    if (command.isMutating()) {
+                        unsavedCount++;
+                    }
+                } catch (Exception e) {
+                    failedCount++;
+                    errors.add("Line " + lineNumber + ": " + e.getMessage());
+                }
+                if (saveInterval > 0 && unsavedCount >= saveInterval) {
+                    saveCount += saveBatch(lineNumber, errors) ? 1 : 0;
+                    unsavedCount = 0;
+                }
+            }
+        } catch (IOException e) {
+            errors.add("Line " + (lineNumber + 1) + ": Could not read command. " + e.getMessage());
+        } finally {
+            System.setOut(console);
+        }
+
+        if (InternshipList.hasUnsavedChanges()) {
+            saveCount += saveBatch(lineNumber, errors) ? 1 : 0;
+        }
+        storage.close();
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        Ui.printBatchSummary(commandCount, failedCount, saveCount, InternshipList.size(), elapsedMillis);
+        Ui.printWriteMetrics(storage.getDurability().toString(), storage.getWriteMetrics().toString());
+        errors.forEach(System.out::println);
+    }
+
+    /**
+     * Saves the internship data during a batch, recording a failure against the current line.
+     *
+     * @return {@code true} if the data was saved
+     */
+    private boolean saveBatch(int lineNumber, List<String> errors) {
+        try {
+            InternshipList.saveToStorage();
+            return true;
+        } catch (Exception e) {
+            errors.add("Line " + lineNumber + ": Could not save data to storage. " + e.getMessage());
+            return false;
+        }
     }
 
     /**
@@ -83,22 +195,47 @@ public class InternityManager {
         try {
             InternshipList.loadFromStorage();
         } catch (Exception e) {
-            System.out.println("Warning: Could not load data from storage. Starting with empty list.");
-            System.out.println("Error: " + e.getMessage());
+            Ui.printLoadWarning(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the saved username and loads the internships on a background thread.
+     * <p>
+     * Displays a warning message if the username cannot be read; the internships are then not loaded.
+     */
+    private void loadDataInBackground() {
+        try {
+            InternshipList.loadFromStorageInBackground();
+        } catch (Exception e) {
+            Ui.printLoadWarning(e.getMessage());
         }
     }
 
     /**
      * Saves the current internship data to persistent storage.
      * <p>
+     * Nothing is written if the data has not changed since the last save.
      * Displays a warning message if saving fails.
      */
     private void saveData() {
         try {
             InternshipList.saveToStorage();
         } catch (Exception e) {
-            System.out.println("Warning: Could not save data to storage.");
-            System.out.println("Error: " + e.getMessage());
+            Ui.printSaveWarning(e.getMessage());
+        }
+    }
+
+    /**
+     * Waits until every save has been written to persistent storage.
+     * <p>
+     * Displays a warning message if a save could not be written.
+     */
+    private void flushData() {
+        try {
+            InternshipList.flushStorage();
+        } catch (Exception e) {
+            Ui.printSaveWarning(e.getMessage());
         }
     }
 
@@ -1,7 +1,5 @@
 package internity.core;
 
-import java.util.Set;
-
 // @@author {V1T0bh}
 /**
  * Represents an internship entry in the Internity application.
@@ -18,20 +16,23 @@ import java.util.Set;
  * </p>
  *
  * <p>
- * Valid statuses include:
+ * The company and role are kept as {@link TextDictionary} codes, so internships with the same
+ * company or role share a single String.
+ * </p>
+ *
+ * <p>
+ * The status is kept as the byte ordinal of its {@link Status}. Valid statuses include:
  * {@code "Pending"}, {@code "Interested"}, {@code "Applied"},
  * {@code "Interviewing"}, {@code "Offer"}, {@code "Accepted"}, and {@code "Rejected"}.
  * </p>
  */
 public class Internship implements Comparable<Internship> {
-    private static final Set<String> VALID_STATUSES = Set.of(
-            "Pending", "Interested", "Applied", "Interviewing", "Offer", "Accepted", "Rejected"
-    );
-    private String company;
-    private String role;
+    private int companyCode;
+    private int roleCode;
     private Date deadline;
     private int pay;
-    private String status;
+    private byte statusOrdinal;
+    private long id;
 
     /**
      * Constructs a new {@code Internship} with the given details.
@@ -45,11 +46,48 @@ public class Internship implements Comparable<Internship> {
      * @param pay      the pay for the internship
      */
     public Internship(String company, String role, Date deadline, int pay) {
-        this.company = company;
-        this.role = role;
+        this(TextDictionary.codeOf(company), TextDictionary.codeOf(role), deadline, pay);
+    }
+
+    private Internship(int companyCode, int roleCode, Date deadline, int pay) {
+        this.companyCode = companyCode;
+        this.roleCode = roleCode;
         this.deadline = deadline;
         this.pay = pay;
-        this.status = "Pending";
+        this.statusOrdinal = (byte) Status.PENDING.ordinal();
+    }
+
+    /**
+     * Creates an internship whose company and role are given as {@link TextDictionary} codes,
+     * as looked up by the storage loaders.
+     *
+     * @param companyCode the code of the company name
+     * @param roleCode    the code of the role
+     * @param deadline    the application deadline
+     * @param pay         the pay for the internship
+     * @return the new internship with status {@code "Pending"}
+     */
+    public static Internship ofCodes(int companyCode, int roleCode, Date deadline, int pay) {
+        return new Internship(companyCode, roleCode, deadline, pay);
+    }
+
+    /**
+     * Returns the stable ID of this internship, which does not change when other internships are
+     * added or deleted and is kept in storage.
+     *
+     * @return the ID, or {@code 0} if the internship was never added to the {@link InternshipList}
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the stable ID of this internship. IDs are assigned by {@link InternshipList} and read back by storage.
+     *
+     * @param id the positive ID
+     */
+    public void setId(long id) {
+        this.id = id;
     }
 
     /**
@@ -58,7 +96,16 @@ public class Internship implements Comparable<Internship> {
      * @return the company name
      */
     public String getCompany() {
-        return company;
+        return TextDictionary.textOf(companyCode);
+    }
+
+    /**
+     * Returns the {@link TextDictionary} code of the company offering this internship.
+     *
+     * @return the company code
+     */
+    public int getCompanyCode() {
+        return companyCode;
     }
 
     /**
@@ -67,7 +114,7 @@ public class Internship implements Comparable<Internship> {
      * @param company the new company name
      */
     public void setCompany(String company) {
-        this.company = company;
+        this.companyCode = TextDictionary.codeOf(company);
     }
 
     /**
@@ -76,7 +123,16 @@ public class Internship implements Comparable<Internship> {
      * @return the internship role
      */
     public String getRole() {
-        return role;
+        return TextDictionary.textOf(roleCode);
+    }
+
+    /**
+     * Returns the {@link TextDictionary} code of the role for this internship.
+     *
+     * @return the role code
+     */
+    public int getRoleCode() {
+        return roleCode;
     }
 
     /**
@@ -85,7 +141,7 @@ public class Internship implements Comparable<Internship> {
      * @param role the new role
      */
     public void setRole(String role) {
-        this.role = role;
+        this.roleCode = TextDictionary.codeOf(role);
     }
 
     /**
@@ -127,19 +183,48 @@ public class Internship implements Comparable<Internship> {
     /**
      * Returns the current application status.
      *
-     * @return the current status string
+     * @return the Title Case name of the current status
      */
     public String getStatus() {
-        return status;
+        return getStatusValue().getDisplayName();
+    }
+
+    /**
+     * Returns the current application status.
+     *
+     * @return the current status
+     */
+    public Status getStatusValue() {
+        return Status.ofOrdinal(statusOrdinal);
+    }
+
+    /**
+     * Returns the ordinal of the current application status, for indexing arrays by status.
+     *
+     * @return the ordinal of the current status
+     */
+    public int getStatusOrdinal() {
+        return statusOrdinal;
+    }
+
+    /**
+     * Updates the application status for this internship.
+     *
+     * @param status the new status
+     */
+    public void setStatus(Status status) {
+        assert status != null : "Status cannot be null";
+        this.statusOrdinal = (byte) status.ordinal();
     }
 
     /**
      * Updates the application status for this internship.
      *
-     * @param status the new status value
+     * @param status the new status value, in any case
+     * @throws IllegalArgumentException if the value is not a valid status
      */
     public void setStatus(String status) {
-        this.status = status;
+        setStatus(Status.parse(status));
     }
 
     /**
@@ -165,12 +250,14 @@ public class Internship implements Comparable<Internship> {
      * @return true if the status is valid, false otherwise.
      */
     public static boolean isValidStatus(String status) {
-        return status != null && VALID_STATUSES.contains(status);
+        Status value = Status.fromString(status);
+        return value != null && value.getDisplayName().equals(status);
     }
 
     @Override
     public String toString() {
-        return "  Company: " + getCompany()
+        String idLine = id > 0 ? "  ID: " + id + "\n" : "";
+        return idLine + "  Company: " + getCompany()
                 + "\n  Role: " + getRole()
                 + "\n  Deadline: " + getDeadline()
                 + "\n  Pay: " + getPay()
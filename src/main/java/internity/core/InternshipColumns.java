@@ -0,0 +1,198 @@
+package internity.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the scanned fields of every internship in the {@link InternshipList} as parallel primitive arrays.
+ *
+ * <p>
+ * Position {@code i} of each column holds a field of the internship at position {@code i} of the list:
+ * the deadline as an epoch day, the pay, the {@link Status} ordinal, and the {@link TextDictionary}
+ * codes of the company and role. Sorting, filtering and counting read these arrays front to back
+ * instead of following each {@link Internship} to its fields, so a scan touches a few contiguous
+ * arrays rather than one heap object and one {@link Date} per internship.
+ * </p>
+ *
+ * <p>
+ * The {@link Internship} objects stay the values handed out by {@link InternshipList#get(int)} and
+ * passed to storage, and the columns must be told about every change to them. A missing internship
+ * is stored with status {@link #NO_STATUS} and {@link SortedIndex#MISSING_KEY} as deadline and pay.
+ * </p>
+ */
+class InternshipColumns {
+    /** Status column value of a missing internship. */
+    static final byte NO_STATUS = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] deadlines = new int[INITIAL_CAPACITY];
+    private int[] pays = new int[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private int[] companyCodes = new int[INITIAL_CAPACITY];
+    private int[] roleCodes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Replaces every column with the fields of the given internships.
+     *
+     * @param internships the internships in list order
+     */
+    void rebuild(List<Internship> internships) {
+        int capacity = Math.max(INITIAL_CAPACITY, internships.size());
+        deadlines = new int[capacity];
+        pays = new int[capacity];
+        statuses = new byte[capacity];
+        companyCodes = new int[capacity];
+        roleCodes = new int[capacity];
+        size = internships.size();
+        for (int i = 0; i < size; i++) {
+            set(i, internships.get(i));
+        }
+    }
+
+    /**
+     * Removes every internship from the columns.
+     */
+    void clear() {
+        rebuild(List.of());
+    }
+
+    /**
+     * Appends the fields of an internship added to the end of the list.
+     *
+     * @param internship the added internship, may be {@code null}
+     */
+    void add(Internship internship) {
+        if (size == deadlines.length) {
+            int capacity = size * 2;
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            pays = Arrays.copyOf(pays, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            companyCodes = Arrays.copyOf(companyCodes, capacity);
+            roleCodes = Arrays.copyOf(roleCodes, capacity);
+        }
+        set(size++, internship);
+    }
+
+    /**
+     * Rewrites the fields at the given position after the internship there was updated.
+     *
+     * @param position the zero-based position of the internship
+     * @param internship the internship at that position, may be {@code null}
+     */
+    void set(int position, Internship internship) {
+        if (internship == null) {
+            deadlines[position] = SortedIndex.MISSING_KEY;
+            pays[position] = SortedIndex.MISSING_KEY;
+            statuses[position] = NO_STATUS;
+            companyCodes[position] = TextDictionary.NO_CODE;
+            roleCodes[position] = TextDictionary.NO_CODE;
+            return;
+        }
+        deadlines[position] = DeadlineIndex.keyOf(internship.getDeadline());
+        pays[position] = internship.getPay();
+        statuses[position] = (byte) internship.getStatusOrdinal();
+        companyCodes[position] = internship.getCompanyCode();
+        roleCodes[position] = internship.getRoleCode();
+    }
+
+    /**
+     * Removes the fields at the given position and moves every later position down by one.
+     *
+     * @param position the zero-based position of the removed internship
+     */
+    void remove(int position) {
+        int moved = size - position - 1;
+        System.arraycopy(deadlines, position + 1, deadlines, position, moved);
+        System.arraycopy(pays, position + 1, pays, position, moved);
+        System.arraycopy(statuses, position + 1, statuses, position, moved);
+        System.arraycopy(companyCodes, position + 1, companyCodes, position, moved);
+        System.arraycopy(roleCodes, position + 1, roleCodes, position, moved);
+        size--;
+    }
+
+    /**
+     * Returns the number of internships in the columns.
+     *
+     * @return the number of positions
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the deadline at the given position as an epoch day.
+     *
+     * @param position the zero-based position
+     * @return the epoch day, or {@link SortedIndex#MISSING_KEY} if there is no deadline
+     */
+    int deadline(int position) {
+        return deadlines[position];
+    }
+
+    /**
+     * Returns the pay at the given position.
+     *
+     * @param position the zero-based position
+     * @return the pay, or {@link SortedIndex#MISSING_KEY} for a missing internship
+     */
+    int pay(int position) {
+        return pays[position];
+    }
+
+    /**
+     * Returns the status ordinal at the given position.
+     *
+     * @param position the zero-based position
+     * @return the ordinal, or {@link #NO_STATUS} for a missing internship
+     */
+    int status(int position) {
+        return statuses[position];
+    }
+
+    /**
+     * Returns the sort key of the status at the given position, which is its ordinal.
+     *
+     * @param position the zero-based position
+     * @return the ordinal, or {@link SortedIndex#MISSING_KEY} for a missing internship
+     */
+    int statusKey(int position) {
+        int status = statuses[position];
+        return status == NO_STATUS ? SortedIndex.MISSING_KEY : status;
+    }
+
+    /**
+     * Returns the {@link TextDictionary} code of the company at the given position.
+     *
+     * @param position the zero-based position
+     * @return the company code
+     */
+    int companyCode(int position) {
+        return companyCodes[position];
+    }
+
+    /**
+     * Returns the {@link TextDictionary} code of the role at the given position.
+     *
+     * @param position the zero-based position
+     * @return the role code
+     */
+    int roleCode(int position) {
+        return roleCodes[position];
+    }
+
+    /**
+     * Counts the internships in each status with one pass over the status column.
+     *
+     * @param counts the array indexed by status ordinal to fill
+     */
+    void countStatuses(int[] counts) {
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] != NO_STATUS) {
+                counts[statuses[i]]++;
+            }
+        }
+    }
+}
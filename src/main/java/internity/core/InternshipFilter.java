@@ -0,0 +1,156 @@
+package internity.core;
+
+/**
+ * An immutable set of conditions on the fields of an {@link Internship}, used by the {@code filter} command.
+ *
+ * <p>
+ * A filter starts from {@link #all()}, which matches every internship, and is narrowed by the
+ * {@code with...} methods, each returning a new filter. An internship matches when it meets every
+ * condition. {@link InternshipList#filterInternships(InternshipFilter)} answers the most selective
+ * condition from an index and checks the rest only on its candidates.
+ * </p>
+ */
+public final class InternshipFilter {
+    private static final InternshipFilter ALL = new InternshipFilter(null, null, null, null, null);
+
+    private final Status status;
+    private final Integer minPay;
+    private final Integer maxPay;
+    private final Date deadlineFrom;
+    private final Date deadlineTo;
+
+    private InternshipFilter(Status status, Integer minPay, Integer maxPay, Date deadlineFrom, Date deadlineTo) {
+        this.status = status;
+        this.minPay = minPay;
+        this.maxPay = maxPay;
+        this.deadlineFrom = deadlineFrom;
+        this.deadlineTo = deadlineTo;
+    }
+
+    /**
+     * Returns the filter that matches every internship.
+     *
+     * @return a filter without conditions
+     */
+    public static InternshipFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a copy of this filter that also requires the given status.
+     *
+     * @param status the required status
+     * @return the narrowed filter
+     */
+    public InternshipFilter withStatus(Status status) {
+        return new InternshipFilter(status, minPay, maxPay, deadlineFrom, deadlineTo);
+    }
+
+    /**
+     * Returns a copy of this filter that also requires the pay to lie in the given range.
+     *
+     * @param minPay the smallest pay to include, or {@code null} for no lower bound
+     * @param maxPay the largest pay to include, or {@code null} for no upper bound
+     * @return the narrowed filter
+     */
+    public InternshipFilter withPayBetween(Integer minPay, Integer maxPay) {
+        return new InternshipFilter(status, minPay, maxPay, deadlineFrom, deadlineTo);
+    }
+
+    /**
+     * Returns a copy of this filter that also requires the deadline to lie in the given range.
+     *
+     * @param from the earliest deadline to include, or {@code null} for no lower bound
+     * @param to the latest deadline to include, or {@code null} for no upper bound
+     * @return the narrowed filter
+     */
+    public InternshipFilter withDeadlineBetween(Date from, Date to) {
+        return new InternshipFilter(status, minPay, maxPay, from, to);
+    }
+
+    Status getStatus() {
+        return status;
+    }
+
+    boolean hasPayRange() {
+        return minPay != null || maxPay != null;
+    }
+
+    int getMinPay() {
+        return minPay == null ? Integer.MIN_VALUE : minPay;
+    }
+
+    int getMaxPay() {
+        return maxPay == null ? Integer.MAX_VALUE : maxPay;
+    }
+
+    boolean hasDeadlineRange() {
+        return deadlineFrom != null || deadlineTo != null;
+    }
+
+    Date getDeadlineFrom() {
+        return deadlineFrom;
+    }
+
+    Date getDeadlineTo() {
+        return deadlineTo;
+    }
+
+    /**
+     * Returns whether the given internship meets every condition of this filter.
+     *
+     * @param internship the internship to test
+     * @return {@code true} if it matches
+     */
+    public boolean matches(Internship internship) {
+        if (internship == null) {
+            return false;
+        }
+        if (status != null && internship.getStatusOrdinal() != status.ordinal()) {
+            return false;
+        }
+        if (hasPayRange() && (internship.getPay() < getMinPay() || internship.getPay() > getMaxPay())) {
+            return false;
+        }
+        if (hasDeadlineRange()) {
+            Date deadline = internship.getDeadline();
+            if (deadline == null
+                    || deadlineFrom != null && deadline.compareTo(deadlineFrom) < 0
+                    || deadlineTo != null && deadline.compareTo(deadlineTo) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the internship at the given position meets every condition of this filter,
+     * reading only the columns of its fields.
+     *
+     * @param columns the columns of the internships in the list
+     * @param position the zero-based position of the internship to test
+     * @return {@code true} if it matches
+     */
+    boolean matches(InternshipColumns columns, int position) {
+        int statusOrdinal = columns.status(position);
+        if (statusOrdinal == InternshipColumns.NO_STATUS) {
+            return false;
+        }
+        if (status != null && statusOrdinal != status.ordinal()) {
+            return false;
+        }
+        int pay = columns.pay(position);
+        if (hasPayRange() && (pay < getMinPay() || pay > getMaxPay())) {
+            return false;
+        }
+        if (hasDeadlineRange()) {
+            int deadline = columns.deadline(position);
+            if (deadline == SortedIndex.MISSING_KEY
+                    || deadlineFrom != null && deadline < deadlineFrom.toEpochDay()
+                    || deadlineTo != null && deadline > deadlineTo.toEpochDay()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,205 @@
+package internity.core;
+
+import java.util.List;
+
+/**
+ * Maps the stable ID of every internship in the {@link InternshipList} to its position.
+ *
+ * <p>
+ * IDs and positions are kept in parallel primitive arrays addressed by open addressing with linear
+ * probing, so a lookup hashes the ID and reads a few array slots without boxing. Removal shifts the
+ * following entries of the probe run back instead of leaving tombstones.
+ * </p>
+ *
+ * <p>
+ * Deleting an internship moves every later internship down one position. Rather than rewriting all of
+ * their entries, the index only notes that positions are stale and recomputes them in one pass on the
+ * next lookup, so a lookup costs constant time unless an internship other than the last one was deleted
+ * since the previous lookup.
+ * </p>
+ */
+class InternshipIdIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = 0;
+
+    private final List<Internship> internships;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int size;
+    private boolean isStale;
+
+    /**
+     * Creates an index over the given list. The index must be told about every change to the list.
+     *
+     * @param internships the list whose IDs are indexed
+     */
+    InternshipIdIndex(List<Internship> internships) {
+        this.internships = internships;
+    }
+
+    /**
+     * Re-indexes every internship after the whole list was replaced.
+     */
+    void rebuild() {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < internships.size() * 2) {
+            capacity *= 2;
+        }
+        ids = new long[capacity];
+        positions = new int[capacity];
+        size = 0;
+        for (int i = 0; i < internships.size(); i++) {
+            Internship internship = internships.get(i);
+            if (internship != null && internship.getId() != EMPTY) {
+                put(internship.getId(), i);
+            }
+        }
+        isStale = false;
+    }
+
+    /**
+     * Removes every ID from the index.
+     */
+    void clear() {
+        ids = new long[INITIAL_CAPACITY];
+        positions = new int[INITIAL_CAPACITY];
+        size = 0;
+        isStale = false;
+    }
+
+    /**
+     * Returns whether an internship with the given ID is indexed.
+     *
+     * @param id the ID to look up
+     * @return {@code true} if the ID is in use
+     */
+    boolean contains(long id) {
+        return id != EMPTY && ids[slotOf(id)] == id;
+    }
+
+    /**
+     * Indexes the internship that was just appended to the end of the list.
+     */
+    void addLast() {
+        add(internships.size() - 1);
+    }
+
+    /**
+     * Indexes the internship at the given position, which must not be indexed yet.
+     *
+     * @param position the zero-based position of the internship
+     */
+    void add(int position) {
+        Internship internship = internships.get(position);
+        if (internship != null && internship.getId() != EMPTY) {
+            put(internship.getId(), position);
+        }
+    }
+
+    /**
+     * Removes the internship at the given position. Must be called before it is removed from the list.
+     *
+     * @param position the zero-based position of the internship about to be removed
+     */
+    void remove(int position) {
+        Internship internship = internships.get(position);
+        if (internship != null && internship.getId() != EMPTY) {
+            removeSlot(slotOf(internship.getId()));
+        }
+        if (position != internships.size() - 1) {
+            isStale = true;
+        }
+    }
+
+    /**
+     * Returns the current position of the internship with the given ID.
+     *
+     * @param id the ID to look up
+     * @return the zero-based position, or -1 if no internship has that ID
+     */
+    int positionOf(long id) {
+        if (id == EMPTY) {
+            return -1;
+        }
+        if (isStale) {
+            refreshPositions();
+        }
+        int slot = slotOf(id);
+        return ids[slot] == id ? positions[slot] : -1;
+    }
+
+    private void put(long id, int position) {
+        if ((size + 1) * 2 > ids.length) {
+            grow();
+        }
+        int slot = slotOf(id);
+        if (ids[slot] != id) {
+            ids[slot] = id;
+            size++;
+        }
+        positions[slot] = position;
+    }
+
+    private void refreshPositions() {
+        for (int i = 0; i < internships.size(); i++) {
+            Internship internship = internships.get(i);
+            if (internship != null && internship.getId() != EMPTY) {
+                positions[slotOf(internship.getId())] = i;
+            }
+        }
+        isStale = false;
+    }
+
+    private void grow() {
+        long[] oldIds = ids;
+        int[] oldPositions = positions;
+        ids = new long[oldIds.length * 2];
+        positions = new int[oldIds.length * 2];
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = slotOf(oldIds[i]);
+                ids[slot] = oldIds[i];
+                positions[slot] = oldPositions[i];
+            }
+        }
+    }
+
+    /**
+     * Empties a slot and moves later entries of its probe run back, so that every entry stays
+     * reachable from its home slot without tombstones.
+     */
+    private void removeSlot(int slot) {
+        int mask = ids.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (ids[next] != EMPTY) {
+            int home = homeSlot(ids[next]);
+            boolean isReachable = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+            if (isReachable) {
+                ids[hole] = ids[next];
+                positions[hole] = positions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        ids[hole] = EMPTY;
+        size--;
+    }
+
+    /**
+     * Returns the slot holding the given ID, or the empty slot where it would be inserted.
+     */
+    private int slotOf(long id) {
+        int mask = ids.length - 1;
+        int slot = homeSlot(id);
+        while (ids[slot] != EMPTY && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int homeSlot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (ids.length - 1);
+    }
+}
@@ -2,10 +2,13 @@ package internity.core;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import internity.logic.commands.ListCommand;
 import internity.storage.Storage;
@@ -20,12 +23,36 @@ import internity.ui.Ui;
  * It provides methods to add, delete, find, list, retrieve, sort and update internships.
  * The class also handles persistence by loading from and saving to storage.
  * </p>
+ * <p>
+ * Besides the {@link Internship} objects, the list keeps their deadline, pay, status, company and role
+ * in {@link InternshipColumns}, from which the sorted indexes, the filter and the status counts are built.
+ * </p>
+ * <p>
+ * Internships can be loaded on a background thread with {@link #loadFromStorageInBackground()}.
+ * Every method that reads or changes the internships then waits for the load to finish first,
+ * while the username can be read and set at once.
+ * </p>
  */
 public class InternshipList {
     private static final Logger LOGGER = Logger.getLogger(InternshipList.class.getName());
     private static final ArrayList<Internship> internshipList = new ArrayList<>();
+    private static final InternshipColumns columns = new InternshipColumns();
+    private static final InternshipSearchIndex searchIndex = new InternshipSearchIndex();
+    private static final DeadlineIndex deadlineIndex = new DeadlineIndex(columns);
+    private static final SortedIndex payIndex = new SortedIndex(columns, columns::pay);
+    private static final SortedIndex statusIndex = new SortedIndex(columns, columns::statusKey);
+    private static final InternshipStats stats = new InternshipStats();
+    private static final InternshipIdIndex idIndex = new InternshipIdIndex(internshipList);
     private static Storage storage;
-    private static String username;
+    private static volatile String username;
+    private static long version;
+    private static long savedVersion;
+    private static long nextId = 1;
+
+    // A load running on a background thread; only the input thread starts, awaits and clears it
+    private static FutureTask<ArrayList<Internship>> loading;
+    private static Thread loader;
+    private static boolean isUsernameUnrecorded;
 
     private InternshipList() {
     }
@@ -48,21 +75,165 @@ public class InternshipList {
         if (storage == null) {
             return;
         }
-        ArrayList<Internship> loadedInternships = storage.load();
+        awaitLoad();
+        install(storage.load());
+    }
+
+    /**
+     * Reads the username from storage and starts loading the internships on a background thread.
+     *
+     * <p>
+     * Only the username header is read before returning, so the user can be greeted right away even if
+     * the data file is large. The first call that needs the internships waits until they are loaded.
+     * A username set in the meantime is kept over the stored one, and is recorded to storage once the load
+     * is done. Until then, {@link #isLoaded()} returns {@code false}.
+     * </p>
+     *
+     * @throws InternityException If there is an error reading the username.
+     */
+    public static void loadFromStorageInBackground() throws InternityException {
+        if (storage == null) {
+            return;
+        }
+        awaitLoad();
+        String storedUsername = storage.readUsername();
+        if (storedUsername != null) {
+            username = storedUsername;
+        }
+
+        loading = new FutureTask<>(storage::load);
+        loader = new Thread(loading, "internity-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Waits until the internships being loaded in the background are loaded.
+     * Returns at once if no load is running.
+     *
+     * @throws InternityException If the load failed. The list is then left as it was.
+     */
+    public static void awaitLoad() throws InternityException {
+        if (loading == null) {
+            return;
+        }
+
+        ArrayList<Internship> loadedInternships = null;
+        InternityException failure = null;
+        try {
+            loadedInternships = loading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternityException("Interrupted while loading internships");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            failure = cause instanceof InternityException
+                    ? (InternityException) cause
+                    : new InternityException("Could not load internships: " + cause.getMessage());
+        }
+        loading = null;
+        loader = null;
+
+        if (loadedInternships != null) {
+            install(loadedInternships);
+        }
+        if (isUsernameUnrecorded) {
+            setUsername(username); // set while loading, so it replaces the stored one
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns whether the internships can be used without waiting for a background load.
+     *
+     * @return {@code false} while a load started by {@link #loadFromStorageInBackground()} is still running
+     */
+    public static boolean isLoaded() {
+        return loading == null || loading.isDone();
+    }
+
+    /**
+     * Waits for a background load before the internships are used. A failed load is reported
+     * as at startup, and the list is used as it was.
+     */
+    private static void ensureLoaded() {
+        if (loading == null) {
+            return;
+        }
+        try {
+            awaitLoad();
+        } catch (InternityException e) {
+            LOGGER.warning("Background load failed: " + e.getMessage());
+            Ui.printLoadWarning(e.getMessage());
+        }
+    }
+
+    private static void install(ArrayList<Internship> loadedInternships) {
         internshipList.clear();
         internshipList.addAll(loadedInternships);
+        assignLoadedIds();
+        rebuildIndexes();
+        savedVersion = version;
+    }
+
+    private static void rebuildIndexes() {
+        columns.rebuild(internshipList);
+        searchIndex.rebuild(columns);
+        deadlineIndex.rebuild();
+        payIndex.rebuild();
+        statusIndex.rebuild();
+        stats.rebuild(columns);
     }
 
     /**
-     * Saves internships to storage.
+     * Saves internships to storage if anything changed since the last load or save.
      *
      * @throws InternityException If there is an error saving to storage.
      */
     public static void saveToStorage() throws InternityException {
-        if (storage == null) {
+        ensureLoaded();
+        if (storage == null || !hasUnsavedChanges()) {
             return;
         }
+        long versionToSave = version;
         storage.save(internshipList);
+        savedVersion = versionToSave;
+    }
+
+    /**
+     * Waits until every save handed to storage has been written to disk.
+     * Storage that writes in the background returns from {@link #saveToStorage()} before the write is done,
+     * so this is the barrier to pass before the program exits.
+     *
+     * @throws InternityException If an earlier save could not be written.
+     */
+    public static void flushStorage() throws InternityException {
+        if (storage == null) {
+            return;
+        }
+        storage.flush();
+    }
+
+    /**
+     * Returns whether the list or username was modified since the last load or save.
+     *
+     * @return {@code true} if there are changes not yet written to storage
+     */
+    public static boolean hasUnsavedChanges() {
+        ensureLoaded();
+        return version != savedVersion;
+    }
+
+    /**
+     * Returns a counter that increases on every modification of the list or username.
+     *
+     * @return the current modification version
+     */
+    public static long getVersion() {
+        ensureLoaded();
+        return version;
     }
 
     // @@author {V1T0bh}
@@ -72,13 +243,27 @@ public class InternshipList {
      * <p>
      * This method appends the specified {@code Internship} object to the
      * internal list that stores all internship applications.
+     * An internship without an ID, or with an ID already in use, is given the next free ID.
      * </p>
      *
      * @param item the {@code Internship} object to be added to the list
      */
     public static void add(Internship item) {
+        ensureLoaded();
         LOGGER.info("Adding new internship to the ArrayList");
+        assignId(item);
         internshipList.add(item);
+        columns.add(item);
+        idIndex.addLast();
+        searchIndex.add(item);
+        deadlineIndex.addLast();
+        payIndex.addLast();
+        statusIndex.addLast();
+        stats.add(item);
+        version++;
+        if (storage != null) {
+            storage.recordAdd(item);
+        }
         LOGGER.info("New internship has been added successfully.");
     }
 
@@ -95,10 +280,189 @@ public class InternshipList {
      * @throws InternityException if the provided index is out of bounds
      */
     public static void delete(int index) throws InternityException {
+        ensureLoaded();
         if (index < 0 || index >= internshipList.size()) {
             throw new InternityException("Invalid internship index: " + (index + 1));
         }
-        internshipList.remove(index);
+        idIndex.remove(index);
+        deadlineIndex.remove(index);
+        payIndex.remove(index);
+        statusIndex.remove(index);
+        columns.remove(index);
+        stats.remove(internshipList.remove(index));
+        searchIndex.remove(index);
+        version++;
+        if (storage != null) {
+            storage.recordDelete(index);
+        }
+    }
+
+    /**
+     * Deletes the internships at the given positions in a single pass.
+     *
+     * <p>
+     * Deleting positions one by one would shift the rest of the list and update every index once per
+     * deleted internship. Instead, the remaining internships are moved down to close all gaps at once and
+     * the indexes are rebuilt once afterwards.
+     * </p>
+     *
+     * @param positions zero-based positions in ascending order without duplicates
+     * @return the deleted internships in list order
+     * @throws InternityException if a position is out of bounds or the positions are not ascending
+     */
+    public static List<Internship> deleteAll(int[] positions) throws InternityException {
+        ensureLoaded();
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] < 0 || positions[i] >= internshipList.size()
+                    || (i > 0 && positions[i] <= positions[i - 1])) {
+                throw InternityException.invalidInternshipIndex();
+            }
+        }
+        if (positions.length == 0) {
+            return new ArrayList<>();
+        }
+
+        List<Internship> deleted = new ArrayList<>(positions.length);
+        int next = 0;
+        int kept = 0;
+        for (int position = 0; position < internshipList.size(); position++) {
+            Internship internship = internshipList.get(position);
+            if (next < positions.length && positions[next] == position) {
+                deleted.add(internship);
+                next++;
+            } else {
+                internshipList.set(kept++, internship);
+            }
+        }
+        internshipList.subList(kept, internshipList.size()).clear();
+        idIndex.rebuild();
+        rebuildIndexes();
+
+        version++;
+        if (storage != null) {
+            for (int i = positions.length - 1; i >= 0; i--) {
+                storage.recordDelete(positions[i]);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Applies the same changes to the internships at the given positions.
+     * Each sorted index affected by a change is rebuilt once instead of being updated per internship.
+     *
+     * @param positions zero-based positions of the internships to update
+     * @param company  the new company name, or {@code null} if unchanged
+     * @param role     the new role, or {@code null} if unchanged
+     * @param deadline the new deadline, or {@code null} if unchanged
+     * @param pay      the new pay, or {@code null} if unchanged
+     * @param status   the new status, or {@code null} if unchanged
+     * @throws InternityException if a position is out of bounds
+     */
+    public static void updateAll(int[] positions, String company, String role, Date deadline, Integer pay,
+            String status) throws InternityException {
+        ensureLoaded();
+        for (int position : positions) {
+            if (position < 0 || position >= internshipList.size()) {
+                throw InternityException.invalidInternshipIndex();
+            }
+        }
+        Status newStatus = status == null ? null : Status.parse(status);
+        for (int position : positions) {
+            Internship internship = internshipList.get(position);
+            if (company != null) {
+                internship.setCompany(company);
+            }
+            if (role != null) {
+                internship.setRole(role);
+            }
+            if (company != null || role != null) {
+                searchIndex.update(position, internship);
+            }
+            if (deadline != null) {
+                internship.setDeadline(deadline);
+            }
+            if (pay != null) {
+                internship.setPay(pay);
+            }
+            if (newStatus != null) {
+                stats.changeStatus(internship.getStatusOrdinal(), newStatus.ordinal());
+                internship.setStatus(newStatus);
+            }
+            columns.set(position, internship);
+            if (storage != null) {
+                storage.recordUpdate(position, internship);
+            }
+        }
+        if (deadline != null) {
+            deadlineIndex.rebuild();
+        }
+        if (pay != null) {
+            payIndex.rebuild();
+        }
+        if (newStatus != null) {
+            statusIndex.rebuild();
+        }
+        version++;
+    }
+
+    /**
+     * Returns the current position of the internship with the given stable ID.
+     *
+     * @param id the ID to look up
+     * @return the zero-based position, or -1 if no internship has that ID
+     */
+    public static int indexOfId(long id) {
+        ensureLoaded();
+        return idIndex.positionOf(id);
+    }
+
+    /**
+     * Returns the internship with the given stable ID.
+     *
+     * @param id the ID to look up
+     * @return the internship with that ID
+     * @throws InternityException if no internship has that ID
+     */
+    public static Internship getById(long id) throws InternityException {
+        ensureLoaded();
+        int index = indexOfId(id);
+        if (index < 0) {
+            throw InternityException.unknownInternshipId(id);
+        }
+        return internshipList.get(index);
+    }
+
+    /**
+     * Gives the internship the next free ID unless it already has an unused one.
+     */
+    private static void assignId(Internship internship) {
+        if (internship == null) {
+            return;
+        }
+        if (internship.getId() <= 0 || idIndex.contains(internship.getId())) {
+            internship.setId(nextId++);
+        } else {
+            nextId = Math.max(nextId, internship.getId() + 1);
+        }
+    }
+
+    /**
+     * Keeps the IDs read from storage and gives new IDs to internships stored without one,
+     * or with one already used earlier in the file.
+     */
+    private static void assignLoadedIds() {
+        idIndex.clear();
+        nextId = 1;
+        for (Internship internship : internshipList) {
+            if (internship != null && internship.getId() > 0) {
+                nextId = Math.max(nextId, internship.getId() + 1);
+            }
+        }
+        for (int i = 0; i < internshipList.size(); i++) {
+            assignId(internshipList.get(i));
+            idIndex.add(i);
+        }
     }
 
     /**
@@ -114,6 +478,7 @@ public class InternshipList {
      * @throws InternityException if the provided index is out of bounds
      */
     public static Internship get(int index) throws InternityException {
+        ensureLoaded();
         if (index < 0 || index >= internshipList.size()) {
             throw new InternityException("Invalid internship index: " + (index + 1));
         }
@@ -121,36 +486,57 @@ public class InternshipList {
     }
 
     public static int size() {
+        ensureLoaded();
         return internshipList.size();
     }
 
     /**
      * Returns a new list of internships sorted by the specified order.
-     * The original internship list is not modified.
+     * The original internship list is not modified; the order is read from the {@link DeadlineIndex}.
      *
      * @param order the order type (ASCENDING, DESCENDING, or DEFAULT)
      * @return a new {@code ArrayList<Internship>} view sorted for display
      */
     public static List<Internship> sortInternships(ListCommand.OrderType order) {
-        ArrayList<Internship> sortedList = new ArrayList<>(internshipList);
-
-        if (order == ListCommand.OrderType.DESCENDING) {
-            sortedList.sort(Comparator.comparing(Internship::getDeadline).reversed());
-        } else if (order == ListCommand.OrderType.ASCENDING) {
-            sortedList.sort(Comparator.comparing(Internship::getDeadline));
+        ensureLoaded();
+        if (order != ListCommand.OrderType.ASCENDING && order != ListCommand.OrderType.DESCENDING) {
+            return new ArrayList<>(internshipList);
         }
+
+        ArrayList<Internship> sortedList = new ArrayList<>(internshipList.size());
+        deadlineIndex.forEach(order == ListCommand.OrderType.DESCENDING,
+                position -> sortedList.add(internshipList.get(position)));
         return sortedList;
     }
 
     /**
      * Lists internships in a formatted table.
-     * Sorting, when requested, is applied only to a temporary copy for display.
+     * Sorted listings walk the {@link DeadlineIndex}, so the underlying list is neither copied nor sorted.
      *
      * @param order the display order type
      * @throws InternityException if there is an error during listing
      */
     public static void listAll(ListCommand.OrderType order) throws InternityException {
-        LOGGER.info("Listing all internships");
+        listPage(order, 0, ListCommand.NO_LIMIT);
+    }
+
+    /**
+     * Lists one window of internships in a formatted table, keeping their original indexes.
+     *
+     * <p>
+     * Rows are taken lazily from an iterator over the display order, so only the requested window is
+     * printed. Sorted listings walk the {@link DeadlineIndex}, so nothing is copied or sorted either.
+     * </p>
+     *
+     * @param order the display order type
+     * @param offset the number of internships in display order to skip
+     * @param limit the maximum number of internships to print, or {@link ListCommand#NO_LIMIT} for all
+     * @throws InternityException if there is an error during listing
+     */
+    public static void listPage(ListCommand.OrderType order, int offset, int limit) throws InternityException {
+        ensureLoaded();
+        assert offset >= 0 && limit >= 0 : "Offset and limit must not be negative";
+        LOGGER.info("Listing internships");
 
         if (InternshipList.isEmpty()) {
             LOGGER.warning("No internships found to list");
@@ -160,21 +546,12 @@ public class InternshipList {
         }
         assert (size() > 0) : "Internship list should not be empty";
 
-        // Pair each internship with its original index
-        List<Map.Entry<Integer, Internship>> indexedList = new ArrayList<>();
-        for (int i = 0; i < internshipList.size(); i++) {
-            indexedList.add(Map.entry(i, internshipList.get(i)));
-        }
-
-        // Only sort if an order is specified
-        if (order == ListCommand.OrderType.ASCENDING || order == ListCommand.OrderType.DESCENDING) {
-            Comparator<Map.Entry<Integer, Internship>> comparator =
-                    Comparator.comparing(entry -> entry.getValue().getDeadline());
-            if (order == ListCommand.OrderType.DESCENDING) {
-                comparator = comparator.reversed();
-            }
-            indexedList.sort(comparator);
+        int total = size();
+        if (offset >= total) {
+            Ui.printInternshipPageEmpty(total);
+            return;
         }
+        int count = limit == ListCommand.NO_LIMIT ? total - offset : Math.min(limit, total - offset);
 
         // Print header
         String header = "Here are the internships in your list";
@@ -188,14 +565,30 @@ public class InternshipList {
         Ui.printInternshipListHeader(header);
 
         // Display internships with their original indexes
-        for (Map.Entry<Integer, Internship> entry : indexedList) {
-            int originalIndex = entry.getKey();
-            Internship internship = entry.getValue();
-            Ui.printInternshipListContent(originalIndex, internship);
+        PrimitiveIterator.OfInt rows = displayOrder(order);
+        for (int i = 0; i < offset; i++) {
+            rows.nextInt();
+        }
+        for (int i = 0; i < count; i++) {
+            printInternshipAt(rows.nextInt());
         }
+        if (count < total) {
+            Ui.printInternshipPageSummary(offset + 1, offset + count, total);
+        }
+        Ui.flush();
 
-        LOGGER.info("Finished listing internships. Total: " + indexedList.size());
-        assert (indexedList.size() == size()) : "All internships should be listed";
+        LOGGER.info("Finished listing internships. Printed: " + count + " of " + total);
+    }
+
+    private static PrimitiveIterator.OfInt displayOrder(ListCommand.OrderType order) {
+        if (order == ListCommand.OrderType.ASCENDING || order == ListCommand.OrderType.DESCENDING) {
+            return deadlineIndex.iterator(order == ListCommand.OrderType.DESCENDING);
+        }
+        return IntStream.range(0, internshipList.size()).iterator();
+    }
+
+    private static void printInternshipAt(int index) {
+        Ui.printInternshipListContent(index, internshipList.get(index));
     }
 
 
@@ -206,51 +599,76 @@ public class InternshipList {
 
 
     public static void updateStatus(int index, String newStatus) throws InternityException {
+        ensureLoaded();
         if (index < 0 || index >= size()) {
             throw InternityException.invalidInternshipIndex();
         }
-        final String normalized = Status.canonical(newStatus);
+        final Status status = Status.parse(newStatus);
         Internship internship = internshipList.get(index);
-        internship.setStatus(normalized);
+        int oldKey = columns.statusKey(index);
+        stats.changeStatus(oldKey, status.ordinal());
+        internship.setStatus(status);
+        columns.set(index, internship);
+        statusIndex.update(index, oldKey);
+        recordUpdate(index, internship);
     }
 
     public static void updateCompany(int index, String newCompany) throws InternityException {
+        ensureLoaded();
         if (index < 0 || index >= size()) {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
         it.setCompany(newCompany);
+        columns.set(index, it);
+        searchIndex.update(index, it);
+        recordUpdate(index, it);
     }
 
     public static void updateRole(int index, String newRole) throws InternityException {
+        ensureLoaded();
         if (index < 0 || index >= size()) {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
         it.setRole(newRole);
+        columns.set(index, it);
+        searchIndex.update(index, it);
+        recordUpdate(index, it);
     }
 
     public static void updateDeadline(int index, Date newDeadline) throws InternityException {
+        ensureLoaded();
         if (index < 0 || index >= size()) {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
+        Date oldDeadline = it.getDeadline();
         it.setDeadline(newDeadline);
+        columns.set(index, it);
+        deadlineIndex.updateDeadline(index, oldDeadline);
+        recordUpdate(index, it);
     }
 
     public static void updatePay(int index, int newPay) throws InternityException {
+        ensureLoaded();
         if (index < 0 || index >= size()) {
             throw InternityException.invalidInternshipIndex();
         }
         Internship it = internshipList.get(index);
+        int oldPay = columns.pay(index);
         it.setPay(newPay);
+        columns.set(index, it);
+        payIndex.update(index, oldPay);
+        recordUpdate(index, it);
     }
 
     /**
      * Searches and prints internships that match the specified keyword in either the company name or the role.
      *
      * <p>
-     * This method performs a case-insensitive search across all stored internships.
+     * This method performs a case-insensitive search using the {@link InternshipSearchIndex},
+     * so its cost depends on the number of matches rather than on the size of the list.
      * If no matches are found, a message is printed via {@link Ui#printNoInternshipFound()}.
      * Otherwise, the matching internships are displayed with their original
      * indices using {@link Ui#printInternshipListHeader(String)} and
@@ -260,22 +678,12 @@ public class InternshipList {
      * @param keyword the search keyword to look for within the company or role fields
      */
     public static void findInternship(String keyword) {
-        // Store matching internships and their original indices
-        ArrayList<Integer> matchingIndices = new ArrayList<>();
-        ArrayList<Internship> matchingInternships = new ArrayList<>();
-
+        ensureLoaded();
         LOGGER.info("Searching for internships that match keyword.");
-        for (int i = 0; i < internshipList.size(); i++) {
-            Internship thisInternship = internshipList.get(i);
-            if (thisInternship.getCompany().toLowerCase().contains(keyword.toLowerCase()) ||
-                    thisInternship.getRole().toLowerCase().contains(keyword.toLowerCase())) {
-                matchingIndices.add(i);
-                matchingInternships.add(thisInternship);
-            }
-        }
+        int[] matchingIndices = searchIndex.find(keyword);
         LOGGER.info("Search completed successfully.");
 
-        if (matchingInternships.isEmpty()) {
+        if (matchingIndices.length == 0) {
             LOGGER.info("No matching internships were found.");
             Ui.printNoInternshipFound();
             return;
@@ -283,33 +691,160 @@ public class InternshipList {
 
         LOGGER.info("Matching internships found. Printing matching internships.");
         Ui.printInternshipListHeader("These are the matching internships in your list:");
-        for (int i = 0; i < matchingInternships.size(); i++) {
-            Ui.printInternshipListContent(matchingIndices.get(i), matchingInternships.get(i));
+        for (int index : matchingIndices) {
+            Ui.printInternshipListContent(index, internshipList.get(index));
         }
+        Ui.flush();
         LOGGER.info("Matching internships printed successfully.");
     }
 
+    /**
+     * Prints the internships that meet every condition of the given filter, in list order.
+     *
+     * <p>
+     * The status, pay and deadline conditions can each be answered by a sorted index. The size of each
+     * condition's range is found with two binary searches, and only the internships in the smallest range
+     * are checked against the whole filter, so the cost follows the number of candidates rather than the
+     * size of the list. A filter without conditions lists everything.
+     * </p>
+     *
+     * @param filter the conditions to meet
+     */
+    public static void filterInternships(InternshipFilter filter) {
+        ensureLoaded();
+        LOGGER.info("Filtering internships.");
+        int[] matchingIndices = filterPositions(filter);
+
+        if (matchingIndices.length == 0) {
+            LOGGER.info("No internships matched the filter.");
+            Ui.printNoInternshipMatchesFilter();
+            return;
+        }
+
+        Ui.printInternshipListHeader("These are the internships in your list matching the filter:");
+        for (int index : matchingIndices) {
+            Ui.printInternshipListContent(index, internshipList.get(index));
+        }
+        Ui.flush();
+        LOGGER.info("Printed " + matchingIndices.length + " filtered internships.");
+    }
+
+    /**
+     * Returns the positions of the internships matching the filter in ascending order.
+     *
+     * @param filter the conditions to meet
+     * @return the zero-based positions of the matching internships
+     */
+    public static int[] filterPositions(InternshipFilter filter) {
+        ensureLoaded();
+        SortedIndex bestIndex = null;
+        int[] bestRange = null;
+        if (filter.getStatus() != null) {
+            int key = filter.getStatus().ordinal();
+            bestRange = statusIndex.findRange(key, key);
+            bestIndex = statusIndex;
+        }
+        if (filter.hasPayRange()) {
+            int[] range = payIndex.findRange(filter.getMinPay(), filter.getMaxPay());
+            if (bestRange == null || range[1] - range[0] < bestRange[1] - bestRange[0]) {
+                bestRange = range;
+                bestIndex = payIndex;
+            }
+        }
+        if (filter.hasDeadlineRange()) {
+            int[] range = deadlineIndex.findBetween(filter.getDeadlineFrom(), filter.getDeadlineTo());
+            if (bestRange == null || range[1] - range[0] < bestRange[1] - bestRange[0]) {
+                bestRange = range;
+                bestIndex = deadlineIndex;
+            }
+        }
+
+        if (bestIndex == null) {
+            return IntStream.range(0, columns.size())
+                    .filter(i -> filter.matches(columns, i))
+                    .toArray();
+        }
+
+        int[] matches = new int[bestRange[1] - bestRange[0]];
+        int count = 0;
+        for (int rank = bestRange[0]; rank < bestRange[1]; rank++) {
+            int position = bestIndex.positionAt(rank);
+            if (filter.matches(columns, position)) {
+                matches[count++] = position;
+            }
+        }
+        int[] positions = Arrays.copyOf(matches, count);
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    private static void recordUpdate(int index, Internship internship) {
+        version++;
+        if (storage != null) {
+            storage.recordUpdate(index, internship);
+        }
+    }
+
     public static void clear() {
+        ensureLoaded();
         internshipList.clear();
+        columns.clear();
+        idIndex.clear();
+        nextId = 1;
+        searchIndex.clear();
+        deadlineIndex.clear();
+        payIndex.clear();
+        statusIndex.clear();
+        stats.clear();
+        version++;
     }
 
+    /**
+     * Sets the username.
+     * While internships are loaded in the background, the username the storage loads is ignored, as it was
+     * already read up front and may since have been changed by the user. A username the user sets meanwhile is
+     * recorded to storage only after the load, when the storage is no longer replaying its own data.
+     *
+     * @param username the new username
+     */
     public static void setUsername(String username) {
+        if (Thread.currentThread() == loader) {
+            return;
+        }
         InternshipList.username = username;
+        version++;
+        isUsernameUnrecorded = loading != null;
+        if (storage != null && !isUsernameUnrecorded) {
+            storage.recordUsername(username);
+        }
     }
 
     public static String getUsername() {
         return username;
     }
 
+    /**
+     * Returns the number of internships with the given status.
+     * The count is maintained on every change to the list, so this takes constant time.
+     *
+     * @param status the status to count
+     * @return the number of internships with that status
+     */
+    public static int countByStatus(Status status) {
+        ensureLoaded();
+        return stats.count(status);
+    }
+
     /**
      * Finds the internship with the nearest deadline.
      * <p>
      * Returns a {@link AbstractMap.SimpleEntry} containing the internship with the nearest deadline
      * and the count of other internships that share the same deadline. The method first searches for
      * internships with future deadlines (including today). If none exist, it returns
-     * the most recent past deadline.
+     * the most recent past deadline. Among internships sharing that deadline, the one added first is returned.
      * </p>
      * <p>
+     * The search is a binary search over the {@link DeadlineIndex}, so it takes logarithmic time.
      * Assumes the internship list is non-empty.
      * </p>
      *
@@ -319,65 +854,14 @@ public class InternshipList {
      */
     public static AbstractMap.SimpleEntry<Internship, Integer> findNearestDeadlineInternship()
             throws InternityException {
+        ensureLoaded();
         LOGGER.info("Finding internship with nearest deadline.");
         assert InternshipList.size() > 0 : "Cannot find nearest deadline in empty list";
 
-        Internship nearest = null;
+        int[] nearestRanks = deadlineIndex.findNearest(Date.getToday());
+        Internship nearest = InternshipList.get(deadlineIndex.positionAt(nearestRanks[0]));
         // no. of internships with same deadline as nearest
-        int countSameDeadline = 0;
-
-        // check if this internship has the nearest deadline (at least as near as the current nearest)
-        boolean isNearestDeadline;
-        //  check if the deadline is in the future (including today)
-        boolean isDeadlineInFuture;
-        // check if the deadline is the same as the current nearest deadline
-        boolean isSameDeadline;
-
-        // get the internship with the nearest deadline that is in the future
-        for (int i = 0; i < InternshipList.size(); i++) {
-            Internship internship = InternshipList.get(i);
-
-            isNearestDeadline = (nearest == null)
-                    || (internship.getDeadline().compareTo(nearest.getDeadline()) <= 0);
-            isDeadlineInFuture = (Date.getToday().compareTo(internship.getDeadline()) <= 0);
-
-            if (isNearestDeadline && isDeadlineInFuture) {
-                isSameDeadline = (nearest != null)
-                        && (internship.getDeadline().compareTo(nearest.getDeadline()) == 0);
-
-                if (isSameDeadline) {
-                    countSameDeadline += 1;
-                } else {
-                    nearest = internship;
-                    countSameDeadline = 0;
-                }
-            }
-        }
-
-        // if no internships have future deadlines, get the nearest past deadline
-        if (nearest == null) {
-            LOGGER.fine("No internships with valid future deadlines found.");
-            LOGGER.info("Finding past nearest deadline.");
-
-            for (int i = 0; i < InternshipList.size(); i++) {
-                Internship internship = InternshipList.get(i);
-
-                isNearestDeadline = (nearest == null)
-                        || (internship.getDeadline().compareTo(nearest.getDeadline()) >= 0);
-
-                if (isNearestDeadline) {
-                    isSameDeadline = (nearest != null)
-                            && (internship.getDeadline().compareTo(nearest.getDeadline()) == 0);
-
-                    if (isSameDeadline) {
-                        countSameDeadline += 1;
-                    } else {
-                        nearest = internship;
-                        countSameDeadline = 0;
-                    }
-                }
-            }
-        }
+        int countSameDeadline = nearestRanks[1] - nearestRanks[0] - 1;
 
         LOGGER.fine("Found nearest deadline internship: " + nearest);
         LOGGER.fine("Found occurrence of nearest deadline: " + countSameDeadline);
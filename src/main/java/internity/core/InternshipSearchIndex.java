@@ -0,0 +1,410 @@
+package internity.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A case-folded n-gram index over the company and role of every internship in the {@link InternshipList}.
+ *
+ * <p>
+ * Company and role are {@link TextDictionary} codes, and far fewer texts are distinct than there are records.
+ * The n-grams are therefore indexed per code: every 1-, 2- and 3-character substring of a lower-cased text
+ * is mapped to the codes of the texts containing it, and each code to the records using it. A keyword of up
+ * to three characters is answered by the codes of its own n-gram. For a longer keyword, the shortest list of
+ * codes among its trigrams gives the candidate texts, which are checked against the lower-cased text.
+ * The records of the matching codes are then collected in list order.
+ * </p>
+ *
+ * <p>
+ * Records are identified by slots that are handed out in insertion order, so slot order is list order.
+ * A deleted record only has its slot marked as dead, and stays in the records of its codes until then;
+ * a Fenwick tree over the live slots converts between slots and list positions in logarithmic time.
+ * Dead slots are purged by rebuilding the index once they outnumber the live ones.
+ * </p>
+ */
+class InternshipSearchIndex {
+    private static final int MAX_GRAM_LENGTH = 3;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, IntList> codesByGram = new HashMap<>();
+    private final BitSet indexedCodes = new BitSet();
+    private IntList[] slotsByCode = new IntList[INITIAL_CAPACITY];
+    private int[] companyCodes = new int[INITIAL_CAPACITY];
+    private int[] roleCodes = new int[INITIAL_CAPACITY];
+    private boolean[] isAlive = new boolean[INITIAL_CAPACITY];
+    private int[] liveCounts = new int[INITIAL_CAPACITY + 1];
+    private int slotCount;
+    private int liveCount;
+
+    /**
+     * Replaces the contents of the index with the internships in the given columns.
+     *
+     * @param columns the columns of the internships in list order
+     */
+    void rebuild(InternshipColumns columns) {
+        clear();
+        for (int i = 0; i < columns.size(); i++) {
+            addCodes(columns.companyCode(i), columns.roleCode(i));
+        }
+    }
+
+    /**
+     * Removes every record from the index.
+     */
+    void clear() {
+        codesByGram.clear();
+        indexedCodes.clear();
+        slotsByCode = new IntList[INITIAL_CAPACITY];
+        companyCodes = new int[INITIAL_CAPACITY];
+        roleCodes = new int[INITIAL_CAPACITY];
+        isAlive = new boolean[INITIAL_CAPACITY];
+        liveCounts = new int[INITIAL_CAPACITY + 1];
+        slotCount = 0;
+        liveCount = 0;
+    }
+
+    /**
+     * Indexes an internship appended to the end of the list.
+     *
+     * @param internship the new internship
+     */
+    void add(Internship internship) {
+        addCodes(companyCodeOf(internship), roleCodeOf(internship));
+    }
+
+    private void addCodes(int companyCode, int roleCode) {
+        if (slotCount == isAlive.length) {
+            grow();
+        }
+        int slot = slotCount++;
+        companyCodes[slot] = companyCode;
+        roleCodes[slot] = roleCode;
+        isAlive[slot] = true;
+        addToLiveCounts(slot, 1);
+        liveCount++;
+        addSlot(companyCode, slot);
+        if (roleCode != companyCode) {
+            addSlot(roleCode, slot);
+        }
+    }
+
+    /**
+     * Removes the record at the given list position. Records after it move up by one position.
+     *
+     * @param position the zero-based list position of the removed internship
+     */
+    void remove(int position) {
+        int slot = slotAt(position);
+        isAlive[slot] = false;
+        addToLiveCounts(slot, -1);
+        liveCount--;
+
+        if (slotCount - liveCount > liveCount && slotCount > INITIAL_CAPACITY) {
+            purgeDeadSlots();
+        }
+    }
+
+    /**
+     * Re-indexes the internship at the given list position after its company or role changed.
+     *
+     * @param position the zero-based list position of the updated internship
+     * @param internship the internship after the update
+     */
+    void update(int position, Internship internship) {
+        int slot = slotAt(position);
+        int oldCompanyCode = companyCodes[slot];
+        int oldRoleCode = roleCodes[slot];
+        int newCompanyCode = companyCodeOf(internship);
+        int newRoleCode = roleCodeOf(internship);
+        companyCodes[slot] = newCompanyCode;
+        roleCodes[slot] = newRoleCode;
+
+        if (oldCompanyCode != newCompanyCode && oldCompanyCode != newRoleCode) {
+            removeSlot(oldCompanyCode, slot);
+        }
+        if (oldRoleCode != oldCompanyCode && oldRoleCode != newCompanyCode && oldRoleCode != newRoleCode) {
+            removeSlot(oldRoleCode, slot);
+        }
+        if (newCompanyCode != oldCompanyCode && newCompanyCode != oldRoleCode) {
+            insertSlot(newCompanyCode, slot);
+        }
+        if (newRoleCode != newCompanyCode && newRoleCode != oldCompanyCode && newRoleCode != oldRoleCode) {
+            insertSlot(newRoleCode, slot);
+        }
+    }
+
+    /**
+     * Finds the internships whose company or role contains the keyword, ignoring case.
+     *
+     * @param keyword the keyword to search for
+     * @return the zero-based list positions of the matching internships, in ascending order
+     */
+    int[] find(String keyword) {
+        String folded = keyword.toLowerCase();
+        if (folded.isEmpty()) {
+            int[] all = new int[liveCount];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        if (folded.length() <= MAX_GRAM_LENGTH) {
+            IntList exact = codesByGram.get(gramKey(folded, 0, folded.length()));
+            return exact == null ? new int[0] : toPositions(exact, null);
+        }
+
+        IntList shortest = null;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= folded.length(); i++) {
+            IntList codes = codesByGram.get(gramKey(folded, i, i + MAX_GRAM_LENGTH));
+            if (codes == null) {
+                return new int[0];
+            }
+            if (shortest == null || codes.size < shortest.size) {
+                shortest = codes;
+            }
+        }
+        return toPositions(shortest, folded);
+    }
+
+    /**
+     * Collects the live records of the candidate codes as list positions, keeping only the codes whose text
+     * contains the keyword if given. A record whose company and role both match is collected once.
+     * The work follows the number of candidate records, not the size of the list.
+     */
+    private int[] toPositions(IntList codes, String keyword) {
+        IntList matchingSlots = new IntList();
+        for (int i = 0; i < codes.size; i++) {
+            int code = codes.values[i];
+            if (keyword != null && !TextDictionary.foldedTextOf(code).contains(keyword)) {
+                continue;
+            }
+            IntList slots = slotsByCode[code];
+            for (int j = 0; j < slots.size; j++) {
+                int slot = slots.values[j];
+                if (isAlive[slot]) {
+                    matchingSlots.append(slot);
+                }
+            }
+        }
+
+        int[] positions = matchingSlots.values;
+        int count = sortDistinct(positions, matchingSlots.size);
+        // Without dead slots, every slot is its own position
+        if (liveCount != slotCount) {
+            for (int i = 0; i < count; i++) {
+                positions[i] = liveCountBefore(positions[i]);
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Sorts the first {@code size} slots and drops repeated ones. Many slots are sorted by marking them in a
+     * bitmap, whose scan then costs no more words than there are slots.
+     *
+     * @return the number of distinct slots, which are now at the start of the array
+     */
+    private int sortDistinct(int[] slots, int size) {
+        if (size <= slotCount / Long.SIZE) {
+            Arrays.sort(slots, 0, size);
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (count == 0 || slots[count - 1] != slots[i]) {
+                    slots[count++] = slots[i];
+                }
+            }
+            return count;
+        }
+
+        BitSet marked = new BitSet(slotCount);
+        for (int i = 0; i < size; i++) {
+            marked.set(slots[i]);
+        }
+        int count = 0;
+        for (int slot = marked.nextSetBit(0); slot >= 0; slot = marked.nextSetBit(slot + 1)) {
+            slots[count++] = slot;
+        }
+        return count;
+    }
+
+    private static int companyCodeOf(Internship internship) {
+        return internship == null ? TextDictionary.NO_CODE : internship.getCompanyCode();
+    }
+
+    private static int roleCodeOf(Internship internship) {
+        return internship == null ? TextDictionary.NO_CODE : internship.getRoleCode();
+    }
+
+    /**
+     * Adds a slot that is larger than every slot of the code.
+     */
+    private void addSlot(int code, int slot) {
+        if (code != TextDictionary.NO_CODE) {
+            slotsOf(code).append(slot);
+        }
+    }
+
+    private void insertSlot(int code, int slot) {
+        if (code != TextDictionary.NO_CODE) {
+            slotsOf(code).insert(slot);
+        }
+    }
+
+    private void removeSlot(int code, int slot) {
+        if (code != TextDictionary.NO_CODE) {
+            slotsByCode[code].remove(slot);
+        }
+    }
+
+    /**
+     * Returns the slots of the code, indexing the n-grams of its text the first time it is used.
+     */
+    private IntList slotsOf(int code) {
+        if (code >= slotsByCode.length) {
+            slotsByCode = Arrays.copyOf(slotsByCode, Math.max(code + 1, slotsByCode.length * 2));
+        }
+        if (!indexedCodes.get(code)) {
+            indexedCodes.set(code);
+            indexGrams(code);
+        }
+        if (slotsByCode[code] == null) {
+            slotsByCode[code] = new IntList();
+        }
+        return slotsByCode[code];
+    }
+
+    /**
+     * Adds the code to the list of every n-gram of its text. All n-grams of one text are added together,
+     * so an n-gram occurring twice in the text is caught by checking the last code of its list.
+     */
+    private void indexGrams(int code) {
+        String text = TextDictionary.foldedTextOf(code);
+        for (int start = 0; start < text.length(); start++) {
+            int maxEnd = Math.min(text.length(), start + MAX_GRAM_LENGTH);
+            for (int end = start + 1; end <= maxEnd; end++) {
+                IntList codes = codesByGram.computeIfAbsent(gramKey(text, start, end), key -> new IntList());
+                if (codes.size == 0 || codes.values[codes.size - 1] != code) {
+                    codes.append(code);
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs up to three characters and their count into one key.
+     */
+    private static long gramKey(String text, int start, int end) {
+        long key = end - start;
+        for (int i = start; i < end; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+
+    private void grow() {
+        int capacity = isAlive.length * 2;
+        companyCodes = Arrays.copyOf(companyCodes, capacity);
+        roleCodes = Arrays.copyOf(roleCodes, capacity);
+        isAlive = Arrays.copyOf(isAlive, capacity);
+        liveCounts = new int[capacity + 1];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (isAlive[slot]) {
+                addToLiveCounts(slot, 1);
+            }
+        }
+    }
+
+    private void purgeDeadSlots() {
+        int[] liveCompanyCodes = new int[liveCount];
+        int[] liveRoleCodes = new int[liveCount];
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (isAlive[slot]) {
+                liveCompanyCodes[count] = companyCodes[slot];
+                liveRoleCodes[count] = roleCodes[slot];
+                count++;
+            }
+        }
+        clear();
+        for (int i = 0; i < count; i++) {
+            addCodes(liveCompanyCodes[i], liveRoleCodes[i]);
+        }
+    }
+
+    private void addToLiveCounts(int slot, int delta) {
+        for (int i = slot + 1; i < liveCounts.length; i += i & -i) {
+            liveCounts[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of live slots before the given slot, which is its list position.
+     */
+    private int liveCountBefore(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += liveCounts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the live slot at the given list position.
+     */
+    private int slotAt(int position) {
+        assert position >= 0 && position < liveCount : "Position out of range: " + position;
+        int slot = 0;
+        int remaining = position + 1;
+        for (int step = Integer.highestOneBit(liveCounts.length - 1); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next < liveCounts.length && liveCounts[next] < remaining) {
+                slot = next;
+                remaining -= liveCounts[next];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * A growable array of ints: the codes of an n-gram, the ascending slots of a code, or the slots found by a search.
+     */
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        /**
+         * Adds a value at the end. For the slots of a code, it must be larger than every slot in the list.
+         */
+        void append(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * Adds a slot at its sorted position.
+         */
+        void insert(int slot) {
+            int index = -Arrays.binarySearch(values, 0, size, slot) - 1;
+            assert index >= 0 : "Slot is already in the list";
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = slot;
+            size++;
+        }
+
+        /**
+         * Removes a slot from a sorted list.
+         */
+        void remove(int slot) {
+            int index = Arrays.binarySearch(values, 0, size, slot);
+            assert index >= 0 : "Slot is not in the list";
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+        }
+    }
+}
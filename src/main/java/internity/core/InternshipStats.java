@@ -0,0 +1,76 @@
+package internity.core;
+
+/**
+ * Keeps the number of internships in each {@link Status} of the {@link InternshipList}.
+ *
+ * <p>
+ * The counts are kept in an array indexed by status ordinal and are adjusted on every
+ * mutation of the list, so the dashboard reads them in constant time.
+ * </p>
+ */
+class InternshipStats {
+    private final int[] statusCounts = new int[Status.count()];
+
+    /**
+     * Recounts every status after the whole list was replaced.
+     *
+     * @param columns the columns of the internships in the list
+     */
+    void rebuild(InternshipColumns columns) {
+        columns.countStatuses(statusCounts);
+    }
+
+    /**
+     * Resets every count to zero.
+     */
+    void clear() {
+        for (int i = 0; i < statusCounts.length; i++) {
+            statusCounts[i] = 0;
+        }
+    }
+
+    /**
+     * Counts an internship added to the list.
+     *
+     * @param internship the added internship
+     */
+    void add(Internship internship) {
+        adjust(internship, 1);
+    }
+
+    /**
+     * Stops counting an internship removed from the list.
+     *
+     * @param internship the removed internship
+     */
+    void remove(Internship internship) {
+        adjust(internship, -1);
+    }
+
+    /**
+     * Moves an internship from one status count to another.
+     *
+     * @param oldOrdinal the ordinal of the status before the update
+     * @param newOrdinal the ordinal of the status after the update
+     */
+    void changeStatus(int oldOrdinal, int newOrdinal) {
+        statusCounts[oldOrdinal]--;
+        statusCounts[newOrdinal]++;
+    }
+
+    /**
+     * Returns the number of internships with the given status.
+     *
+     * @param status the status to count
+     * @return the number of internships with that status
+     */
+    int count(Status status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    private void adjust(Internship internship, int delta) {
+        if (internship != null) {
+            statusCounts[internship.getStatusOrdinal()] += delta;
+        }
+    }
+}
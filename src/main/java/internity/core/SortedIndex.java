@@ -0,0 +1,341 @@
+package internity.core;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Keeps the positions of the {@link InternshipList} sorted by an {@code int} key of each internship,
+ * so that walking the list in key order, or finding the internships whose key lies in a range,
+ * needs no sort or scan.
+ *
+ * <p>
+ * Positions are ordered by key and then by position, which is the order a stable sort of the
+ * list by key produces. Walking in descending order visits larger keys first but keeps
+ * internships with the same key in list order, matching a stable sort with a reversed comparator.
+ * </p>
+ *
+ * <p>
+ * Keys are read from the {@link InternshipColumns}, and each entry keeps the key it was sorted by, so
+ * comparisons never touch an {@link Internship} and an entry can still be found after its internship's
+ * field was replaced. Rebuilding packs each key and position into one {@code long} and sorts those
+ * primitives. Adding an internship inserts its position with a binary search.
+ * </p>
+ *
+ * <p>
+ * Removing an internship moves every later internship down one position. Rather than rewriting all of
+ * their entries, the index keeps the entries at their old positions and notes the removed positions in a
+ * short sorted list, through which later changes translate list positions. The entries are rewritten in one
+ * pass when positions are next read, or once {@value #MAX_PENDING_REMOVALS} removals have piled up, so a run
+ * of removals costs one pass instead of one per removal. Translating keeps the order of positions, so the
+ * entries stay sorted.
+ * </p>
+ */
+class SortedIndex {
+    /** Sort key of a missing internship or field, which sorts first. */
+    static final int MISSING_KEY = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_PENDING_REMOVALS = 256;
+
+    private final InternshipColumns columns;
+    private final IntUnaryOperator keyFunction;
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Stored positions removed since the entries were last rewritten, in ascending order
+    private final int[] removedPositions = new int[MAX_PENDING_REMOVALS];
+    private int removedCount;
+
+    /**
+     * Creates an index over the given columns. The index must be told about every change to them.
+     *
+     * @param columns the columns whose positions are indexed
+     * @param keyFunction the sort key of the internship at a position, read from the columns
+     */
+    SortedIndex(InternshipColumns columns, IntUnaryOperator keyFunction) {
+        this.columns = columns;
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Re-sorts the index after the whole list was replaced.
+     */
+    void rebuild() {
+        size = columns.size();
+        removedCount = 0;
+        positions = new int[Math.max(INITIAL_CAPACITY, size)];
+        keys = new int[positions.length];
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = (long) keyOf(i) << Integer.SIZE | i;
+        }
+        Arrays.sort(sorted);
+        for (int i = 0; i < size; i++) {
+            positions[i] = (int) sorted[i];
+            keys[i] = (int) (sorted[i] >> Integer.SIZE);
+        }
+    }
+
+    /**
+     * Removes every position from the index.
+     */
+    void clear() {
+        positions = new int[INITIAL_CAPACITY];
+        keys = new int[INITIAL_CAPACITY];
+        size = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Indexes the internship that was just appended to the end of the list.
+     */
+    void addLast() {
+        int position = columns.size() - 1;
+        insert(keyOf(position), toStored(position));
+    }
+
+    /**
+     * Removes the internship at the given position. Must be called before it is removed from the columns.
+     * The later positions are only noted as moved, see the class description.
+     *
+     * @param position the zero-based position of the internship about to be removed
+     */
+    void remove(int position) {
+        int stored = toStored(position);
+        removeAt(indexOf(keyOf(position), stored));
+        if (position == columns.size() - 1) {
+            return; // no entry is stored after it
+        }
+
+        int index = removedCount;
+        while (index > 0 && removedPositions[index - 1] > stored) {
+            removedPositions[index] = removedPositions[index - 1];
+            index--;
+        }
+        removedPositions[index] = stored;
+        removedCount++;
+        if (removedCount == MAX_PENDING_REMOVALS) {
+            rewritePositions();
+        }
+    }
+
+    /**
+     * Moves the internship at the given position after its key changed.
+     *
+     * @param position the zero-based position of the updated internship
+     * @param oldKey the key before the update
+     */
+    void update(int position, int oldKey) {
+        int stored = toStored(position);
+        removeAt(indexOf(oldKey, stored));
+        insert(keyOf(position), stored);
+    }
+
+    /**
+     * Visits every position in key order.
+     * Internships sharing a key are visited in list order in both directions.
+     *
+     * @param isDescending whether to visit larger keys first
+     * @param action the action to run for each position
+     */
+    void forEach(boolean isDescending, IntConsumer action) {
+        iterator(isDescending).forEachRemaining(action);
+    }
+
+    /**
+     * Returns the positions in key order, one at a time.
+     * Internships sharing a key are returned in list order in both directions.
+     * The iterator reads the index directly, so it must not be used after the list changes.
+     *
+     * @param isDescending whether to return larger keys first
+     * @return an iterator over list positions
+     */
+    PrimitiveIterator.OfInt iterator(boolean isDescending) {
+        rewritePositions();
+        if (!isDescending) {
+            return new PrimitiveIterator.OfInt() {
+                private int rank;
+
+                @Override
+                public boolean hasNext() {
+                    return rank < size;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return positions[rank++];
+                }
+            };
+        }
+
+        return new PrimitiveIterator.OfInt() {
+            private int groupStart = size;
+            private int rank = size;
+            private int groupEnd = size;
+
+            @Override
+            public boolean hasNext() {
+                return rank < groupEnd || groupStart > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (rank == groupEnd) {
+                    groupEnd = groupStart;
+                    int key = keys[groupEnd - 1];
+                    groupStart = groupEnd - 1;
+                    while (groupStart > 0 && keys[groupStart - 1] == key) {
+                        groupStart--;
+                    }
+                    rank = groupStart;
+                }
+                return positions[rank++];
+            }
+        };
+    }
+
+    /**
+     * Finds the internships whose key lies in the given range.
+     *
+     * @param low the smallest key to include
+     * @param high the largest key to include
+     * @return the ranks {@code [first, end)} of those internships; they are in key order and then in list order
+     */
+    int[] findRange(int low, int high) {
+        if (low > high) {
+            return new int[] {0, 0};
+        }
+        int first = -searchFor(low, -1) - 1;
+        int end = -searchFor(high, Integer.MAX_VALUE) - 1;
+        return new int[] {first, end};
+    }
+
+    /**
+     * Returns the number of indexed positions.
+     *
+     * @return the size of the index
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the list position stored at the given rank in key order.
+     *
+     * @param rank the zero-based rank
+     * @return the list position
+     */
+    int positionAt(int rank) {
+        rewritePositions();
+        return positions[rank];
+    }
+
+    /**
+     * Returns the key stored at the given rank in key order.
+     *
+     * @param rank the zero-based rank
+     * @return the key the position at that rank is sorted by
+     */
+    int keyAt(int rank) {
+        return keys[rank];
+    }
+
+    /**
+     * Returns the position an entry for the given list position is stored at.
+     */
+    private int toStored(int position) {
+        int stored = position;
+        for (int i = 0; i < removedCount && removedPositions[i] <= stored; i++) {
+            stored++;
+        }
+        return stored;
+    }
+
+    /**
+     * Replaces every stored position with its list position, if any removal is pending.
+     */
+    private void rewritePositions() {
+        if (removedCount == 0) {
+            return;
+        }
+        // Entries are only stored below the list size plus the pending removals
+        int[] positionOf = new int[size + removedCount];
+        int removedBelow = 0;
+        for (int stored = 0; stored < positionOf.length; stored++) {
+            while (removedBelow < removedCount && removedPositions[removedBelow] < stored) {
+                removedBelow++;
+            }
+            positionOf[stored] = stored - removedBelow;
+        }
+        for (int i = 0; i < size; i++) {
+            positions[i] = positionOf[positions[i]];
+        }
+        removedCount = 0;
+    }
+
+    private void insert(int key, int position) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int index = -searchFor(key, position) - 1;
+        System.arraycopy(positions, index, positions, index + 1, size - index);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        positions[index] = position;
+        keys[index] = key;
+        size++;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        size--;
+    }
+
+    private int indexOf(int key, int position) {
+        int index = searchFor(key, position);
+        assert index >= 0 : "Position " + position + " is not indexed";
+        return index;
+    }
+
+    /**
+     * Binary searches for the given key.
+     *
+     * @return the index of the key, or {@code -(insertion point) - 1} if it is absent
+     */
+    private int searchFor(int key, int position) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compare(keys[mid], positions[mid], key, position);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int keyOf(int position) {
+        return keyFunction.applyAsInt(position);
+    }
+
+    private static int compare(int key, int position, int otherKey, int otherPosition) {
+        int comparison = Integer.compare(key, otherKey);
+        return comparison != 0 ? comparison : Integer.compare(position, otherPosition);
+    }
+}
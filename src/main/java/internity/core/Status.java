@@ -20,13 +20,50 @@ package internity.core;
  * storage, and display.
  */
 public enum Status {
-    PENDING,
-    INTERESTED,
-    APPLIED,
-    INTERVIEWING,
-    OFFER,
-    ACCEPTED,
-    REJECTED;
+    PENDING("Pending"),
+    INTERESTED("Interested"),
+    APPLIED("Applied"),
+    INTERVIEWING("Interviewing"),
+    OFFER("Offer"),
+    ACCEPTED("Accepted"),
+    REJECTED("Rejected");
+
+    private static final Status[] VALUES = values();
+
+    private final String displayName;
+
+    Status(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the Title Case name of this status, as displayed and stored.
+     *
+     * @return the display name, for example {@code "Interviewing"}
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the number of statuses, which is the length of an array indexed by ordinal.
+     *
+     * @return the number of statuses
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * Returns the status with the given ordinal without copying the array of values.
+     *
+     * @param ordinal the ordinal of the status
+     * @return the status with that ordinal
+     * @throws ArrayIndexOutOfBoundsException If no status has that ordinal.
+     */
+    public static Status ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
 
     /**
      * Checks whether the provided string corresponds to a valid {@link Status}.
@@ -36,15 +73,35 @@ public enum Status {
      * @return {@code true} if the string matches a valid status, {@code false} otherwise.
      */
     public static boolean isValid(String s) {
+        return fromString(s) != null;
+    }
+
+    /**
+     * Returns the status named by the given string, ignoring case and surrounding whitespace.
+     * No strings are allocated.
+     *
+     * @param s The status string, may be null.
+     * @return The matching status, or {@code null} if the string is not a valid status.
+     */
+    public static Status fromString(String s) {
         if (s == null) {
-            return false;
+            return null;
+        }
+        int start = 0;
+        int end = s.length();
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
         }
-        try {
-            Status.valueOf(s.trim().toUpperCase());
-            return true;
-        } catch (IllegalArgumentException ex) {
-            return false;
+        for (Status status : VALUES) {
+            String name = status.displayName;
+            if (name.length() == end - start && s.regionMatches(true, start, name, 0, name.length())) {
+                return status;
+            }
         }
+        return null;
     }
 
     /**
@@ -62,9 +119,21 @@ public enum Status {
      */
     public static String canonical(String s) {
         assert s != null : "Status string cannot be null";
-        String upper = s.trim().toUpperCase();
-        Status e = Status.valueOf(upper);
-        String lower = e.name().toLowerCase();
-        return Character.toUpperCase(lower.charAt(0)) + lower.substring(1);
+        return parse(s).displayName;
+    }
+
+    /**
+     * Returns the status named by the given string, ignoring case and surrounding whitespace.
+     *
+     * @param s The input status string (must be valid).
+     * @return The matching status.
+     * @throws IllegalArgumentException If the input does not match any valid status.
+     */
+    public static Status parse(String s) {
+        Status status = fromString(s);
+        if (status == null) {
+            throw new IllegalArgumentException("No status named " + s);
+        }
+        return status;
     }
 }
@@ -0,0 +1,192 @@
+package internity.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Assigns a small int code to every distinct company name and role.
+ *
+ * <p>
+ * Real data repeats the same few hundred companies and roles across many internships. Each
+ * {@link Internship} keeps only the codes of its company and role, so every distinct text is held
+ * in memory once however many internships use it. The loaders look up codes straight from the bytes
+ * they read, which allocates no String for a text seen before, and the find index keeps codes
+ * instead of its own lower-cased copies.
+ * </p>
+ *
+ * <p>
+ * Codes are handed out in first-seen order and are never reused, so texts that are no longer used
+ * stay in the dictionary until the program exits. Lookups that may add a code are synchronized,
+ * because files are parsed on several threads.
+ * </p>
+ */
+public final class TextDictionary {
+    /** The code of a {@code null} text. */
+    public static final int NO_CODE = -1;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static volatile String[] texts = new String[INITIAL_CAPACITY];
+    private static volatile String[] foldedTexts = new String[INITIAL_CAPACITY];
+    private static int[] hashes = new int[INITIAL_CAPACITY];
+    /** Open-addressing table of {@code code + 1}, where {@code 0} marks an empty slot. */
+    private static int[] table = new int[INITIAL_CAPACITY * 2];
+    private static int size;
+
+    private TextDictionary() {
+    }
+
+    /**
+     * Returns the code of the given text, adding it to the dictionary if it is new.
+     *
+     * @param text the text to look up, may be {@code null}
+     * @return the code of the text, or {@link #NO_CODE} for {@code null}
+     */
+    public static synchronized int codeOf(String text) {
+        if (text == null) {
+            return NO_CODE;
+        }
+        int hash = text.hashCode();
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int code = table[slot] - 1;
+            if (hashes[code] == hash && texts[code].equals(text)) {
+                return code;
+            }
+        }
+        return add(text, hash);
+    }
+
+    /**
+     * Returns the code of the ASCII text in the given bytes, adding it to the dictionary if it is new.
+     * A String is only created for a text that is not in the dictionary yet.
+     *
+     * @param bytes  the buffer holding the text
+     * @param start  the offset of the first byte of the text
+     * @param length the number of bytes in the text
+     * @return the code of the text
+     */
+    public static synchronized int codeOf(byte[] bytes, int start, int length) {
+        int hash = hashOf(bytes, start, length);
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int code = table[slot] - 1;
+            if (hashes[code] == hash && matches(code, bytes, start, length)) {
+                return code;
+            }
+        }
+        return add(new String(bytes, start, length, StandardCharsets.ISO_8859_1), hash);
+    }
+
+    /**
+     * Returns the hash that the text in the given ASCII bytes has as a String.
+     *
+     * @param bytes  the buffer holding the text
+     * @param start  the offset of the first byte of the text
+     * @param length the number of bytes in the text
+     * @return the value {@link String#hashCode()} returns for the text
+     */
+    public static int hashOf(byte[] bytes, int start, int length) {
+        int hash = 0;
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + (bytes[i] & 0xff);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns whether the text with the given code consists of exactly the given ASCII bytes.
+     *
+     * @param code   a code returned by this dictionary
+     * @param bytes  the buffer holding the text
+     * @param start  the offset of the first byte of the text
+     * @param length the number of bytes in the text
+     * @return {@code true} if the text matches the bytes
+     */
+    public static boolean matches(int code, byte[] bytes, int start, int length) {
+        String text = texts[code];
+        if (text.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) != (bytes[start + i] & 0xff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the text with the given code.
+     *
+     * @param code a code returned by this dictionary
+     * @return the text, or {@code null} for {@link #NO_CODE}
+     */
+    public static String textOf(int code) {
+        return code == NO_CODE ? null : texts[code];
+    }
+
+    /**
+     * Returns the lower-cased text with the given code, as searched by the find index.
+     *
+     * @param code a code returned by this dictionary
+     * @return the lower-cased text, or an empty String for {@link #NO_CODE}
+     */
+    static String foldedTextOf(int code) {
+        if (code == NO_CODE) {
+            return "";
+        }
+        String[] folded = foldedTexts;
+        String text = folded[code];
+        if (text == null) {
+            text = texts[code].toLowerCase();
+            folded[code] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Returns the number of distinct texts in the dictionary.
+     *
+     * @return the number of codes handed out
+     */
+    public static synchronized int size() {
+        return size;
+    }
+
+    private static int add(String text, int hash) {
+        if (size == hashes.length) {
+            grow();
+        }
+        int code = size;
+        hashes[code] = hash;
+        texts[code] = text;
+        insert(code);
+        size++;
+        return code;
+    }
+
+    private static void insert(int code) {
+        int mask = table.length - 1;
+        int slot = spread(hashes[code]) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = code + 1;
+    }
+
+    private static void grow() {
+        int capacity = hashes.length * 2;
+        hashes = Arrays.copyOf(hashes, capacity);
+        foldedTexts = Arrays.copyOf(foldedTexts, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+        table = new int[capacity * 2];
+        for (int code = 0; code < size; code++) {
+            insert(code);
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
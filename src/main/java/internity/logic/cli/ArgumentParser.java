@@ -1,13 +1,19 @@
 package internity.logic.cli;
 
+import java.util.BitSet;
 import java.util.logging.Logger;
 
 import internity.core.Date;
 import internity.core.InternityException;
+import internity.core.InternshipFilter;
 import internity.core.InternshipList;
 import internity.core.Status;
 import internity.logic.commands.AddCommand;
+import internity.logic.commands.BulkDeleteCommand;
+import internity.logic.commands.BulkUpdateCommand;
+import internity.logic.commands.Command;
 import internity.logic.commands.DeleteCommand;
+import internity.logic.commands.FilterCommand;
 import internity.logic.commands.FindCommand;
 import internity.logic.commands.ListCommand;
 import internity.logic.commands.UpdateCommand;
@@ -18,13 +24,14 @@ import internity.utils.DateFormatter;
 
 /**
  * The {@code ArgumentParser} class is responsible for parsing command-line arguments for various commands
- * such as Add, Delete, Find, Update and List.
+ * such as Add, Delete, Find, Filter, Update and List.
  *
  * <p>Supported commands include:
  * <ul>
  *      <li>{@link AddCommand}</li>
  *      <li>{@link DeleteCommand}</li>
  *      <li>{@link FindCommand}</li>
+ *      <li>{@link FilterCommand}</li>
  *      <li>{@link UpdateCommand}</li>
  *      <li>{@link ListCommand}</li>
  *      <li>{@link UsernameCommand}</li>
@@ -36,8 +43,19 @@ public final class ArgumentParser {
     private static final int IDX_ROLE = 1;
     private static final int IDX_DEADLINE = 2;
     private static final int IDX_PAY = 3;
-    private static final String PARSE_LOGIC_ADD = "\\s+(?=company/|role/|deadline/|pay/)";
-    private static final String PARSE_LOGIC_UPDATE = "\\s+(?=company/|role/|deadline/|pay/|status/)";
+    private static final String ID_TAG = "id/";
+    private static final String STATUS_TAG = "status/";
+    private static final String TRANSITION_TAG = "to/";
+    private static final String[] ADD_TAGS = {"company/", "role/", "deadline/", "pay/"};
+    private static final String[] UPDATE_TAGS = {"company/", "role/", "deadline/", "pay/", "status/"};
+    private static final String[] LIST_TAGS = {"sort/", "limit/", "page/"};
+    private static final String[] FILTER_TAGS = {"status/", "minpay/", "maxpay/", "from/", "to/", "due/"};
+    private static final int IDX_FILTER_STATUS = 0;
+    private static final int IDX_FILTER_MIN_PAY = 1;
+    private static final int IDX_FILTER_MAX_PAY = 2;
+    private static final int IDX_FILTER_FROM = 3;
+    private static final int IDX_FILTER_TO = 4;
+    private static final int IDX_FILTER_DUE = 5;
 
     private static final Logger logger = Logger.getLogger(ArgumentParser.class.getName());
 
@@ -62,8 +80,8 @@ public final class ArgumentParser {
      * <p>
      * The parsing process performs the following steps:
      * <ul>
-     *     <li>Splits the input string using the predefined delimiter
-     *         {@code PARSE_LOGIC_ADD} into exactly four parts.</li>
+     *     <li>Splits the input string before each field prefix in {@code ADD_TAGS}
+     *         into exactly four parts.</li>
      *     <li>Verifies that all required fields exist and appear in the correct order:
      *         "company/", "role/", "deadline/", and "pay/".</li>
      *     <li>Extracts the actual values for each field by removing their respective prefixes
@@ -110,7 +128,7 @@ public final class ArgumentParser {
 
         assert !args.isBlank() : "Arguments cannot be blank after validation";
 
-        String[] parts = args.split(PARSE_LOGIC_ADD);
+        String[] parts = ArgumentTokenizer.splitBeforeTags(args, ADD_TAGS);
 
         // throw exception if number of fields provided is not exactly 4
         if (parts.length != ADD_COMMAND_PARTS) {
@@ -195,17 +213,34 @@ public final class ArgumentParser {
 
     /**
      * Parses the arguments for Delete Command to create an {@link DeleteCommand} instance.
+     * The internship is given either by its one-based index or as {@code id/ID}.
+     *
+     * <p>
+     * Several internships can be deleted at once with a {@link BulkDeleteCommand}, given either as
+     * one-based indices and index ranges such as {@code 3-40,57}, or by the conditions accepted by
+     * the {@code filter} command, such as {@code status/Rejected}.
+     * </p>
      *
      * @param args arguments for {@link DeleteCommand}
-     * @return an instance of {@link DeleteCommand} constructed from the parsed arguments.
+     * @return an instance of {@link DeleteCommand} or {@link BulkDeleteCommand} constructed from the parsed arguments.
      * @throws InternityException if the arguments are missing or invalid.
      */
-    public static DeleteCommand parseDeleteCommandArgs(String args) throws InternityException {
+    public static Command parseDeleteCommandArgs(String args) throws InternityException {
         if (args == null || args.isBlank()) {
             throw InternityException.invalidDeleteCommand();
         }
+        String target = args.trim();
+        if (filterTagIndex(target) >= 0) {
+            return new BulkDeleteCommand(parseFilter(target));
+        }
+        if (target.startsWith(ID_TAG)) {
+            return new DeleteCommand(resolveId(target, InternityException.invalidInternshipIndex()));
+        }
+        if (isIndexSelection(target)) {
+            return new BulkDeleteCommand(parseIndexSelection(target));
+        }
         try {
-            int oneBasedIndex = Integer.parseInt(args.trim());
+            int oneBasedIndex = Integer.parseInt(target);
 
             int zeroBasedIndex = oneBasedIndex - 1;
 
@@ -216,6 +251,35 @@ public final class ArgumentParser {
         }
     }
 
+    /**
+     * Resolves an {@code id/ID} token to the current zero-based index of that internship.
+     *
+     * @param token the token starting with {@code id/}
+     * @param invalidFormat the exception to throw if the ID is not a positive number
+     * @return the zero-based index of the internship
+     * @throws InternityException if the ID is malformed, a list or range, or no internship has it
+     */
+    private static int resolveId(String token, InternityException invalidFormat) throws InternityException {
+        String value = valueAfterTag(token, ID_TAG);
+        if (isIndexSelection(value)) {
+            throw InternityException.invalidIdSelection(token);
+        }
+        long id;
+        try {
+            id = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw invalidFormat;
+        }
+        if (id <= 0) {
+            throw invalidFormat;
+        }
+        int index = InternshipList.indexOfId(id);
+        if (index < 0) {
+            throw InternityException.unknownInternshipId(id);
+        }
+        return index;
+    }
+
     /**
      * Parses the arguments provided for the {@link FindCommand} and constructs a corresponding
      * {@code FindCommand} instance.
@@ -236,30 +300,188 @@ public final class ArgumentParser {
         return new FindCommand(args);
     }
 
+    /**
+     * Parses the arguments for Filter Command to create a {@link FilterCommand} instance.
+     *
+     * <p>
+     * The arguments are any of {@code status/STATUS}, {@code minpay/PAY}, {@code maxpay/PAY},
+     * {@code from/DATE}, {@code to/DATE} and {@code due/DAYS}, each at most once and in any order.
+     * {@code due/DAYS} selects deadlines from today to {@code DAYS} days from today and cannot be
+     * combined with {@code from/} or {@code to/}.
+     * </p>
+     *
+     * @param args arguments for {@link FilterCommand}
+     * @return an instance of {@link FilterCommand} constructed from the parsed arguments.
+     * @throws InternityException if no condition is given or any condition is invalid.
+     */
+    public static FilterCommand parseFilterCommandArgs(String args) throws InternityException {
+        if (args == null || args.isBlank()) {
+            throw InternityException.invalidFilterCommand();
+        }
+        return new FilterCommand(parseFilter(args));
+    }
+
+    private static InternshipFilter parseFilter(String args) throws InternityException {
+        String[] values = new String[FILTER_TAGS.length];
+        for (String part : ArgumentTokenizer.splitBeforeTags(args.trim(), FILTER_TAGS)) {
+            int tagIndex = filterTagIndex(part);
+            if (tagIndex < 0 || values[tagIndex] != null) {
+                throw InternityException.invalidFilterCommand();
+            }
+            values[tagIndex] = valueAfterTag(part, FILTER_TAGS[tagIndex]);
+        }
+
+        InternshipFilter filter = InternshipFilter.all();
+        String status = values[IDX_FILTER_STATUS];
+        if (status != null) {
+            if (!Status.isValid(status)) {
+                throw InternityException.invalidStatus(status);
+            }
+            filter = filter.withStatus(Status.fromString(status));
+        }
+        String minPay = values[IDX_FILTER_MIN_PAY];
+        String maxPay = values[IDX_FILTER_MAX_PAY];
+        if (minPay != null || maxPay != null) {
+            filter = filter.withPayBetween(parseFilterNumber(minPay), parseFilterNumber(maxPay));
+        }
+        Date from = values[IDX_FILTER_FROM] == null ? null : DateFormatter.parse(values[IDX_FILTER_FROM]);
+        Date to = values[IDX_FILTER_TO] == null ? null : DateFormatter.parse(values[IDX_FILTER_TO]);
+        if (values[IDX_FILTER_DUE] != null) {
+            if (from != null || to != null) {
+                throw InternityException.invalidFilterCommand();
+            }
+            Date today = Date.getToday();
+            from = today;
+            try {
+                to = Date.ofEpochDay(Math.addExact(today.toEpochDay(), parseFilterNumber(values[IDX_FILTER_DUE])));
+            } catch (ArithmeticException e) {
+                throw InternityException.invalidFilterCommand();
+            }
+        }
+        if (from != null || to != null) {
+            filter = filter.withDeadlineBetween(from, to);
+        }
+        return filter;
+    }
+
+    /**
+     * Returns whether the token lists several indices or index ranges, such as {@code 3-40,57}.
+     */
+    private static boolean isIndexSelection(String token) {
+        return token.indexOf(',') >= 0 || token.indexOf('-') > 0;
+    }
+
+    /**
+     * Parses one-based indices and inclusive index ranges separated by commas, such as {@code 3-40,57}.
+     *
+     * @param selection the indices and ranges
+     * @return the selected zero-based indices in ascending order without duplicates
+     * @throws InternityException if an index is malformed or outside the list
+     */
+    private static int[] parseIndexSelection(String selection) throws InternityException {
+        BitSet selected = new BitSet(InternshipList.size());
+        for (String part : selection.split(",")) {
+            String range = part.trim();
+            int dash = range.indexOf('-', 1);
+            int first;
+            int last;
+            try {
+                first = Integer.parseInt(dash < 0 ? range : range.substring(0, dash).trim());
+                last = dash < 0 ? first : Integer.parseInt(range.substring(dash + 1).trim());
+            } catch (NumberFormatException e) {
+                throw InternityException.invalidIndexSelection(selection);
+            }
+            if (first < 1 || last < first || last > InternshipList.size()) {
+                throw InternityException.invalidIndexSelection(selection);
+            }
+            selected.set(first - 1, last);
+        }
+        return selected.stream().toArray();
+    }
+
+    private static int filterTagIndex(String part) {
+        for (int i = 0; i < FILTER_TAGS.length; i++) {
+            if (part.startsWith(FILTER_TAGS[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Integer parseFilterNumber(String value) throws InternityException {
+        if (value == null) {
+            return null;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidFilterCommand();
+        }
+        if (number < 0) {
+            throw InternityException.invalidFilterCommand();
+        }
+        return number;
+    }
+
     /**
      * Parses the arguments for Update Command to create an {@link UpdateCommand} instance.
+     * The internship is given either by its one-based index or as {@code id/ID}.
+     *
+     * <p>
+     * Several internships can be updated at once with a {@link BulkUpdateCommand}, given either as
+     * one-based indices and index ranges such as {@code update 3-40,57 pay/5000}, or as a status
+     * transition such as {@code update status/Applied to/Interviewing}.
+     * </p>
      *
      * @param args arguments for {@link UpdateCommand}
-     * @return an instance of {@link UpdateCommand} constructed from the parsed arguments.
+     * @return an instance of {@link UpdateCommand} or {@link BulkUpdateCommand} constructed from the parsed arguments.
      * @throws InternityException if the arguments are missing or invalid.
      */
-    public static UpdateCommand parseUpdateCommandArgs(String args) throws InternityException {
+    public static Command parseUpdateCommandArgs(String args) throws InternityException {
         String trimmed = requireArgs(args);
         String[] idxAndTagged = splitIndexAndTagged(trimmed);
-        int index = parseOneBasedIndex(idxAndTagged[0]);
+        if (idxAndTagged[0].startsWith(STATUS_TAG)) {
+            return parseStatusTransition(idxAndTagged[0], idxAndTagged[1]);
+        }
+        if (!idxAndTagged[0].startsWith(ID_TAG) && isIndexSelection(idxAndTagged[0])) {
+            int[] indices = parseIndexSelection(idxAndTagged[0]);
+            UpdateFields fields = parseUpdateFields(requireTagged(idxAndTagged[1]));
+            return new BulkUpdateCommand(indices, fields.company, fields.role, fields.deadline, fields.pay,
+                    fields.status);
+        }
 
+        int index = parseOneBasedIndex(idxAndTagged[0]);
         if (index < 0 || index >= InternshipList.size()) {
             throw InternityException.invalidInternshipIndex();
         }
 
-        String tagged = requireTagged(idxAndTagged[1]);
+        UpdateFields fields = parseUpdateFields(requireTagged(idxAndTagged[1]));
+        return new UpdateCommand(index, fields.company, fields.role, fields.deadline, fields.pay, fields.status);
+    }
 
-        String[] parts = tagged.split(PARSE_LOGIC_UPDATE);
-        String company = null;
-        String role = null;
-        Date deadline = null;
-        Integer pay = null;
-        String status = null;
+    /**
+     * Parses {@code status/OLD to/NEW}, which moves every internship with status {@code OLD} to {@code NEW}.
+     */
+    private static BulkUpdateCommand parseStatusTransition(String fromToken, String toToken)
+            throws InternityException {
+        if (!toToken.startsWith(TRANSITION_TAG)) {
+            throw InternityException.invalidUpdateFormat();
+        }
+        String from = valueAfterTag(fromToken, STATUS_TAG);
+        String to = valueAfterTag(toToken, TRANSITION_TAG);
+        if (!Status.isValid(from)) {
+            throw InternityException.invalidStatus(from);
+        }
+        if (!Status.isValid(to)) {
+            throw InternityException.invalidStatus(to);
+        }
+        return new BulkUpdateCommand(InternshipFilter.all().withStatus(Status.fromString(from)), to);
+    }
+
+    private static UpdateFields parseUpdateFields(String tagged) throws InternityException {
+        String[] parts = ArgumentTokenizer.splitBeforeTags(tagged, UPDATE_TAGS);
+        UpdateFields fields = new UpdateFields();
 
         try {
             for (String part : parts) {
@@ -268,44 +490,44 @@ public final class ArgumentParser {
                     continue;
                 }
                 if (p.startsWith("company/")) {
-                    company = valueAfterTag(p, "company/");
-                    if (company.isEmpty()) {
+                    fields.company = valueAfterTag(p, "company/");
+                    if (fields.company.isEmpty()) {
                         logger.severe("Company name is empty.");
                         throw InternityException.emptyField("Company");
                     }
-                    if (company.length() > Ui.COMPANY_MAXLEN) {
+                    if (fields.company.length() > Ui.COMPANY_MAXLEN) {
                         logger.severe("Company name exceeded max length.");
                         throw InternityException.exceedFieldLength("Company",
                                 Ui.COMPANY_MAXLEN,
-                                company.length());
+                                fields.company.length());
                     }
                 } else if (p.startsWith("role/")) {
-                    role = valueAfterTag(p, "role/");
-                    if (role.isEmpty()) {
+                    fields.role = valueAfterTag(p, "role/");
+                    if (fields.role.isEmpty()) {
                         logger.severe("Role is empty.");
                         throw InternityException.emptyField("Role");
                     }
-                    if (role.length() > Ui.ROLE_MAXLEN) {
+                    if (fields.role.length() > Ui.ROLE_MAXLEN) {
                         logger.severe("Role exceeded max length.");
-                        throw InternityException.exceedFieldLength("Role", Ui.ROLE_MAXLEN, role.length());
+                        throw InternityException.exceedFieldLength("Role", Ui.ROLE_MAXLEN, fields.role.length());
                     }
                 } else if (p.startsWith("deadline/")) {
                     String d = valueAfterTag(p, "deadline/");
-                    deadline = DateFormatter.parse(d);
+                    fields.deadline = DateFormatter.parse(d);
                 } else if (p.startsWith("pay/")) {
                     String payStr = valueAfterTag(p, "pay/");
                     int payVal = Integer.parseInt(payStr);
                     if (payVal < 0) {
                         throw new NumberFormatException();
                     }
-                    pay = payVal;
+                    fields.pay = payVal;
                 } else if (p.startsWith("status/")) {
-                    status = valueAfterTag(p, "status/");
-                    if (status.isEmpty()) {
+                    fields.status = valueAfterTag(p, "status/");
+                    if (fields.status.isEmpty()) {
                         throw InternityException.emptyField("status/");
                     }
-                    if (!Status.isValid(status)) {
-                        throw InternityException.invalidStatus(status);
+                    if (!Status.isValid(fields.status)) {
+                        throw InternityException.invalidStatus(fields.status);
                     }
                 } else {
                     throw InternityException.unknownUpdateField(p);
@@ -315,16 +537,23 @@ public final class ArgumentParser {
             throw InternityException.invalidPayFormat();
         }
 
-        if (company == null && role == null && deadline == null && pay == null && status == null) {
+        if (fields.company == null && fields.role == null && fields.deadline == null && fields.pay == null
+                && fields.status == null) {
             throw InternityException.noUpdateFieldsProvided();
         }
 
-        return new UpdateCommand(index, company, role, deadline, pay, status);
+        return fields;
     }
 
     /**
      * Parses the arguments for List Command to create an {@link ListCommand} instance.
      *
+     * <p>
+     * The arguments are any of {@code sort/asc} or {@code sort/desc}, {@code limit/LIMIT} and
+     * {@code page/PAGE}, each at most once and in any order. A page without a limit uses
+     * {@link ListCommand#DEFAULT_PAGE_SIZE}.
+     * </p>
+     *
      * @param args arguments for {@link ListCommand}
      * @return an instance of ListCommand constructed from the parsed arguments.
      *      Returns a default ListCommand if no arguments are provided.
@@ -335,25 +564,51 @@ public final class ArgumentParser {
             return new ListCommand(ListCommand.OrderType.DEFAULT); // Default order
         }
 
-        if (!args.startsWith("sort/")) {
-            throw InternityException.invalidListCommand();
+        ListCommand.OrderType order = null;
+        int limit = -1;
+        int page = -1;
+        for (String part : ArgumentTokenizer.splitBeforeTags(args.trim(), LIST_TAGS)) {
+            if (part.startsWith("sort/") && order == null) {
+                order = parseSortOrder(valueAfterTag(part, "sort/"));
+            } else if (part.startsWith("limit/") && limit < 0) {
+                limit = parsePositiveListValue(valueAfterTag(part, "limit/"));
+            } else if (part.startsWith("page/") && page < 0) {
+                page = parsePositiveListValue(valueAfterTag(part, "page/"));
+            } else {
+                throw InternityException.invalidListCommand();
+            }
         }
 
-        String[] splitArgs = args.split("\\s+sort/");
-        if (splitArgs.length > 1) {
-            throw InternityException.invalidListCommand();
+        if (page > 0 && limit < 0) {
+            limit = ListCommand.DEFAULT_PAGE_SIZE;
         }
+        return new ListCommand(order == null ? ListCommand.OrderType.DEFAULT : order,
+                limit < 0 ? ListCommand.NO_LIMIT : limit, page < 0 ? 1 : page);
+    }
 
-        String order = splitArgs[0].substring("sort/".length()).trim();
+    private static ListCommand.OrderType parseSortOrder(String order) throws InternityException {
         if (order.equals("asc")) {
-            return new ListCommand(ListCommand.OrderType.ASCENDING);
+            return ListCommand.OrderType.ASCENDING;
         } else if (order.equals("desc")) {
-            return new ListCommand(ListCommand.OrderType.DESCENDING);
+            return ListCommand.OrderType.DESCENDING;
         } else {
             throw InternityException.invalidListCommand();
         }
     }
 
+    private static int parsePositiveListValue(String value) throws InternityException {
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidListCommand();
+        }
+        if (number <= 0) {
+            throw InternityException.invalidListCommand();
+        }
+        return number;
+    }
+
     private static String requireArgs(String args) throws InternityException {
         if (args == null || args.isBlank()) {
             throw InternityException.invalidUpdateFormat();
@@ -379,6 +634,9 @@ public final class ArgumentParser {
     }
 
     private static int parseOneBasedIndex(String indexToken) throws InternityException {
+        if (indexToken.startsWith(ID_TAG)) {
+            return resolveId(indexToken, InternityException.invalidIndexForUpdate());
+        }
         try {
             return Integer.parseInt(indexToken) - 1;
         } catch (NumberFormatException e) {
@@ -403,4 +661,15 @@ public final class ArgumentParser {
         }
         return new UsernameCommand(args);
     }
+
+    /**
+     * The fields given to an update command; a {@code null} field is left unchanged.
+     */
+    private static class UpdateFields {
+        private String company;
+        private String role;
+        private Date deadline;
+        private Integer pay;
+        private String status;
+    }
 }
@@ -0,0 +1,101 @@
+package internity.logic.cli;
+
+import java.util.ArrayList;
+
+/**
+ * Splits command input with hand-written single-pass scans instead of regular expressions.
+ *
+ * <p>
+ * {@link String#split(String)} with a look-ahead pattern compiles the pattern and runs a regex
+ * matcher on every call. The scans here walk the input once, compare tags in place with
+ * {@link String#startsWith(String, int)}, and only allocate the resulting substrings.
+ * They treat the same characters as whitespace as the regex class {@code \s}.
+ * </p>
+ */
+final class ArgumentTokenizer {
+    private ArgumentTokenizer() {
+    }
+
+    /**
+     * Splits the arguments at every run of whitespace that is directly followed by one of the tags.
+     * The result is the same as {@code args.split("\\s+(?=tag1|tag2|...)")}: the tags stay at the start
+     * of their parts, and a leading empty part is kept if the arguments start with such a run.
+     *
+     * @param args the arguments to split
+     * @param tags the tags that start a new part, such as {@code "company/"}
+     * @return the parts in input order
+     */
+    static String[] splitBeforeTags(String args, String[] tags) {
+        ArrayList<String> parts = null;
+        int partStart = 0;
+        int length = args.length();
+        int i = 0;
+        while (i < length) {
+            if (!isWhitespace(args.charAt(i))) {
+                i++;
+                continue;
+            }
+            int runEnd = skipWhitespace(args, i);
+            if (startsWithTag(args, runEnd, tags)) {
+                if (parts == null) {
+                    parts = new ArrayList<>(tags.length);
+                }
+                parts.add(args.substring(partStart, i));
+                partStart = runEnd;
+            }
+            i = runEnd;
+        }
+        if (parts == null) {
+            return new String[] {args};
+        }
+        parts.add(args.substring(partStart));
+        return parts.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the index of the first whitespace character at or after the given index.
+     *
+     * @param text the text to scan
+     * @param from the index to start at
+     * @return the index of the whitespace character, or -1 if there is none
+     */
+    static int indexOfWhitespace(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first character at or after the given index that is not whitespace.
+     *
+     * @param text the text to scan
+     * @param from the index to start at
+     * @return the index of that character, or the length of the text if only whitespace follows
+     */
+    static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns whether the character is in the regex class {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static boolean startsWithTag(String text, int offset, String[] tags) {
+        for (String tag : tags) {
+            if (text.startsWith(tag, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -6,6 +6,7 @@ import internity.logic.commands.Command;
 import internity.logic.commands.DashboardCommand;
 import internity.logic.commands.DeleteCommand;
 import internity.logic.commands.ExitCommand;
+import internity.logic.commands.FilterCommand;
 import internity.logic.commands.FindCommand;
 import internity.logic.commands.ListCommand;
 import internity.logic.commands.UpdateCommand;
@@ -27,6 +28,7 @@ import internity.logic.commands.HelpCommand;
  *   <li>{@link AddCommand}</li>
  *   <li>{@link DeleteCommand}</li>
  *   <li>{@link FindCommand}</li>
+ *   <li>{@link FilterCommand}</li>
  *   <li>{@link UpdateCommand}</li>
  *   <li>{@link ListCommand}</li>
  *   <li>{@link UsernameCommand}</li>
@@ -58,6 +60,8 @@ public class CommandFactory {
             return ArgumentParser.parseDeleteCommandArgs(args);
         case "find":
             return ArgumentParser.parseFindCommandArgs(args);
+        case "filter":
+            return ArgumentParser.parseFilterCommandArgs(args);
         case "update":
             return ArgumentParser.parseUpdateCommandArgs(args);
         case "list":
@@ -19,6 +19,7 @@ import internity.core.InternityException;
  */
 public class CommandParser {
     private static final Logger logger = Logger.getLogger(CommandParser.class.getName());
+    private static final CommandFactory COMMAND_FACTORY = new CommandFactory();
 
     static {
         logger.setLevel(Level.WARNING);
@@ -27,6 +28,7 @@ public class CommandParser {
     /**
      * Parses the given input string and returns the corresponding {@link Command}. <br>
      * The first token (before the first space) is treated as the command keyword.
+     * The input is split with a single scan, and one {@link CommandFactory} is shared by every call.
      *
      * @param input raw user input
      * @return a {@link Command} corresponding to the input
@@ -41,19 +43,18 @@ public class CommandParser {
 
         assert !input.isBlank() : "Input should not be blank after validation";
 
-        String[] parts = input.trim().split("\\s+", 2);
-        assert parts.length >= 1 : "Splitting input should result in at least one part";
+        String trimmed = input.trim();
+        int commandEnd = ArgumentTokenizer.indexOfWhitespace(trimmed, 0);
 
-        String commandWord = parts[0].toLowerCase();
-        String args = parts.length > 1 ? parts[1] : "";
+        String commandWord = (commandEnd < 0 ? trimmed : trimmed.substring(0, commandEnd)).toLowerCase();
+        String args = commandEnd < 0 ? "" : trimmed.substring(ArgumentTokenizer.skipWhitespace(trimmed, commandEnd));
 
         logger.fine(() -> "Parsed command: \"" + commandWord + "\" with args: \"" + args + "\"");
 
         assert !commandWord.isBlank() : "Command keyword must not be blank";
         assert args != null : "Args should never be null (may be empty string)";
 
-        CommandFactory commandFactory = new CommandFactory();
-        Command command = commandFactory.createCommand(commandWord, args);
+        Command command = COMMAND_FACTORY.createCommand(commandWord, args);
 
         logger.fine(() -> "Parsed command: \"" + commandWord + "\" with args: \"" + args + "\"");
 
@@ -78,7 +79,8 @@ public class CommandParser {
      * @throws InternityException if the input contains non-printable ASCII characters
      */
     public void validateValidAscii(String input) throws InternityException {
-        for (char c : input.toCharArray()) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
             if (c < 32 || c > 126) { // non-printable ASCII or Unicode
                 logger.warning("Input contains invalid character: " + c);
                 throw InternityException.invalidCharacter(c);
@@ -76,4 +76,14 @@ public class AddCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Indicates that this command modifies saved data.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
@@ -0,0 +1,89 @@
+package internity.logic.commands;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipFilter;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that deletes several internships at once.
+ *
+ * <p>
+ * The internships are given either as a list of indices and index ranges, or by conditions
+ * on their status, pay and deadline:
+ * <pre>
+ *     delete 3-40,57
+ *     delete status/Rejected
+ * </pre>
+ * All selected internships are removed in one pass over the list, so the change is also
+ * saved in a single write.
+ * </p>
+ */
+public class BulkDeleteCommand extends Command {
+    private static final Logger logger = Logger.getLogger(BulkDeleteCommand.class.getName());
+
+    private final int[] indices;
+    private final InternshipFilter filter;
+
+    /**
+     * Constructs a {@code BulkDeleteCommand} that deletes the internships at the given indices.
+     *
+     * @param indices the zero-based indices in ascending order without duplicates
+     */
+    public BulkDeleteCommand(int[] indices) {
+        this.indices = indices;
+        this.filter = null;
+    }
+
+    /**
+     * Constructs a {@code BulkDeleteCommand} that deletes every internship meeting the filter.
+     *
+     * @param filter the conditions an internship must meet to be deleted
+     */
+    public BulkDeleteCommand(InternshipFilter filter) {
+        this.indices = null;
+        this.filter = filter;
+    }
+
+    /**
+     * Executes the command by deleting every selected internship and printing how many were removed.
+     *
+     * @throws InternityException if an index is out of bounds
+     */
+    @Override
+    public void execute() throws InternityException {
+        int[] selected = filter == null ? indices : InternshipList.filterPositions(filter);
+        if (selected.length == 0) {
+            Ui.printNoInternshipMatchesFilter();
+            return;
+        }
+
+        List<Internship> deleted = InternshipList.deleteAll(selected);
+        Ui.printRemoveInternships(deleted.size(), InternshipList.size());
+        logger.info("Bulk delete removed " + deleted.size() + " internships.");
+    }
+
+    /**
+     * Indicates whether this command should exit the application.
+     *
+     * @return {@code false}, as the delete command does not exit the application.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Indicates that this command modifies saved data.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+}
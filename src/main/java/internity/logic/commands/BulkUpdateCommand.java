@@ -0,0 +1,109 @@
+package internity.logic.commands;
+
+import java.util.logging.Logger;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.InternshipFilter;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that applies the same changes to several internships at once.
+ *
+ * <p>
+ * The internships are given either as a list of indices and index ranges followed by the fields
+ * to change, or as a status transition that moves every internship with one status to another:
+ * <pre>
+ *     update 3-40,57 pay/5000
+ *     update status/Applied to/Interviewing
+ * </pre>
+ * Every sorted index affected by the changes is rebuilt once, and the change is saved in a single write.
+ * </p>
+ */
+public class BulkUpdateCommand extends Command {
+    private static final Logger logger = Logger.getLogger(BulkUpdateCommand.class.getName());
+
+    private final int[] indices;
+    private final InternshipFilter filter;
+    private final String company;
+    private final String role;
+    private final Date deadline;
+    private final Integer pay;
+    private final String status;
+
+    /**
+     * Constructs a {@code BulkUpdateCommand} that updates the internships at the given indices.
+     *
+     * @param indices  the zero-based indices of the internships to update
+     * @param company  the new company name, or {@code null} if unchanged
+     * @param role     the new role, or {@code null} if unchanged
+     * @param deadline the new application deadline, or {@code null} if unchanged
+     * @param pay      the new pay amount, or {@code null} if unchanged
+     * @param status   the new internship status, or {@code null} if unchanged
+     */
+    public BulkUpdateCommand(int[] indices, String company, String role, Date deadline, Integer pay,
+            String status) {
+        this.indices = indices;
+        this.filter = null;
+        this.company = company;
+        this.role = role;
+        this.deadline = deadline;
+        this.pay = pay;
+        this.status = status;
+    }
+
+    /**
+     * Constructs a {@code BulkUpdateCommand} that sets the status of every internship meeting the filter.
+     *
+     * @param filter the conditions an internship must meet to be updated
+     * @param status the new internship status
+     */
+    public BulkUpdateCommand(InternshipFilter filter, String status) {
+        this.indices = null;
+        this.filter = filter;
+        this.company = null;
+        this.role = null;
+        this.deadline = null;
+        this.pay = null;
+        this.status = status;
+    }
+
+    /**
+     * Executes the command by updating every selected internship and printing how many were changed.
+     *
+     * @throws InternityException if an index is out of bounds
+     */
+    @Override
+    public void execute() throws InternityException {
+        int[] selected = filter == null ? indices : InternshipList.filterPositions(filter);
+        if (selected.length == 0) {
+            Ui.printNoInternshipMatchesFilter();
+            return;
+        }
+
+        InternshipList.updateAll(selected, company, role, deadline, pay, status);
+        Ui.printUpdateInternships(selected.length);
+        logger.info("Bulk update changed " + selected.length + " internships.");
+    }
+
+    /**
+     * Indicates whether this command should exit the application.
+     *
+     * @return {@code false}, as the update command does not exit the application.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Indicates that this command modifies saved data.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+}
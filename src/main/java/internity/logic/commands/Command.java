@@ -12,6 +12,8 @@ import internity.core.InternityException;
  *     <li>{@link #execute()} - performs the action defined by the command</li>
  *     <li>{@link #isExit()} - indicates whether the command ends the program</li>
  * </ul>
+ * Commands that change the internship list or username should also override
+ * {@link #isMutating()} so that their changes are saved.
  * </p>
  *
  * <p>This design follows the <b>Command Pattern</b>,
@@ -29,4 +31,14 @@ public abstract class Command {
      * @return {@code true} if the command exits the program, {@code false} otherwise
      */
     public abstract boolean isExit();
+
+    /**
+     * Determines whether this command may modify the internship list or username.
+     * Storage is only written after commands that return {@code true}.
+     *
+     * @return {@code true} if the command may change saved data, {@code false} otherwise
+     */
+    public boolean isMutating() {
+        return false;
+    }
 }
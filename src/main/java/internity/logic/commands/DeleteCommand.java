@@ -62,8 +62,14 @@ public class DeleteCommand extends Command {
     public boolean isExit() {
         return false;
     }
-}
-
-
-
 
+    /**
+     * Indicates that this command modifies saved data.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+}
@@ -1,13 +1,15 @@
 package internity.logic.commands;
 
+import internity.core.InternityException;
+import internity.core.InternshipList;
 import internity.ui.Ui;
 
 /**
  * Represents the {@code exit} command, which terminates the program.
  *
  * <p>
- * When executed, it prints an exit message and signals that the
- * program should exit.
+ * When executed, it waits until all changes have been written to storage,
+ * prints an exit message and signals that the program should exit.
  * </p>
  * <p>Usage: {@code exit}</p>
  */
@@ -15,11 +17,17 @@ public class ExitCommand extends Command {
     /**
      * Executes the {@code exit} command.
      * <p>
-     * Prints an exit message.
+     * Waits for pending saves to reach the disk, then prints an exit message.
+     * A failed save is reported as a warning, since the program exits either way.
      * </p>
      */
     @Override
     public void execute() {
+        try {
+            InternshipList.flushStorage();
+        } catch (InternityException e) {
+            Ui.printSaveWarning(e.getMessage());
+        }
         Ui.printExit();
     }
 
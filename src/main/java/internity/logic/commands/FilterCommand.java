@@ -0,0 +1,60 @@
+package internity.logic.commands;
+
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.core.InternshipFilter;
+import internity.core.InternshipList;
+
+/**
+ * Represents a command that lists the internships meeting every given condition
+ * on their status, pay and deadline.
+ *
+ * <p>
+ * The command parses a user input string in the following format:
+ * <pre>
+ *     filter [status/STATUS] [minpay/PAY] [maxpay/PAY] [from/DATE] [to/DATE] [due/DAYS]
+ * </pre>
+ * Example:
+ * <pre>
+ *     filter status/Interviewing minpay/3000 due/14
+ * </pre>
+ * </p>
+ */
+public class FilterCommand extends Command {
+    private static final Logger logger = Logger.getLogger(FilterCommand.class.getName());
+
+    private final InternshipFilter filter;
+
+    /**
+     * Constructs a {@code FilterCommand} with the conditions to filter internships by.
+     *
+     * @param filter the conditions an internship must meet to be listed.
+     */
+    public FilterCommand(InternshipFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Executes the filter command by listing the internships in the {@link InternshipList}
+     * that meet every condition of the filter.
+     *
+     * @throws InternityException if an error occurs while executing the filter command.
+     */
+    @Override
+    public void execute() throws InternityException {
+        logger.info("Executing filter command");
+        InternshipList.filterInternships(filter);
+        logger.info("Filter command executed successfully.");
+    }
+
+    /**
+     * Indicates that this command does not terminate the program.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -10,9 +10,11 @@ import internity.core.InternshipList;
  * as a formatted table.
  * <br>
  * Command format:
- * {@code list [sort/asc|sort/desc]}
+ * {@code list [sort/asc|sort/desc] [limit/LIMIT] [page/PAGE]}
  *
  * Sorting is non-persistent: the underlying list order is not modified.
+ * With {@code limit/}, only one page of {@code LIMIT} internships is printed; {@code page/} selects
+ * which page, counting from 1.
  */
 public class ListCommand extends Command {
     public enum OrderType {
@@ -21,23 +23,45 @@ public class ListCommand extends Command {
         DESCENDING
     }
 
+    /** Limit meaning that every internship is listed. */
+    public static final int NO_LIMIT = 0;
+    /** Page size used when a page is requested without a limit. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
     private static final Logger logger = Logger.getLogger(ListCommand.class.getName());
     OrderType order;
+    private final int limit;
+    private final int page;
 
     public ListCommand(OrderType o) {
+        this(o, NO_LIMIT, 1);
+    }
+
+    /**
+     * Creates a list command that prints one page of internships.
+     *
+     * @param o     the display order
+     * @param limit the number of internships per page, or {@link #NO_LIMIT} to list all
+     * @param page  the one-based page number
+     */
+    public ListCommand(OrderType o, int limit, int page) {
+        assert limit >= 0 && page >= 1 : "Limit must not be negative and page must be positive";
         order = o;
+        this.limit = limit;
+        this.page = page;
     }
 
     /**
      * Executes the {@code list} command.
      * <p>
-     * Prints a formatted table with all internship applications.
+     * Prints a formatted table with all internship applications, or only the requested page.
      * </p>
      */
     @Override
     public void execute() throws InternityException {
         logger.info("Executing list command");
-        InternshipList.listAll(order);
+        long offset = (long) (page - 1) * limit;
+        InternshipList.listPage(order, (int) Math.min(offset, Integer.MAX_VALUE), limit);
         logger.info("List command executed successfully.");
     }
 
@@ -83,7 +83,8 @@ public class UpdateCommand extends Command {
                 internship.getRole(),
                 internship.getDeadline(),
                 internship.getPay());
-        oldInternship.setStatus(internship.getStatus());
+        oldInternship.setStatus(internship.getStatusValue());
+        oldInternship.setId(internship.getId());
         if (company != null) {
             InternshipList.updateCompany(index, company);
             isUpdated = true;
@@ -121,4 +122,14 @@ public class UpdateCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Indicates that this command modifies saved data.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
@@ -68,4 +68,14 @@ public class UsernameCommand extends Command {
         LOGGER.log(Level.FINEST, "isExit() called on UsernameCommand");
         return false;
     }
+
+    /**
+     * Indicates that this command modifies saved data.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
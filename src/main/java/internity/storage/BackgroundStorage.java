@@ -0,0 +1,218 @@
+package internity.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+
+/**
+ * Wraps another storage so that saves are written to disk on a background thread.
+ *
+ * <p>
+ * {@link #save(ArrayList)} only takes what the wrapped storage needs to write, which is an immutable
+ * {@link SnapshotList} snapshot for {@link Storage} and the recorded journal entries for {@link JournaledStorage},
+ * and hands it to the writer thread. The input thread therefore never waits for the disk.
+ * </p>
+ *
+ * <p>
+ * Saves handed over while the writer is busy are merged into one {@link PendingWrite}, so a burst of
+ * commands costs one write of the latest state instead of one write per command. {@link #flush()} is the
+ * barrier that waits for every handed over save to be written, and {@link #close()} flushes before
+ * stopping the writer.
+ * </p>
+ *
+ * <p>
+ * A write that fails is kept and merged with later saves, so nothing is lost. The failure is reported by
+ * the next {@link #save(ArrayList)}, which also retries the write, or by {@link #flush()}.
+ * </p>
+ */
+public class BackgroundStorage extends Storage {
+    private static final Logger logger = Logger.getLogger(BackgroundStorage.class.getName());
+
+    static {
+        logger.setLevel(Level.WARNING);
+    }
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    // Guarded by this
+    private PendingWrite pending;
+    private boolean isWriting;
+    private IOException failure;
+
+    /**
+     * Creates a background storage that writes through the given storage.
+     *
+     * @param storage The storage that loads the data and writes each save.
+     */
+    public BackgroundStorage(Storage storage) {
+        super(storage.filePath.toString(), storage.format);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "internity-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public ArrayList<Internship> load() throws InternityException {
+        return storage.load();
+    }
+
+    @Override
+    public String readUsername() throws InternityException {
+        return storage.readUsername();
+    }
+
+    /**
+     * Hands the changes since the last save to the writer thread and returns without waiting for the disk.
+     *
+     * @param internships The current list of internships.
+     * @throws InternityException If an earlier save could not be written; it is retried together with this one.
+     */
+    @Override
+    public void save(ArrayList<Internship> internships) throws InternityException {
+        assert internships != null : "Internships list cannot be null";
+
+        PendingWrite write = storage.prepareSave(internships);
+        IOException earlierFailure;
+        synchronized (this) {
+            pending = pending == null ? write : pending.followedBy(write);
+            earlierFailure = failure;
+            failure = null;
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writePending);
+            }
+        }
+
+        if (earlierFailure != null) {
+            throw new InternityException("Could not save internships: " + earlierFailure.getMessage());
+        }
+    }
+
+    /**
+     * Waits until every save handed to this storage has been written to disk.
+     * A write that failed in the background is retried once on the calling thread.
+     *
+     * @throws InternityException If a save still cannot be written, or the wait is interrupted.
+     */
+    @Override
+    public void flush() throws InternityException {
+        PendingWrite failed;
+        synchronized (this) {
+            try {
+                while (isWriting) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternityException("Interrupted while waiting for saves to finish");
+            }
+            if (pending == null) {
+                return;
+            }
+            failed = pending;
+            pending = null;
+            failure = null;
+            isWriting = true;
+        }
+
+        try {
+            failed.write();
+        } catch (IOException e) {
+            logger.severe("Failed to save internships to " + filePath + ": " + e.getMessage());
+            synchronized (this) {
+                pending = pending == null ? failed : failed.followedBy(pending);
+            }
+            throw new InternityException("Could not save internships: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes pending saves until none are left. Runs on the writer thread.
+     */
+    private void writePending() {
+        while (true) {
+            PendingWrite write;
+            synchronized (this) {
+                write = pending;
+                pending = null;
+                if (write == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                write.write();
+            } catch (IOException e) {
+                logger.severe("Failed to save internships to " + filePath + ": " + e.getMessage());
+                synchronized (this) {
+                    pending = pending == null ? write : write.followedBy(pending);
+                    failure = e;
+                    isWriting = false;
+                    notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void recordAdd(Internship internship) {
+        storage.recordAdd(internship);
+    }
+
+    @Override
+    public void recordUpdate(int index, Internship internship) {
+        storage.recordUpdate(index, internship);
+    }
+
+    @Override
+    public void recordDelete(int index) {
+        storage.recordDelete(index);
+    }
+
+    @Override
+    public void recordUsername(String username) {
+        storage.recordUsername(username);
+    }
+
+    @Override
+    public WriteMetrics getWriteMetrics() {
+        return storage.getWriteMetrics();
+    }
+
+    @Override
+    public Durability getDurability() {
+        return storage.getDurability();
+    }
+
+    /**
+     * Writes every pending save, stops the writer thread and closes the wrapped storage.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } catch (InternityException e) {
+            logger.warning("Unsaved changes were lost on close: " + e.getMessage());
+        }
+        writer.shutdown();
+        storage.close();
+    }
+}
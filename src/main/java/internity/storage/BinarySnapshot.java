@@ -0,0 +1,242 @@
+package internity.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.Status;
+import internity.core.TextDictionary;
+
+/**
+ * Reads and writes the compact binary snapshot format.
+ *
+ * <p>
+ * Records written by Internity are already validated, so the binary format stores them in a
+ * shape that can be read back without parsing or validating text again. All integers are big-endian.
+ * </p>
+ * <pre>
+ *     header:  magic "ITYB" | version (short) | record count (int) | username length (short, -1 if none)
+ *              | username bytes | CRC32 of the preceding header bytes (int)
+ *     record:  company length (byte) | company bytes | role length (byte) | role bytes
+ *              | deadline as epoch day (int) | pay (int) | status ordinal (byte) | id (long)
+ *     trailer: CRC32 of all record bytes (int)
+ * </pre>
+ * <p>
+ * Strings are printable ASCII, as enforced when they are entered. Version 1 snapshots, whose
+ * records end after the status, are still read; their internships are given IDs when loaded.
+ * </p>
+ */
+final class BinarySnapshot {
+    static final byte[] MAGIC = {'I', 'T', 'Y', 'B'};
+    static final short VERSION = 2;
+    static final short VERSION_WITHOUT_IDS = 1;
+
+    private static final int VERSION_OFFSET = MAGIC.length;
+    private static final int COUNT_OFFSET = VERSION_OFFSET + Short.BYTES;
+    private static final int USERNAME_LENGTH_OFFSET = COUNT_OFFSET + Integer.BYTES;
+    private static final int FIXED_HEADER_LENGTH = USERNAME_LENGTH_OFFSET + Short.BYTES;
+    private static final int NO_USERNAME = -1;
+    private static final int MAX_STRING_LENGTH = 255;
+
+    private BinarySnapshot() {
+    }
+
+    /**
+     * Checks whether the given file starts with the binary snapshot magic.
+     *
+     * @param file the file to check
+     * @return {@code true} if the file is a binary snapshot
+     * @throws IOException if the file cannot be read
+     */
+    static boolean isBinarySnapshot(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] start = in.readNBytes(MAGIC.length);
+            return Arrays.equals(start, MAGIC);
+        }
+    }
+
+    /**
+     * Writes a binary snapshot of the given internships.
+     *
+     * @param target the file to write
+     * @param internships the internships to write
+     * @param username the username to store in the header, may be null
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path target, List<Internship> internships, String username) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(target)))) {
+            CRC32 headerCrc = new CRC32();
+            DataOutputStream header = new DataOutputStream(new CheckedOutputStream(out, headerCrc));
+            header.write(MAGIC);
+            header.writeShort(VERSION);
+            header.writeInt(internships.size());
+            if (username == null) {
+                header.writeShort(NO_USERNAME);
+            } else {
+                byte[] usernameBytes = username.getBytes(StandardCharsets.US_ASCII);
+                header.writeShort(usernameBytes.length);
+                header.write(usernameBytes);
+            }
+            header.flush();
+            out.writeInt((int) headerCrc.getValue());
+
+            CRC32 recordCrc = new CRC32();
+            DataOutputStream records = new DataOutputStream(new CheckedOutputStream(out, recordCrc));
+            for (Internship internship : internships) {
+                writeRecord(records, internship);
+            }
+            records.flush();
+            out.writeInt((int) recordCrc.getValue());
+        }
+    }
+
+    /**
+     * Reads a binary snapshot into the given list.
+     *
+     * @param file the binary snapshot file
+     * @param internships the list to add the stored internships to
+     * @return the stored username, or {@code null} if none was stored
+     * @throws IOException if the file cannot be read, has an unsupported version or is corrupted
+     */
+    static String read(Path file, ArrayList<Internship> internships) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            String username = readHeader(buffer);
+            boolean hasIds = buffer.getShort(VERSION_OFFSET) == VERSION;
+            int count = buffer.getInt(COUNT_OFFSET);
+            if (count < 0) {
+                throw new IOException("Corrupted binary snapshot: negative record count");
+            }
+
+            int recordsStart = buffer.position();
+            internships.ensureCapacity(internships.size() + count);
+            for (int i = 0; i < count; i++) {
+                internships.add(readRecord(buffer, hasIds));
+            }
+            checkCrc(buffer, recordsStart, buffer.position(), "records");
+            return username;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupted binary snapshot: unexpected end of data");
+        }
+    }
+
+    /**
+     * Reads only the header of a binary snapshot, leaving the records unread.
+     *
+     * @param file the binary snapshot file
+     * @return the stored username, or {@code null} if none was stored
+     * @throws IOException if the file cannot be read, has an unsupported version or a corrupted header
+     */
+    static String readUsername(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] start = in.readNBytes(FIXED_HEADER_LENGTH);
+            int usernameLength = 0;
+            if (start.length == FIXED_HEADER_LENGTH) {
+                usernameLength = Math.max(0, ByteBuffer.wrap(start).getShort(USERNAME_LENGTH_OFFSET));
+            }
+            byte[] rest = in.readNBytes(usernameLength + Integer.BYTES);
+
+            ByteBuffer buffer = ByteBuffer.allocate(start.length + rest.length);
+            buffer.put(start).put(rest).flip();
+            return readHeader(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupted binary snapshot: unexpected end of data");
+        }
+    }
+
+    /**
+     * Reads and checks the header, leaving the buffer positioned at the first record.
+     *
+     * @return the stored username, or {@code null} if none was stored
+     */
+    private static String readHeader(ByteBuffer buffer) throws IOException {
+        buffer.position(MAGIC.length);
+        short version = buffer.getShort();
+        if (version != VERSION && version != VERSION_WITHOUT_IDS) {
+            throw new IOException("Unsupported binary snapshot version " + version);
+        }
+        buffer.getInt(); // record count, read by read() once the header is known to be intact
+        int usernameLength = buffer.getShort();
+        String username = null;
+        if (usernameLength != NO_USERNAME) {
+            username = readAscii(buffer, usernameLength);
+        }
+        checkCrc(buffer, 0, buffer.position(), "header");
+        return username;
+    }
+
+    private static void writeRecord(DataOutputStream out, Internship internship) throws IOException {
+        writeAscii(out, internship.getCompany());
+        writeAscii(out, internship.getRole());
+        out.writeInt(internship.getDeadline().toEpochDay());
+        out.writeInt(internship.getPay());
+        out.writeByte(internship.getStatusOrdinal());
+        out.writeLong(internship.getId());
+    }
+
+    private static Internship readRecord(ByteBuffer buffer, boolean hasId) throws IOException {
+        int companyCode = readCode(buffer, Byte.toUnsignedInt(buffer.get()));
+        int roleCode = readCode(buffer, Byte.toUnsignedInt(buffer.get()));
+        Date deadline = Date.ofEpochDay(buffer.getInt());
+        int pay = buffer.getInt();
+        int statusOrdinal = buffer.get();
+        if (statusOrdinal < 0 || statusOrdinal >= Status.count()) {
+            throw new IOException("Corrupted binary snapshot: unknown status " + statusOrdinal);
+        }
+        long id = hasId ? buffer.getLong() : 0;
+
+        Internship internship = Internship.ofCodes(companyCode, roleCode, deadline, pay);
+        internship.setStatus(Status.ofOrdinal(statusOrdinal));
+        internship.setId(Math.max(0, id));
+        return internship;
+    }
+
+    private static void writeAscii(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IOException("Cannot store text longer than " + MAX_STRING_LENGTH + " characters: " + value);
+        }
+        out.writeByte(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readAscii(ByteBuffer buffer, int length) {
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.US_ASCII);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Looks up the dictionary code of an ASCII string, creating a String only if it is new.
+     */
+    private static int readCode(ByteBuffer buffer, int length) {
+        if (buffer.remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+        int code = TextDictionary.codeOf(buffer.array(), buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return code;
+    }
+
+    private static void checkCrc(ByteBuffer buffer, int start, int end, String section) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), start, end - start);
+        if (buffer.getInt() != (int) crc.getValue()) {
+            throw new IOException("Corrupted binary snapshot: " + section + " checksum mismatch");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package internity.storage;
+
+/**
+ * How hard a {@link Storage} works to make its writes survive a crash of the operating system or a power loss.
+ *
+ * <p>
+ * Writing a file only hands the data to the operating system, which flushes it to the disk some time later.
+ * A sync ({@link java.nio.channels.FileChannel#force(boolean)} on the data files and their directory) waits
+ * until the data and the directory entries are on the disk. Syncs are slow, so the policies trade crash
+ * safety for write latency:
+ * </p>
+ * <ul>
+ *     <li>{@link #NONE} never syncs, leaving it to the operating system.</li>
+ *     <li>{@link #ON_EXIT} syncs once when the storage is closed.</li>
+ *     <li>{@link #groupCommit(long)} syncs every few milliseconds if anything was written since the last sync,
+ *         so a burst of writes shares one sync.</li>
+ *     <li>{@link #EVERY_WRITE} syncs every written file before it replaces the data file, and the directory after,
+ *         so every save is on the disk once it returns.</li>
+ * </ul>
+ * A crash can lose the writes made since the last sync. Unless every write is synced, the data file may
+ * even be left empty if the rename of the new snapshot reached the disk before its data did.
+ */
+public final class Durability {
+    /** Never syncs. */
+    public static final Durability NONE = new Durability(Mode.NONE, 0);
+    /** Syncs when the storage is closed. */
+    public static final Durability ON_EXIT = new Durability(Mode.ON_EXIT, 0);
+    /** Syncs as part of every write. */
+    public static final Durability EVERY_WRITE = new Durability(Mode.EVERY_WRITE, 0);
+
+    private static final String NAME_NONE = "none";
+    private static final String NAME_ON_EXIT = "on-exit";
+    private static final String NAME_EVERY_WRITE = "every-write";
+    private static final String PREFIX_GROUP_COMMIT = "every-";
+    private static final String SUFFIX_GROUP_COMMIT = "-ms";
+
+    /**
+     * The kinds of durability policy.
+     */
+    enum Mode {
+        NONE,
+        ON_EXIT,
+        GROUP_COMMIT,
+        EVERY_WRITE
+    }
+
+    private final Mode mode;
+    private final long intervalMillis;
+
+    private Durability(Mode mode, long intervalMillis) {
+        this.mode = mode;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Returns a policy that syncs at most once every given number of milliseconds, and only if anything
+     * was written since the last sync. The storage is also synced when it is closed.
+     *
+     * @param intervalMillis The time between syncs in milliseconds.
+     * @return the group commit policy
+     */
+    public static Durability groupCommit(long intervalMillis) {
+        assert intervalMillis > 0 : "Group commit interval must be positive";
+        return new Durability(Mode.GROUP_COMMIT, intervalMillis);
+    }
+
+    /**
+     * Parses a policy from its name: {@code none}, {@code on-exit}, {@code every-write},
+     * or {@code every-N-ms} for a group commit every {@code N} milliseconds.
+     *
+     * @param name The name of the policy.
+     * @return the policy, or {@code null} if the name is not recognised
+     */
+    public static Durability parse(String name) {
+        switch (name) {
+        case NAME_NONE:
+            return NONE;
+        case NAME_ON_EXIT:
+            return ON_EXIT;
+        case NAME_EVERY_WRITE:
+            return EVERY_WRITE;
+        default:
+            return parseGroupCommit(name);
+        }
+    }
+
+    private static Durability parseGroupCommit(String name) {
+        boolean hasAffixes = name.startsWith(PREFIX_GROUP_COMMIT) && name.endsWith(SUFFIX_GROUP_COMMIT);
+        if (!hasAffixes || name.length() <= PREFIX_GROUP_COMMIT.length() + SUFFIX_GROUP_COMMIT.length()) {
+            return null;
+        }
+        String interval = name.substring(PREFIX_GROUP_COMMIT.length(), name.length() - SUFFIX_GROUP_COMMIT.length());
+        try {
+            long intervalMillis = Long.parseLong(interval);
+            return intervalMillis > 0 ? groupCommit(intervalMillis) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    Mode getMode() {
+        return mode;
+    }
+
+    long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Returns the name this policy is parsed from.
+     *
+     * @return the name, such as {@code every-100-ms}
+     */
+    @Override
+    public String toString() {
+        switch (mode) {
+        case NONE:
+            return NAME_NONE;
+        case ON_EXIT:
+            return NAME_ON_EXIT;
+        case EVERY_WRITE:
+            return NAME_EVERY_WRITE;
+        default:
+            return PREFIX_GROUP_COMMIT + intervalMillis + SUFFIX_GROUP_COMMIT;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package internity.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+/**
+ * Saves the text data file incrementally, rewriting only the records that changed since the last save.
+ *
+ * <p>
+ * The storage keeps the byte offset of every record line in the file, and learns which positions changed
+ * through the {@code record...} hooks called by the {@link InternshipList}. On save:
+ * </p>
+ * <ul>
+ *     <li>An updated record whose new line has the same length as the old one is patched in place
+ *         with a positional {@link FileChannel} write.</li>
+ *     <li>From the first record that was added, removed, or updated to a line of a different length,
+ *         the rest of the file is rewritten and the file is truncated to its new end. A tail longer than
+ *         half the file is written to the redo log and the file both, so it is replaced as a whole instead.</li>
+ *     <li>The first save after loading, a changed username header of a different length, or a list whose size
+ *         does not match the recorded changes, replaces the whole file through a temporary file as
+ *         {@link Storage} does.</li>
+ * </ul>
+ *
+ * <p>
+ * Patches are written straight into the data file, where a crash could leave a record torn or the new
+ * records followed by stale ones. Each patch is therefore first written to the redo log
+ * {@code <data file>.patch} by {@link PatchLog}, and the log is deleted once the patch is written.
+ * A complete log found when loading is written into the file again, and an incomplete one is dropped,
+ * so the file holds either the old or the new records. Against a power loss this only holds with
+ * {@link Durability#EVERY_WRITE}, which syncs the log before the file is touched. The file must not be
+ * changed by anything else while the storage is in use.
+ * </p>
+ */
+public class IncrementalStorage extends Storage {
+    private static final Logger logger = Logger.getLogger(IncrementalStorage.class.getName());
+
+    static {
+        logger.setLevel(Level.WARNING);
+    }
+
+    private static final int NONE_SHIFTED = Integer.MAX_VALUE;
+
+    // Layout of the file once every prepared write has been written: offsets[i] is where record i starts,
+    // and offsets[size] is the end of the file. offsets[0] is the length of the header.
+    private long[] offsets = new long[1];
+    private int size;
+    private volatile boolean isLayoutValid;
+
+    // Changes recorded since the last save
+    private final BitSet updatedPositions = new BitSet();
+    private int firstShiftedPosition = NONE_SHIFTED;
+    private int recordedSize;
+    private boolean isUsernameChanged;
+
+    // Encodes the changed records on the input thread
+    private final PipeRecordWriter recordWriter = new PipeRecordWriter();
+    private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+    private final WritableByteChannel encodedChannel = Channels.newChannel(encoded);
+
+    private final Path patchPath;
+
+    /**
+     * Creates a new incremental storage for the specified text data file.
+     *
+     * @param filePath The path to the file for storing internships.
+     */
+    public IncrementalStorage(String filePath) {
+        this(filePath, Durability.NONE);
+    }
+
+    /**
+     * Creates a new incremental storage for the specified text data file and durability policy.
+     *
+     * @param filePath The path to the file for storing internships.
+     * @param durability When written files are synced to the disk.
+     */
+    public IncrementalStorage(String filePath, Durability durability) {
+        super(filePath, SnapshotFormat.TEXT, durability);
+        this.patchPath = this.filePath.resolveSibling(this.filePath.getFileName() + ".patch");
+    }
+
+    /**
+     * Loads the data file, first finishing a patch that was interrupted.
+     * The offsets of its records are not known, so the next save rewrites the whole file.
+     *
+     * @return ArrayList of internships loaded from the file.
+     * @throws InternityException If there is an error reading the file.
+     */
+    @Override
+    public ArrayList<Internship> load() throws InternityException {
+        recoverInterruptedPatch();
+        ArrayList<Internship> internships = super.load();
+        isLayoutValid = false;
+        resetChanges(internships.size());
+        return internships;
+    }
+
+    /**
+     * Reads the username from the data file, first finishing a patch that was interrupted.
+     *
+     * @return The stored username, or null if none is stored.
+     * @throws InternityException If there is an error reading the file.
+     */
+    @Override
+    public String readUsername() throws InternityException {
+        recoverInterruptedPatch();
+        return super.readUsername();
+    }
+
+    private void recoverInterruptedPatch() throws InternityException {
+        if (!Files.exists(patchPath)) {
+            return;
+        }
+        try {
+            if (PatchLog.replay(patchPath, filePath)) {
+                syncFile(filePath);
+                logger.info("Completed interrupted patch of " + filePath);
+            } else {
+                logger.warning("Dropped incomplete patch of " + filePath);
+            }
+            Files.delete(patchPath);
+        } catch (IOException e) {
+            logger.severe("Failed to complete patch of " + filePath + ": " + e.getMessage());
+            throw new InternityException("Could not load internships: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the records that changed since the last save.
+     *
+     * @param internships The list of internships to save.
+     * @throws InternityException If there is an error writing to the file.
+     */
+    @Override
+    public void save(ArrayList<Internship> internships) throws InternityException {
+        assert internships != null : "Internships list cannot be null";
+
+        try {
+            prepareSave(internships).write();
+        } catch (IOException e) {
+            logger.severe("Failed to save internships to " + filePath + ": " + e.getMessage());
+            throw new InternityException("Could not save internships: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Formats the changed records now and returns the write that puts them into the file.
+     * The layout is updated as if the write had already happened, so the next save builds on it.
+     *
+     * @param internships The current list of internships.
+     * @return the prepared write
+     */
+    @Override
+    PendingWrite prepareSave(ArrayList<Internship> internships) {
+        String username = InternshipList.getUsername();
+        byte[] header = null;
+        boolean isFullRewrite = !isLayoutValid || internships.size() != recordedSize;
+        if (!isFullRewrite && isUsernameChanged) {
+            header = encodeHeader(username);
+            isFullRewrite = header.length != offsets[0];
+        }
+
+        FilePatch patch = isFullRewrite
+                ? prepareFullRewrite(internships, username)
+                : prepareChanges(internships, header, username);
+        isLayoutValid = true;
+        resetChanges(internships.size());
+        return patch;
+    }
+
+    private FilePatch prepareFullRewrite(List<Internship> internships, String username) {
+        byte[] header = encodeHeader(username);
+        ensureCapacity(internships.size());
+        offsets[0] = header.length;
+        byte[] records = encodeFrom(0, internships);
+        return new FilePatch(true, new long[] {0, header.length}, new byte[][] {header, records}, offsets[size]);
+    }
+
+    private FilePatch prepareChanges(List<Internship> internships, byte[] header, String username) {
+        List<Long> positions = new ArrayList<>();
+        List<byte[]> chunks = new ArrayList<>();
+        if (header != null) {
+            positions.add(0L);
+            chunks.add(header);
+        }
+
+        // Deletes and adds never leave the first shifted position past the end of the list
+        int firstShifted = firstShiftedPosition;
+        int position = updatedPositions.nextSetBit(0);
+        while (position >= 0 && position < firstShifted) {
+            byte[] line = encodeRecord(internships.get(position));
+            if (line.length != offsets[position + 1] - offsets[position]) {
+                firstShifted = position;
+                break;
+            }
+            positions.add(offsets[position]);
+            chunks.add(line);
+            position = updatedPositions.nextSetBit(position + 1);
+        }
+
+        if (firstShifted != NONE_SHIFTED) {
+            // The tail is written twice, to the redo log and the file, which beats one rewrite only while short
+            long fileLength = offsets[size];
+            if (fileLength - offsets[firstShifted] > fileLength / 2) {
+                return prepareFullRewrite(internships, username);
+            }
+            ensureCapacity(internships.size());
+            positions.add(offsets[firstShifted]);
+            chunks.add(encodeFrom(firstShifted, internships));
+        }
+
+        long[] positionArray = new long[positions.size()];
+        for (int i = 0; i < positionArray.length; i++) {
+            positionArray[i] = positions.get(i);
+        }
+        return new FilePatch(false, positionArray, chunks.toArray(new byte[0][]), offsets[size]);
+    }
+
+    /**
+     * Encodes the records from the given position to the end, updating their offsets.
+     *
+     * @return the encoded lines
+     */
+    private byte[] encodeFrom(int from, List<Internship> internships) {
+        try {
+            startEncoding();
+            long offset = offsets[from];
+            for (int i = from; i < internships.size(); i++) {
+                offset += recordWriter.writeRecord(internships.get(i));
+                offsets[i + 1] = offset;
+            }
+            size = internships.size();
+            return finishEncoding();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] encodeRecord(Internship internship) {
+        try {
+            startEncoding();
+            recordWriter.writeRecord(internship);
+            return finishEncoding();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] encodeHeader(String username) {
+        try {
+            startEncoding();
+            recordWriter.writeHeader(username);
+            return finishEncoding();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Points the record writer at the in-memory buffer. Writing to memory never fails,
+     * so the callers rethrow the declared {@link IOException} unchecked.
+     */
+    private void startEncoding() {
+        encoded.reset();
+        recordWriter.open(encodedChannel);
+    }
+
+    private byte[] finishEncoding() throws IOException {
+        recordWriter.flush();
+        return encoded.toByteArray();
+    }
+
+    private void ensureCapacity(int recordCount) {
+        if (offsets.length < recordCount + 1) {
+            offsets = Arrays.copyOf(offsets, Math.max(recordCount + 1, offsets.length * 2));
+        }
+    }
+
+    private void resetChanges(int listSize) {
+        updatedPositions.clear();
+        firstShiftedPosition = NONE_SHIFTED;
+        recordedSize = listSize;
+        isUsernameChanged = false;
+    }
+
+    @Override
+    public void recordAdd(Internship internship) {
+        firstShiftedPosition = Math.min(firstShiftedPosition, recordedSize);
+        recordedSize++;
+    }
+
+    @Override
+    public void recordUpdate(int index, Internship internship) {
+        if (index < firstShiftedPosition) {
+            updatedPositions.set(index);
+        }
+    }
+
+    /**
+     * Records a removal. The positions after it move down by one, which only affects positions
+     * at or after the first shifted position, so updated positions before it stay valid.
+     */
+    @Override
+    public void recordDelete(int index) {
+        firstShiftedPosition = Math.min(firstShiftedPosition, index);
+        recordedSize--;
+    }
+
+    @Override
+    public void recordUsername(String username) {
+        isUsernameChanged = true;
+    }
+
+    /**
+     * Byte ranges to write into the data file, followed by the writes prepared after this one.
+     * Every range is written at an absolute position and the file is truncated to an absolute length,
+     * so writing a patch again after a failure gives the same file.
+     */
+    private class FilePatch extends PendingWrite {
+        private final boolean isFullRewrite;
+        private final long[] positions;
+        private final byte[][] chunks;
+        private final long length;
+        private final FilePatch rest;
+
+        FilePatch(boolean isFullRewrite, long[] positions, byte[][] chunks, long length) {
+            this(isFullRewrite, positions, chunks, length, null);
+        }
+
+        private FilePatch(boolean isFullRewrite, long[] positions, byte[][] chunks, long length, FilePatch rest) {
+            this.isFullRewrite = isFullRewrite;
+            this.positions = positions;
+            this.chunks = chunks;
+            this.length = length;
+            this.rest = rest;
+        }
+
+        /**
+         * Writes this patch and the rest. If any part fails, the layout no longer matches the file,
+         * so the next save prepared afterwards rewrites the whole file.
+         */
+        @Override
+        void write() throws IOException {
+            try {
+                long startTime = System.nanoTime();
+                if (isFullRewrite) {
+                    Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+                    PatchLog.writeChunks(tempFile, positions, chunks, length);
+                    syncFile(tempFile);
+                    moveAtomically(tempFile, filePath);
+                    syncDirectory();
+                } else {
+                    // The log must be on the disk before the file is touched, and is only dropped once it is patched
+                    PatchLog.write(patchPath, positions, chunks, length);
+                    syncFile(patchPath);
+                    syncDirectory();
+                    PatchLog.writeChunks(filePath, positions, chunks, length);
+                    syncFile(filePath);
+                    Files.delete(patchPath);
+                }
+                getWriteMetrics().recordWrite(System.nanoTime() - startTime);
+            } catch (IOException e) {
+                isLayoutValid = false;
+                throw e;
+            }
+            if (rest != null) {
+                rest.write();
+            }
+        }
+
+        @Override
+        PendingWrite followedBy(PendingWrite later) {
+            FilePatch next = (FilePatch) later;
+            if (next.isFullRewrite) {
+                return next;
+            }
+            FilePatch merged = rest == null ? next : (FilePatch) rest.followedBy(next);
+            return new FilePatch(isFullRewrite, positions, chunks, length, merged);
+        }
+    }
+}
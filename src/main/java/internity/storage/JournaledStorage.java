@@ -0,0 +1,612 @@
+package internity.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+/**
+ * A {@link Storage} that appends each change to a write-ahead journal instead of
+ * rewriting the whole data file after every command.
+ *
+ * <p>
+ * The data file written by {@link Storage} acts as a snapshot. Mutations to the
+ * {@link InternshipList} are recorded as small journal entries which are appended to
+ * {@code <data file>.journal} when {@link #save(ArrayList)} is called. On startup the
+ * journal is replayed over the snapshot.
+ * </p>
+ *
+ * <p>
+ * Once the journal grows past a threshold, it is rotated to {@code <data file>.journal.compacting}
+ * and a background thread folds it into a new snapshot. The fold is crash safe:
+ * </p>
+ * <ol>
+ *     <li>The new snapshot is written to {@code <data file>.compact}.</li>
+ *     <li>The rotated journal is renamed to {@code <data file>.journal.folded}.</li>
+ *     <li>The new snapshot is renamed over the data file.</li>
+ *     <li>The folded journal is deleted.</li>
+ * </ol>
+ * A folded journal found on startup means steps 3 and 4 are rolled forward before loading.
+ *
+ * <p>
+ * Journal entry format (fields are separated by " | ", indices are zero-based, and the trailing ID is
+ * written only for internships that have one):
+ * </p>
+ * <pre>
+ *     add | company | role | deadline | pay | status [| id]
+ *     update | INDEX | company | role | deadline | pay | status [| id]
+ *     delete | INDEX
+ *     username | USERNAME
+ * </pre>
+ */
+public class JournaledStorage extends Storage {
+    private static final Logger logger = Logger.getLogger(JournaledStorage.class.getName());
+
+    static {
+        logger.setLevel(Level.WARNING);
+    }
+
+    /** Number of journal entries after which the journal is folded into a new snapshot. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String OP_ADD = "add";
+    private static final String OP_UPDATE = "update";
+    private static final String OP_DELETE = "delete";
+    private static final String OP_USERNAME = "username";
+    private static final String DELIMITER = " | ";
+
+    private final Path journalPath;
+    private final Path compactingPath;
+    private final Path foldedPath;
+    private final Path compactPath;
+    private final int compactionThreshold;
+    private final ExecutorService compactor;
+
+    private final StringBuilder pendingEntries = new StringBuilder();
+    private int journalEntryCount;
+    private Future<?> compaction;
+    private boolean isReplaying;
+
+    // The snapshot of a fold that failed, kept to retry the fold before the journal is rotated again
+    private ArrayList<Internship> unfoldedSnapshot;
+    private String unfoldedUsername;
+
+    /**
+     * Creates a new journaled storage for the specified data file,
+     * using {@link #DEFAULT_COMPACTION_THRESHOLD}.
+     *
+     * @param filePath The path to the snapshot file for storing internships.
+     */
+    public JournaledStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new journaled storage for the specified data file.
+     *
+     * @param filePath The path to the snapshot file for storing internships.
+     * @param compactionThreshold The number of journal entries that triggers a background compaction.
+     */
+    public JournaledStorage(String filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, SnapshotFormat.TEXT);
+    }
+
+    /**
+     * Creates a new journaled storage for the specified data file and snapshot format.
+     * The journal itself is always written as text.
+     *
+     * @param filePath The path to the snapshot file for storing internships.
+     * @param compactionThreshold The number of journal entries that triggers a background compaction.
+     * @param format The format snapshots are written in when compacting.
+     */
+    public JournaledStorage(String filePath, int compactionThreshold, SnapshotFormat format) {
+        this(filePath, compactionThreshold, format, Durability.NONE);
+    }
+
+    /**
+     * Creates a new journaled storage for the specified data file, snapshot format and durability policy.
+     * The policy covers both the journal appends and the snapshots written when compacting.
+     *
+     * @param filePath The path to the snapshot file for storing internships.
+     * @param compactionThreshold The number of journal entries that triggers a background compaction.
+     * @param format The format snapshots are written in when compacting.
+     * @param durability When written files are synced to the disk.
+     */
+    public JournaledStorage(String filePath, int compactionThreshold, SnapshotFormat format,
+            Durability durability) {
+        super(filePath, format, durability);
+        assert compactionThreshold > 0 : "Compaction threshold must be positive";
+        this.journalPath = this.filePath.resolveSibling(this.filePath.getFileName() + ".journal");
+        this.compactingPath = this.filePath.resolveSibling(this.filePath.getFileName() + ".journal.compacting");
+        this.foldedPath = this.filePath.resolveSibling(this.filePath.getFileName() + ".journal.folded");
+        this.compactPath = this.filePath.resolveSibling(this.filePath.getFileName() + ".compact");
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "internity-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the snapshot and replays any journal entries over it.
+     * A compaction that was interrupted by a crash is completed first.
+     *
+     * @return ArrayList of internships after replaying the journal.
+     * @throws InternityException If there is an error reading the snapshot or journal.
+     */
+    @Override
+    public ArrayList<Internship> load() throws InternityException {
+        isReplaying = true;
+        try {
+            recoverInterruptedCompaction();
+            ArrayList<Internship> internships = super.load();
+
+            if (Files.exists(compactingPath)) {
+                // A rotated journal was never folded: fold it again in the background
+                replay(compactingPath, internships);
+                ArrayList<Internship> folded = copyOf(internships);
+                String username = InternshipList.getUsername();
+                compaction = compactor.submit(() -> fold(folded, username));
+            }
+
+            journalEntryCount = replay(journalPath, internships);
+            logger.info("Replayed " + journalEntryCount + " journal entries");
+            return internships;
+        } catch (IOException e) {
+            logger.severe("Failed to replay journal for " + filePath + ": " + e.getMessage());
+            throw new InternityException("Could not load internships: " + e.getMessage());
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Reads the username that {@link #load()} would set: the one in the snapshot,
+     * unless a later username entry in the journal replaced it. No internships are read.
+     *
+     * @return The username after replaying the journal, or null if none is stored.
+     * @throws InternityException If there is an error reading the snapshot or journal.
+     */
+    @Override
+    public String readUsername() throws InternityException {
+        try {
+            // A finished fold that was interrupted before its snapshot was moved into place is rolled forward by load()
+            boolean isFoldUnfinished = Files.exists(foldedPath) && Files.exists(compactPath);
+            String username = readSnapshotUsername(isFoldUnfinished ? compactPath : filePath);
+            username = replayUsername(compactingPath, username);
+            return replayUsername(journalPath, username);
+        } catch (IOException e) {
+            logger.severe("Failed to read username from " + journalPath + ": " + e.getMessage());
+            throw new InternityException("Could not load internships: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends the journal entries recorded since the last call to the journal file.
+     * Starts a background compaction once the journal has grown past the threshold.
+     *
+     * @param internships The current list of internships, used as the next snapshot when compacting.
+     * @throws InternityException If there is an error writing to the journal.
+     */
+    @Override
+    public void save(ArrayList<Internship> internships) throws InternityException {
+        assert internships != null : "Internships list cannot be null";
+
+        try {
+            if (pendingEntries.length() > 0) {
+                appendToJournal(pendingEntries);
+                pendingEntries.setLength(0);
+            }
+            boolean isCompactionIdle = compaction == null || compaction.isDone();
+            if (journalEntryCount >= compactionThreshold && isCompactionIdle) {
+                startCompaction(internships);
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to write journal " + journalPath + ": " + e.getMessage());
+            throw new InternityException("Could not save internships: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Takes the journal entries recorded since the last save, to be appended later by {@link BackgroundStorage}.
+     * Once the journal has grown past the threshold, a copy of the list is also taken, and the write
+     * folds the journal into a new snapshot on the writer thread after appending.
+     *
+     * @param internships The current list of internships, copied as the next snapshot when compacting.
+     * @return the prepared write
+     */
+    @Override
+    PendingWrite prepareSave(ArrayList<Internship> internships) {
+        String entries = pendingEntries.toString();
+        pendingEntries.setLength(0);
+        if (journalEntryCount < compactionThreshold) {
+            return new JournalWrite(entries, null, null);
+        }
+        journalEntryCount = 0;
+        return new JournalWrite(entries, copyOf(internships), InternshipList.getUsername());
+    }
+
+    @Override
+    public void recordAdd(Internship internship) {
+        if (isReplaying) {
+            return;
+        }
+        appendEntry(OP_ADD + DELIMITER + formatInternshipForFile(internship));
+    }
+
+    @Override
+    public void recordUpdate(int index, Internship internship) {
+        if (isReplaying) {
+            return;
+        }
+        appendEntry(OP_UPDATE + DELIMITER + index + DELIMITER + formatInternshipForFile(internship));
+    }
+
+    @Override
+    public void recordDelete(int index) {
+        if (isReplaying) {
+            return;
+        }
+        appendEntry(OP_DELETE + DELIMITER + index);
+    }
+
+    @Override
+    public void recordUsername(String username) {
+        if (isReplaying || username == null) {
+            return;
+        }
+        appendEntry(OP_USERNAME + DELIMITER + username.replace("|", PIPE_URL_ENCODED));
+    }
+
+    /**
+     * Waits for a running compaction to finish and stops the compaction thread,
+     * then syncs the journal and snapshot as {@link Storage#close()} does.
+     */
+    @Override
+    public void close() {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warning("Compaction did not finish in time; it will be recovered on next start");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.close();
+    }
+
+    /**
+     * Returns the snapshot and the active journal, which a group commit or the sync on exit forces to the disk.
+     *
+     * @return the data files, which need not exist
+     */
+    @Override
+    protected List<Path> getSyncedFiles() {
+        return List.of(filePath, journalPath);
+    }
+
+    /**
+     * Returns the number of entries in the active journal segment.
+     *
+     * @return the journal entry count
+     */
+    public int getJournalEntryCount() {
+        return journalEntryCount;
+    }
+
+    /**
+     * Waits until the current background compaction, if any, has finished.
+     */
+    void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (Exception e) {
+            logger.warning("Compaction failed: " + e.getMessage());
+        }
+    }
+
+    private void appendEntry(String entry) {
+        pendingEntries.append(entry).append(System.lineSeparator());
+        journalEntryCount++;
+    }
+
+    private void appendToJournal(CharSequence entries) throws IOException {
+        long startTime = System.nanoTime();
+        if (journalPath.getParent() != null) {
+            Files.createDirectories(journalPath.getParent());
+        }
+        boolean isNewJournal = !Files.exists(journalPath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.append(entries);
+        }
+        syncFile(journalPath);
+        if (isNewJournal) {
+            syncDirectory();
+        }
+        getWriteMetrics().recordWrite(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Rotates the active journal and folds it into a new snapshot on the compaction thread.
+     * The snapshot is taken from a copy so the list can keep changing while the fold runs.
+     */
+    private void startCompaction(ArrayList<Internship> internships) throws IOException {
+        boolean isRotated = rotateJournal();
+        journalEntryCount = 0;
+        if (!isRotated) {
+            return; // tried again once the journal has grown by the threshold
+        }
+        ArrayList<Internship> snapshot = copyOf(internships);
+        String username = InternshipList.getUsername();
+        logger.info("Rotated journal, compacting " + snapshot.size() + " internships in background");
+
+        compaction = compactor.submit(() -> fold(snapshot, username));
+    }
+
+    /**
+     * Moves the active journal aside to be folded. A segment left behind by a failed fold holds entries
+     * the snapshot does not have yet, so it must not be replaced: that fold is retried first, and if it
+     * fails again the journal is not rotated and keeps growing.
+     *
+     * @return {@code true} if the journal was rotated
+     */
+    private boolean rotateJournal() throws IOException {
+        if (!finishFailedFold()) {
+            logger.warning("Journal not rotated: an earlier compaction could not be finished");
+            return false;
+        }
+        moveAtomically(journalPath, compactingPath);
+        return true;
+    }
+
+    /**
+     * Completes an earlier fold that failed, if any.
+     *
+     * @return {@code true} if no rotated journal segment is left to fold
+     */
+    private boolean finishFailedFold() {
+        try {
+            if (Files.exists(foldedPath)) {
+                // The new snapshot was written; only moving it into place is left
+                recoverInterruptedCompaction();
+            }
+            if (Files.exists(compactingPath) && unfoldedSnapshot != null) {
+                writeFold(unfoldedSnapshot, unfoldedUsername);
+            }
+        } catch (IOException e) {
+            logger.severe("Retrying compaction failed: " + e.getMessage());
+        }
+        if (Files.exists(compactingPath)) {
+            return false;
+        }
+        unfoldedSnapshot = null;
+        unfoldedUsername = null;
+        return true;
+    }
+
+    private void fold(ArrayList<Internship> snapshot, String username) {
+        try {
+            writeFold(snapshot, username);
+        } catch (IOException e) {
+            // Retried before the next rotation; leftover files are also picked up on next start
+            logger.severe("Compaction failed: " + e.getMessage());
+            unfoldedSnapshot = snapshot;
+            unfoldedUsername = username;
+        }
+    }
+
+    private void writeFold(ArrayList<Internship> snapshot, String username) throws IOException {
+        writeSnapshot(compactPath, snapshot, username);
+        syncFile(compactPath);
+        moveAtomically(compactingPath, foldedPath);
+        moveAtomically(compactPath, filePath);
+        syncDirectory();
+        Files.deleteIfExists(foldedPath);
+        logger.info("Compaction finished");
+    }
+
+    private void recoverInterruptedCompaction() throws IOException {
+        if (Files.exists(foldedPath)) {
+            if (Files.exists(compactPath)) {
+                moveAtomically(compactPath, filePath);
+            }
+            Files.delete(foldedPath);
+            logger.info("Completed interrupted compaction");
+        }
+        Files.deleteIfExists(compactPath);
+    }
+
+    /**
+     * Journal entries to append, optionally followed by folding the journal into a snapshot,
+     * and then by the writes prepared after this one.
+     */
+    private class JournalWrite extends PendingWrite {
+        private String entries;
+        private ArrayList<Internship> snapshot;
+        private final String username;
+        private final JournalWrite rest;
+
+        JournalWrite(String entries, ArrayList<Internship> snapshot, String username) {
+            this(entries, snapshot, username, null);
+        }
+
+        private JournalWrite(String entries, ArrayList<Internship> snapshot, String username, JournalWrite rest) {
+            this.entries = entries;
+            this.snapshot = snapshot;
+            this.username = username;
+            this.rest = rest;
+        }
+
+        /**
+         * Writes this part and then the rest. Each part is cleared once written,
+         * so a retry after a failure does not append entries twice or fold twice.
+         */
+        @Override
+        void write() throws IOException {
+            if (!entries.isEmpty()) {
+                appendToJournal(entries);
+                entries = "";
+            }
+            if (snapshot != null) {
+                if (Files.exists(journalPath)) {
+                    // A fold started by load() may still own the rotated journal
+                    awaitCompaction();
+                    if (rotateJournal()) {
+                        fold(snapshot, username);
+                    }
+                }
+                snapshot = null;
+            }
+            if (rest != null) {
+                rest.write();
+            }
+        }
+
+        /**
+         * Appends the later entries to this write's entries when there is no fold in between.
+         * A fold must stay between the entries it covers and the later ones, so the later write
+         * is otherwise kept as the rest.
+         */
+        @Override
+        PendingWrite followedBy(PendingWrite later) {
+            JournalWrite next = (JournalWrite) later;
+            if (snapshot == null && rest == null) {
+                return new JournalWrite(entries + next.entries, next.snapshot, next.username, next.rest);
+            }
+            JournalWrite merged = rest == null ? next : (JournalWrite) rest.followedBy(next);
+            return new JournalWrite(entries, snapshot, username, merged);
+        }
+    }
+
+    /**
+     * Applies the entries of a journal file to the given list.
+     * Malformed entries (e.g. a torn last line after a crash) are skipped with a warning.
+     *
+     * @return the number of entries read
+     */
+    private int replay(Path journal, ArrayList<Internship> internships) throws IOException {
+        if (!Files.exists(journal)) {
+            return 0;
+        }
+
+        int count = 0;
+        try (BufferedReader br = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                count++;
+                String errorMessage = applyEntry(line, internships);
+                if (errorMessage != null) {
+                    System.err.println(errorMessage);
+                }
+            }
+        }
+        return count;
+    }
+
+    private String applyEntry(String entry, ArrayList<Internship> internships) {
+        String[] opAndRest = entry.split(" \\| ", 2);
+        String op = opAndRest[0].trim();
+        String rest = opAndRest.length > 1 ? opAndRest[1] : "";
+
+        switch (op) {
+        case OP_ADD:
+            return parseInternshipFromFile(rest, internships);
+        case OP_UPDATE:
+            return applyUpdate(entry, rest, internships);
+        case OP_DELETE:
+            int index = parseIndex(rest, internships.size());
+            if (index < 0) {
+                return "Warning: Skipped journal entry with invalid index: " + entry;
+            }
+            internships.remove(index);
+            return null;
+        case OP_USERNAME:
+            String username = parseUsername(rest);
+            if (username != null) {
+                InternshipList.setUsername(username);
+            }
+            return null;
+        default:
+            return "Warning: Skipped unknown journal entry: " + entry;
+        }
+    }
+
+    /**
+     * Returns the username set by the last valid username entry in the given journal.
+     *
+     * @param journal The journal to scan.
+     * @param username The username before the journal.
+     * @return The username after the journal.
+     */
+    private String replayUsername(Path journal, String username) throws IOException {
+        if (!Files.exists(journal)) {
+            return username;
+        }
+
+        String replayed = username;
+        try (BufferedReader br = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] opAndRest = line.split(" \\| ", 2);
+                if (opAndRest.length > 1 && opAndRest[0].trim().equals(OP_USERNAME)) {
+                    String parsed = parseUsername(opAndRest[1]);
+                    replayed = parsed == null ? replayed : parsed;
+                }
+            }
+        }
+        return replayed;
+    }
+
+    private String parseUsername(String rest) {
+        String username = rest.trim().replace(PIPE_URL_ENCODED, "|");
+        return !username.isEmpty() && isAsciiOnly(username) ? username : null;
+    }
+
+    private String applyUpdate(String entry, String rest, ArrayList<Internship> internships) {
+        String[] indexAndRecord = rest.split(" \\| ", 2);
+        int index = parseIndex(indexAndRecord[0], internships.size());
+        if (index < 0 || indexAndRecord.length < 2) {
+            return "Warning: Skipped journal entry with invalid index: " + entry;
+        }
+
+        ArrayList<Internship> parsed = new ArrayList<>(1);
+        String errorMessage = parseInternshipFromFile(indexAndRecord[1], parsed);
+        if (errorMessage != null) {
+            return errorMessage;
+        }
+        internships.set(index, parsed.get(0));
+        return null;
+    }
+
+    private static int parseIndex(String token, int size) {
+        try {
+            int index = Integer.parseInt(token.trim());
+            return (index >= 0 && index < size) ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,607 @@
+package internity.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.Status;
+import internity.core.TextDictionary;
+import internity.ui.Ui;
+import internity.utils.DateFormatter;
+
+/**
+ * Reads the pipe-delimited storage file by scanning its bytes directly.
+ *
+ * <p>
+ * Large files are memory-mapped in windows of at most {@link #MAX_WINDOW_SIZE} bytes,
+ * small files are read into a heap buffer. Each line is copied once into a reusable
+ * scratch array and its fields are located by scanning for {@code '|'} bytes. The company
+ * and role are looked up in the {@link TextDictionary} straight from the bytes, through a small
+ * per-reader cache, so a String is only created for a text not seen before. The deadline, pay
+ * and optional ID are parsed from the digits in place, and the status is matched against the
+ * known status names without allocating.
+ * </p>
+ *
+ * <p>
+ * Lines that are not plain, valid records (wrong field count, non-printable bytes,
+ * invalid values, ...) are decoded and handed to
+ * {@link Storage#parseInternshipFromFile(String, ArrayList)}, so that skipped lines
+ * produce exactly the same warnings as before.
+ * </p>
+ *
+ * <p>
+ * Once at least {@link #PARALLEL_THRESHOLD} bytes of records remain in a window, the window
+ * is cut into chunks at {@code \n} boundaries and the chunks are parsed on the common
+ * {@link ForkJoinPool}. Chunk results and warnings are merged back in file order, so the
+ * positional indices and the order of warnings are the same as for a sequential scan.
+ * </p>
+ *
+ * <p>
+ * Line terminators follow {@link java.io.BufferedReader#readLine()}: {@code \n},
+ * {@code \r} or {@code \r\n}.
+ * </p>
+ */
+class MappedInternshipReader implements Closeable {
+    /** Files at least this large are memory-mapped instead of read into the heap. */
+    static final long MAP_THRESHOLD = 1024 * 1024;
+    /** Largest region mapped at once; lines never span two windows. */
+    static final long MAX_WINDOW_SIZE = 256L * 1024 * 1024;
+    /** Bytes of records from which a window is parsed in parallel chunks. */
+    static final long PARALLEL_THRESHOLD = 4L * 1024 * 1024;
+
+    private static final int FIELD_COUNT = 5;
+    private static final int FIELD_COUNT_WITH_ID = 6;
+    private static final int DATE_LENGTH = 10;
+    private static final int MAX_FAST_PAY_DIGITS = 9;
+    private static final int MAX_FAST_ID_DIGITS = 18;
+    private static final int CODE_CACHE_SIZE = 1024;
+    private static final byte[][] STATUS_BYTES = new byte[Status.count()][];
+
+    static {
+        for (int i = 0; i < STATUS_BYTES.length; i++) {
+            STATUS_BYTES[i] = Status.ofOrdinal(i).getDisplayName().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final boolean isMapped;
+    private final long windowSize;
+    private final long parallelThreshold;
+
+    private ByteBuffer window;
+    private long windowStart;
+    private byte[] scratch = new byte[256];
+    private int lineLength;
+    private int fieldCount;
+    private final int[] fieldStarts = new int[FIELD_COUNT_WITH_ID];
+    private final int[] fieldEnds = new int[FIELD_COUNT_WITH_ID];
+    /** Recently seen dictionary codes by text hash, so that parallel readers rarely take the dictionary lock. */
+    private final int[] codeCache = new int[CODE_CACHE_SIZE];
+
+    private MappedInternshipReader(FileChannel channel, boolean isMapped, long windowSize,
+            long parallelThreshold) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.isMapped = isMapped;
+        this.windowSize = windowSize;
+        this.parallelThreshold = parallelThreshold;
+        this.windowStart = 0;
+        this.window = isMapped ? mapWindow(0) : readFully();
+        Arrays.fill(codeCache, TextDictionary.NO_CODE);
+    }
+
+    /**
+     * Creates a reader over one chunk of a window, used by the parallel parse.
+     *
+     * @param chunk the bytes of whole lines to parse
+     */
+    private MappedInternshipReader(ByteBuffer chunk) {
+        this.channel = null;
+        this.fileSize = chunk.limit();
+        this.isMapped = false;
+        this.windowSize = chunk.limit();
+        this.parallelThreshold = Long.MAX_VALUE;
+        this.windowStart = 0;
+        this.window = chunk;
+        Arrays.fill(codeCache, TextDictionary.NO_CODE);
+    }
+
+    /**
+     * Opens the given file for scanning.
+     * <p>
+     * Mapping is skipped on Windows, where a mapped file cannot be replaced until the
+     * mapping is garbage collected, which would break the atomic rename in {@link Storage#save}.
+     * </p>
+     *
+     * @param path the storage file
+     * @return a reader positioned at the start of the file
+     * @throws IOException if the file cannot be opened or read
+     */
+    static MappedInternshipReader open(Path path) throws IOException {
+        return open(path, MAP_THRESHOLD, MAX_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens the given file for scanning with explicit mapping limits.
+     *
+     * @param path the storage file
+     * @param mapThreshold the file size from which the file is memory-mapped
+     * @param windowSize the largest region mapped at once
+     * @return a reader positioned at the start of the file
+     * @throws IOException if the file cannot be opened or read
+     */
+    static MappedInternshipReader open(Path path, long mapThreshold, long windowSize) throws IOException {
+        return open(path, mapThreshold, windowSize, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Opens the given file for scanning with explicit mapping and parallel parsing limits.
+     *
+     * @param path the storage file
+     * @param mapThreshold the file size from which the file is memory-mapped
+     * @param windowSize the largest region mapped at once
+     * @param parallelThreshold the number of bytes in a window from which records are parsed in parallel
+     * @return a reader positioned at the start of the file
+     * @throws IOException if the file cannot be opened or read
+     */
+    static MappedInternshipReader open(Path path, long mapThreshold, long windowSize,
+            long parallelThreshold) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            boolean isWindows = System.getProperty("os.name", "").startsWith("Windows");
+            boolean shouldMap = channel.size() >= mapThreshold && !isWindows;
+            return new MappedInternshipReader(channel, shouldMap || channel.size() > Integer.MAX_VALUE,
+                    windowSize, parallelThreshold);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the next line as a UTF-8 String.
+     *
+     * @return the next line without its terminator, or {@code null} at end of file
+     * @throws IOException if the file cannot be read
+     */
+    String readLine() throws IOException {
+        if (!nextLine()) {
+            return null;
+        }
+        return new String(scratch, 0, lineLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses every remaining line into internships.
+     * Warnings for skipped lines are printed to {@code System.err} in file order.
+     *
+     * @param storage the storage used to parse and report lines that are not plain valid records
+     * @param internships the list to add parsed internships to
+     * @throws IOException if the file cannot be read
+     */
+    void readInternships(Storage storage, ArrayList<Internship> internships) throws IOException {
+        while (window.hasRemaining() || advanceWindow()) {
+            int chunkedEnd = findChunkedEnd();
+            if (chunkedEnd < 0) {
+                readNextRecord(storage, internships);
+                continue;
+            }
+            readChunksInParallel(storage, internships, chunkedEnd);
+        }
+    }
+
+    /**
+     * Parses the lines of this reader's buffer on the calling thread.
+     *
+     * @param storage the storage used to parse lines that are not plain valid records
+     * @param internships the list to add parsed internships to
+     * @param warnings the list to add warnings for skipped lines to
+     */
+    private void readChunk(Storage storage, ArrayList<Internship> internships, List<String> warnings)
+            throws IOException {
+        while (nextLine()) {
+            String errorMessage = parseLine(storage, internships);
+            if (errorMessage != null) {
+                warnings.add(errorMessage);
+            }
+        }
+    }
+
+    private void readNextRecord(Storage storage, ArrayList<Internship> internships) throws IOException {
+        if (!nextLine()) {
+            return;
+        }
+        String errorMessage = parseLine(storage, internships);
+        if (errorMessage != null) {
+            System.err.println(errorMessage);
+        }
+    }
+
+    /**
+     * Parses the line in the scratch array, falling back to {@link Storage} for lines that need it.
+     *
+     * @return the warning for a skipped line, or {@code null} if the line was added
+     */
+    private String parseLine(Storage storage, ArrayList<Internship> internships) {
+        if (parseRecord(internships)) {
+            return null;
+        }
+        String line = new String(scratch, 0, lineLength, StandardCharsets.UTF_8);
+        return storage.parseInternshipFromFile(line, internships);
+    }
+
+    /**
+     * Returns where the part of the window that is worth parsing in parallel ends.
+     * Unless the window reaches the end of the file, this is just past its last {@code \n},
+     * so that no line or {@code \r\n} pair is cut.
+     *
+     * @return the end offset in the window, or -1 if the rest should be read sequentially
+     */
+    private int findChunkedEnd() {
+        int start = window.position();
+        int end = window.limit();
+        if (end - start < parallelThreshold) {
+            return -1;
+        }
+        if (hasMoreAfterWindow()) {
+            while (end > start && window.get(end - 1) != '\n') {
+                end--;
+            }
+        }
+        return (end - start >= parallelThreshold) ? end : -1;
+    }
+
+    /**
+     * Cuts the window from its position up to {@code end} into chunks at {@code \n} boundaries,
+     * parses them on the common fork-join pool and merges the results in file order.
+     */
+    private void readChunksInParallel(Storage storage, ArrayList<Internship> internships, int end) {
+        int start = window.position();
+        int chunkCount = ForkJoinPool.getCommonPoolParallelism() * 4;
+        long chunkSize = Math.max(1, (end - start) / chunkCount);
+
+        List<ForkJoinTask<ChunkResult>> tasks = new ArrayList<>();
+        int chunkStart = start;
+        while (chunkStart < end) {
+            int chunkEnd = (int) Math.min(end, chunkStart + chunkSize);
+            while (chunkEnd < end && window.get(chunkEnd - 1) != '\n') {
+                chunkEnd++;
+            }
+            ByteBuffer chunk = window.slice(chunkStart, chunkEnd - chunkStart);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> parseChunk(storage, chunk)));
+            chunkStart = chunkEnd;
+        }
+
+        for (ForkJoinTask<ChunkResult> task : tasks) {
+            ChunkResult result = task.join();
+            internships.addAll(result.internships);
+            for (String warning : result.warnings) {
+                System.err.println(warning);
+            }
+        }
+        window.position(end);
+    }
+
+    private static ChunkResult parseChunk(Storage storage, ByteBuffer chunk) throws IOException {
+        ChunkResult result = new ChunkResult();
+        new MappedInternshipReader(chunk).readChunk(storage, result.internships, result.warnings);
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Copies the next line into the scratch array.
+     *
+     * @return {@code false} at end of file
+     */
+    private boolean nextLine() throws IOException {
+        if (!window.hasRemaining() && !advanceWindow()) {
+            return false;
+        }
+
+        int start = window.position();
+        int end = findLineEnd(start);
+        while (end < 0 && advanceWindowFrom(start)) {
+            start = window.position();
+            end = findLineEnd(start);
+        }
+        if (end < 0) {
+            end = window.limit(); // last line without terminator
+        }
+
+        lineLength = end - start;
+        if (scratch.length < lineLength) {
+            scratch = new byte[Math.max(lineLength, scratch.length * 2)];
+        }
+        window.get(start, scratch, 0, lineLength);
+
+        int next = end;
+        if (next < window.limit()) {
+            boolean isCarriageReturn = window.get(next) == '\r';
+            next++;
+            if (isCarriageReturn && next < window.limit() && window.get(next) == '\n') {
+                next++;
+            }
+        }
+        window.position(next);
+        return true;
+    }
+
+    /**
+     * Returns the index of the first {@code \r} or {@code \n} at or after {@code start},
+     * or -1 if the window ends first and more of the file remains.
+     */
+    private int findLineEnd(int start) {
+        int limit = window.limit();
+        for (int i = start; i < limit; i++) {
+            byte b = window.get(i);
+            if (b == '\n' || b == '\r') {
+                if (b == '\r' && i + 1 == limit && hasMoreAfterWindow()) {
+                    return -1; // a following \n may be in the next window
+                }
+                return i;
+            }
+        }
+        return hasMoreAfterWindow() ? -1 : limit;
+    }
+
+    private boolean hasMoreAfterWindow() {
+        return windowStart + window.limit() < fileSize;
+    }
+
+    private boolean advanceWindow() throws IOException {
+        return advanceWindowFrom(window.position());
+    }
+
+    /**
+     * Remaps so that the window starts at the given offset of the current window.
+     *
+     * @return {@code false} if there is nothing left to map
+     */
+    private boolean advanceWindowFrom(int offset) throws IOException {
+        if (!isMapped || !hasMoreAfterWindow()) {
+            return false;
+        }
+        long nextStart = windowStart + offset;
+        if (nextStart == windowStart) {
+            throw new IOException("Line longer than " + windowSize + " bytes");
+        }
+        windowStart = nextStart;
+        window = mapWindow(nextStart);
+        return true;
+    }
+
+    private ByteBuffer mapWindow(long start) throws IOException {
+        long size = Math.min(windowSize, fileSize - start);
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    }
+
+    private ByteBuffer readFully() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // keep reading until the buffer is full or the file ends
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Parses the line in the scratch array if it is a plain, valid record.
+     *
+     * @return {@code true} if the record was added, {@code false} if the line needs the slow path
+     */
+    private boolean parseRecord(ArrayList<Internship> internships) {
+        if (!splitFields()) {
+            return false;
+        }
+
+        int companyCode = codeOfText(0, Ui.COMPANY_MAXLEN);
+        if (companyCode == TextDictionary.NO_CODE) {
+            return false;
+        }
+        int roleCode = codeOfText(1, Ui.ROLE_MAXLEN);
+        if (roleCode == TextDictionary.NO_CODE) {
+            return false;
+        }
+        Date deadline = parseDate(fieldStarts[2], fieldEnds[2]);
+        if (deadline == null) {
+            return false;
+        }
+        int pay = parsePay(fieldStarts[3], fieldEnds[3]);
+        if (pay < 0) {
+            return false;
+        }
+        Status status = matchStatus(fieldStarts[4], fieldEnds[4]);
+        if (status == null) {
+            return false;
+        }
+        long id = 0;
+        if (fieldCount == FIELD_COUNT_WITH_ID) {
+            id = parseId(fieldStarts[5], fieldEnds[5]);
+            if (id <= 0) {
+                return false;
+            }
+        }
+
+        Internship internship = Internship.ofCodes(companyCode, roleCode, deadline, pay);
+        internship.setStatus(status);
+        internship.setId(id);
+        internships.add(internship);
+        return true;
+    }
+
+    /**
+     * Locates the five trimmed fields of the line, or six if it ends with an ID.
+     *
+     * @return {@code false} if the line does not have five or six fields of printable ASCII
+     */
+    private boolean splitFields() {
+        int field = 0;
+        int fieldStart = 0;
+        for (int i = 0; i <= lineLength; i++) {
+            if (i < lineLength) {
+                byte b = scratch[i];
+                if (b < 32 || b > 126) {
+                    return false;
+                }
+                if (b != '|') {
+                    continue;
+                }
+            }
+            if (field == FIELD_COUNT_WITH_ID) {
+                return false;
+            }
+            int start = fieldStart;
+            int end = i;
+            while (start < end && scratch[start] == ' ') {
+                start++;
+            }
+            while (end > start && scratch[end - 1] == ' ') {
+                end--;
+            }
+            fieldStarts[field] = start;
+            fieldEnds[field] = end;
+            field++;
+            fieldStart = i + 1;
+        }
+        fieldCount = field;
+        return field == FIELD_COUNT || field == FIELD_COUNT_WITH_ID;
+    }
+
+    /**
+     * Looks up the dictionary code of a text field, turning {@code %7C} back into {@code |}.
+     *
+     * @return the code, or {@link TextDictionary#NO_CODE} if the field is empty or too long
+     */
+    private int codeOfText(int field, int maxLength) {
+        int start = fieldStarts[field];
+        int length = fieldEnds[field] - start;
+        if (length == 0) {
+            return TextDictionary.NO_CODE;
+        }
+        for (int i = start; i < start + length; i++) {
+            if (scratch[i] == '%') {
+                String text = new String(scratch, start, length, StandardCharsets.ISO_8859_1)
+                        .replace(Storage.PIPE_URL_ENCODED, "|");
+                return (text.isEmpty() || text.length() > maxLength) ? TextDictionary.NO_CODE
+                        : TextDictionary.codeOf(text);
+            }
+        }
+        if (length > maxLength) {
+            return TextDictionary.NO_CODE;
+        }
+
+        int hash = TextDictionary.hashOf(scratch, start, length);
+        int slot = (hash ^ (hash >>> 16)) & (CODE_CACHE_SIZE - 1);
+        int code = codeCache[slot];
+        if (code == TextDictionary.NO_CODE || !TextDictionary.matches(code, scratch, start, length)) {
+            code = TextDictionary.codeOf(scratch, start, length);
+            codeCache[slot] = code;
+        }
+        return code;
+    }
+
+    private Date parseDate(int start, int end) {
+        if (end - start != DATE_LENGTH || scratch[start + 2] != '-' || scratch[start + 5] != '-') {
+            return null;
+        }
+        int day = parseDigits(start, start + 2);
+        int month = parseDigits(start + 3, start + 5);
+        int year = parseDigits(start + 6, start + 10);
+        if (day < 0 || month < 0 || year < 0 || !DateFormatter.isValidDate(day, month, year)) {
+            return null;
+        }
+        return new Date(day, month, year);
+    }
+
+    private int parsePay(int start, int end) {
+        if (end - start > MAX_FAST_PAY_DIGITS) {
+            return -1;
+        }
+        return parseDigits(start, end);
+    }
+
+    /**
+     * Parses an ID of at most {@link #MAX_FAST_ID_DIGITS} digits.
+     *
+     * @return the ID, or -1 if the range is empty, too long or contains a non-digit
+     */
+    private long parseId(int start, int end) {
+        if (start >= end || end - start > MAX_FAST_ID_DIGITS) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = scratch[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses a non-empty run of ASCII digits.
+     *
+     * @return the value, or -1 if the range is empty or contains a non-digit
+     */
+    private int parseDigits(int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = scratch[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private Status matchStatus(int start, int end) {
+        int length = end - start;
+        for (int s = 0; s < STATUS_BYTES.length; s++) {
+            byte[] candidate = STATUS_BYTES[s];
+            if (candidate.length != length) {
+                continue;
+            }
+            boolean isMatch = true;
+            for (int i = 0; i < length && isMatch; i++) {
+                isMatch = scratch[start + i] == candidate[i];
+            }
+            if (isMatch) {
+                return Status.ofOrdinal(s);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The internships and warnings produced by one chunk, in file order.
+     */
+    private static class ChunkResult {
+        private final ArrayList<Internship> internships = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+    }
+}
@@ -0,0 +1,127 @@
+package internity.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes byte ranges into a file at absolute positions, and keeps the redo log that makes
+ * such a patch all or nothing.
+ *
+ * <p>
+ * Before a file is patched in place, the whole patch is written to a log file. If the process stops while
+ * the file is being patched, the complete log is found on the next start and the patch is written again.
+ * A log without its trailing checksum was cut short before the file was touched, and is dropped.
+ * </p>
+ * <pre>
+ *     length of the patched file (long) | number of ranges (int)
+ *     | for each range: position (long) | byte count (int) | bytes
+ *     | CRC32 of all preceding bytes (int)
+ * </pre>
+ */
+final class PatchLog {
+
+    private PatchLog() {
+    }
+
+    /**
+     * Writes the ranges into the target at their positions and truncates it to the given length.
+     * Writing the same patch again gives the same file.
+     *
+     * @param target the file to patch, created if missing
+     * @param positions the position of each range
+     * @param chunks the bytes of each range
+     * @param length the length of the patched file
+     * @throws IOException if the file cannot be written
+     */
+    static void writeChunks(Path target, long[] positions, byte[][] chunks, long length) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < chunks.length; i++) {
+                ByteBuffer buffer = ByteBuffer.wrap(chunks[i]);
+                long position = positions[i];
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+            channel.truncate(length);
+        }
+    }
+
+    /**
+     * Writes a patch to the log file, replacing any earlier log.
+     *
+     * @param log the log file
+     * @param positions the position of each range
+     * @param chunks the bytes of each range
+     * @param length the length of the patched file
+     * @throws IOException if the log cannot be written
+     */
+    static void write(Path log, long[] positions, byte[][] chunks, long length) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(log)))) {
+            CRC32 crc = new CRC32();
+            DataOutputStream checked = new DataOutputStream(new CheckedOutputStream(out, crc));
+            checked.writeLong(length);
+            checked.writeInt(chunks.length);
+            for (int i = 0; i < chunks.length; i++) {
+                checked.writeLong(positions[i]);
+                checked.writeInt(chunks[i].length);
+                checked.write(chunks[i]);
+            }
+            checked.flush();
+            out.writeInt((int) crc.getValue());
+        }
+    }
+
+    /**
+     * Writes the patch in the log file into the target again, if the log is complete.
+     *
+     * @param log the log file, which must exist
+     * @param target the file the patch was meant for
+     * @return {@code true} if the patch was written, {@code false} if the log was incomplete
+     * @throws IOException if the log cannot be read or the target cannot be written
+     */
+    static boolean replay(Path log, Path target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(log));
+        long[] positions;
+        byte[][] chunks;
+        long length;
+        try {
+            length = buffer.getLong();
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                return false;
+            }
+            positions = new long[count];
+            chunks = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                positions[i] = buffer.getLong();
+                int size = buffer.getInt();
+                if (size < 0 || size > buffer.remaining()) {
+                    return false;
+                }
+                chunks[i] = new byte[size];
+                buffer.get(chunks[i]);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.position());
+            if (buffer.getInt() != (int) crc.getValue()) {
+                return false;
+            }
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+        writeChunks(target, positions, chunks, length);
+        return true;
+    }
+}
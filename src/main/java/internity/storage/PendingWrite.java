@@ -0,0 +1,32 @@
+package internity.storage;
+
+import java.io.IOException;
+
+/**
+ * A save prepared on the input thread that is written to disk later, possibly on another thread.
+ *
+ * <p>
+ * A pending write holds its own copy of everything it writes, so the {@link internity.core.InternshipList}
+ * may keep changing before it runs. Writes that have not started yet can be merged into one with
+ * {@link #followedBy(PendingWrite)}, so a burst of saves costs a single write.
+ * </p>
+ */
+abstract class PendingWrite {
+    /**
+     * Writes the prepared data.
+     *
+     * @throws IOException If the data cannot be written.
+     */
+    abstract void write() throws IOException;
+
+    /**
+     * Returns one write with the effect of this write followed by the given later write.
+     * A full snapshot makes every earlier write redundant, so by default the later write is returned.
+     *
+     * @param later The write prepared after this one.
+     * @return the merged write
+     */
+    PendingWrite followedBy(PendingWrite later) {
+        return later;
+    }
+}
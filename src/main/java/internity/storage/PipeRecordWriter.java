@@ -0,0 +1,232 @@
+package internity.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import internity.core.Date;
+import internity.core.Internship;
+
+/**
+ * Writes the pipe-delimited text format straight into a reused direct {@link ByteBuffer}.
+ *
+ * <p>
+ * The output is byte for byte what {@link Storage#formatInternshipForFile(Internship)} and
+ * {@link Storage#formatTextHeader(String)} produce in UTF-8, but no strings are built on the way:
+ * company and role are copied char by char with pipes escaped to {@code %7C} as they are copied,
+ * and dates, pay and IDs are formatted digit by digit. Writing a record therefore allocates nothing.
+ * Each line is formatted into a reused scratch array and copied into the buffer in one bulk put, and the buffer
+ * is drained to the channel whenever the next line does not fit and by {@link #flush()}.
+ * </p>
+ *
+ * <p>
+ * A writer is not thread-safe. It is meant to be kept and reused for one write after another,
+ * each started with {@link #open(WritableByteChannel)}.
+ * </p>
+ */
+final class PipeRecordWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] HEADER = Storage.USERNAME_HEADER.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DELIMITER = " | ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PIPE_ENCODED = Storage.PIPE_URL_ENCODED.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_DATE_YEAR = 9999;
+    // Bytes a line needs besides its text fields: delimiters, date, pay, status, ID and line separator
+    private static final int MAX_FIXED_LINE_BYTES = 128;
+    // A char takes at most three bytes, whether as UTF-8 or as an escaped pipe
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] digits = new byte[20];
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private WritableByteChannel channel;
+
+    /**
+     * Starts writing to the given channel, discarding anything left from an earlier failed write.
+     *
+     * @param channel the channel to write to
+     */
+    void open(WritableByteChannel channel) {
+        this.channel = channel;
+        buffer.clear();
+    }
+
+    /**
+     * Writes the username header line and the username line.
+     *
+     * @param username the username, may be {@code null}
+     * @return the number of bytes written
+     * @throws IOException if the buffer cannot be drained to the channel
+     */
+    int writeHeader(String username) throws IOException {
+        startLine(username == null ? 0 : username.length());
+        putBytes(HEADER);
+        putBytes(LINE_SEPARATOR);
+        if (username != null) {
+            putText(username, false);
+        }
+        putBytes(LINE_SEPARATOR);
+        return endLine();
+    }
+
+    /**
+     * Writes one internship as a line: company, role, deadline, pay, status and, once assigned, the ID.
+     *
+     * @param internship the internship to write
+     * @return the number of bytes written, including the line separator
+     * @throws IOException if the buffer cannot be drained to the channel
+     */
+    int writeRecord(Internship internship) throws IOException {
+        assert internship != null : "Internship to write cannot be null";
+
+        String company = internship.getCompany();
+        String role = internship.getRole();
+        startLine(company.length() + role.length());
+        putText(company, true);
+        putBytes(DELIMITER);
+        putText(role, true);
+        putBytes(DELIMITER);
+        putDate(internship.getDeadline());
+        putBytes(DELIMITER);
+        putLong(internship.getPay());
+        putBytes(DELIMITER);
+        putText(internship.getStatusValue().getDisplayName(), false);
+        if (internship.getId() > 0) {
+            putBytes(DELIMITER);
+            putLong(internship.getId());
+        }
+        putBytes(LINE_SEPARATOR);
+        return endLine();
+    }
+
+    /**
+     * Writes everything still in the buffer to the channel.
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Starts a line, making sure the scratch array can hold it.
+     *
+     * @param textLength the number of chars in the variable-length text fields of the line
+     */
+    private void startLine(int textLength) {
+        int capacity = textLength * MAX_BYTES_PER_CHAR + MAX_FIXED_LINE_BYTES;
+        if (line.length < capacity) {
+            line = new byte[capacity];
+        }
+        lineLength = 0;
+    }
+
+    /**
+     * Copies the finished line into the buffer, draining the buffer first if the line does not fit.
+     *
+     * @return the length of the line in bytes
+     */
+    private int endLine() throws IOException {
+        if (buffer.remaining() < lineLength) {
+            flush();
+        }
+        if (lineLength > buffer.capacity()) {
+            ByteBuffer wrapped = ByteBuffer.wrap(line, 0, lineLength);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        } else {
+            buffer.put(line, 0, lineLength);
+        }
+        return lineLength;
+    }
+
+    private void put(byte b) {
+        line[lineLength++] = b;
+    }
+
+    private void putBytes(byte[] bytes) {
+        System.arraycopy(bytes, 0, line, lineLength, bytes.length);
+        lineLength += bytes.length;
+    }
+
+    /**
+     * Writes text as UTF-8, escaping pipes if asked. The text is validated as printable ASCII
+     * elsewhere, so the multi-byte branches only keep the output identical to {@link String#getBytes}.
+     */
+    private void putText(String text, boolean isPipeEscaped) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '|' && isPipeEscaped) {
+                putBytes(PIPE_ENCODED);
+            } else if (c < 0x80) {
+                put((byte) c);
+            } else if (c < 0x800) {
+                put((byte) (0xC0 | c >> 6));
+                put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                put((byte) (0xF0 | codePoint >> 18));
+                put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced like the UTF-8 encoder does
+                put((byte) '?');
+            } else {
+                put((byte) (0xE0 | c >> 12));
+                put((byte) (0x80 | c >> 6 & 0x3F));
+                put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Writes a date as {@code DD-MM-YYYY}. Years outside 0 to 9999 are rare enough to go through
+     * {@link Date#toString()}.
+     */
+    private void putDate(Date date) {
+        int year = date.getYear();
+        if (year < 0 || year > MAX_DATE_YEAR) {
+            putText(date.toString(), false);
+            return;
+        }
+        putTwoDigits(date.getDay());
+        put((byte) '-');
+        putTwoDigits(date.getMonth());
+        put((byte) '-');
+        putTwoDigits(year / 100);
+        putTwoDigits(year % 100);
+    }
+
+    private void putTwoDigits(int value) {
+        put((byte) ('0' + value / 10));
+        put((byte) ('0' + value % 10));
+    }
+
+    private void putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            putText(Long.toString(value), false);
+            return;
+        }
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = length - 1; i >= 0; i--) {
+            put(digits[i]);
+        }
+    }
+}
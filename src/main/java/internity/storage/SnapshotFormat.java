@@ -0,0 +1,13 @@
+package internity.storage;
+
+/**
+ * The on-disk formats a {@link Storage} can write its snapshot in.
+ * When loading, the format is detected from the file itself, so either format can be read back
+ * regardless of which one is configured for saving.
+ */
+public enum SnapshotFormat {
+    /** Human-readable pipe-delimited text, one internship per line. */
+    TEXT,
+    /** Compact binary records, see {@link BinarySnapshot}. */
+    BINARY
+}
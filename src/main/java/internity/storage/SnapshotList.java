@@ -0,0 +1,244 @@
+package internity.storage;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import internity.core.Internship;
+
+/**
+ * Copies of the internships in the list, kept in step with it by the storage hooks, from which an immutable
+ * snapshot is taken without copying every internship.
+ *
+ * <p>
+ * The copies are kept in chunks of up to {@value #CHUNK_SIZE}. A snapshot copies only the table of chunks and
+ * marks them shared, and a later change copies the one chunk it touches if that chunk is shared. So a snapshot
+ * takes time proportional to the number of chunks, and each change after it at most one chunk.
+ * </p>
+ *
+ * <p>
+ * Once the changes since the last snapshot have cost about as much as copying every internship, or a change
+ * does not fit the copies, the list becomes stale and stops following changes. The storage then copies the
+ * whole list again.
+ * </p>
+ */
+final class SnapshotList {
+    static final int CHUNK_SIZE = 1024;
+    // Moving a reference within a chunk costs far less than copying an internship
+    private static final int MOVES_PER_COPY = 16;
+
+    private Chunk[] chunks;
+    private int chunkCount;
+    private int size;
+    private long changeCost;
+    private boolean isStale;
+
+    // The position of the first copy in the chunk last found by chunkOf
+    private int chunkStart;
+
+    /**
+     * Creates the copies of the given internships.
+     *
+     * @param internships The internships to copy.
+     */
+    SnapshotList(List<Internship> internships) {
+        chunks = new Chunk[Math.max(1, (internships.size() + CHUNK_SIZE - 1) / CHUNK_SIZE)];
+        for (Internship internship : internships) {
+            if (chunkCount == 0 || chunks[chunkCount - 1].size == CHUNK_SIZE) {
+                chunks[chunkCount++] = new Chunk(new Internship[CHUNK_SIZE], 0);
+            }
+            Chunk last = chunks[chunkCount - 1];
+            last.items[last.size++] = Storage.copyOf(internship);
+        }
+        size = internships.size();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isStale() {
+        return isStale;
+    }
+
+    /**
+     * Returns the copies as they are now. Later changes to this list do not show in the returned list.
+     *
+     * @return an immutable list of the copies
+     */
+    List<Internship> snapshot() {
+        Chunk[] shared = Arrays.copyOf(chunks, chunkCount);
+        for (Chunk chunk : shared) {
+            chunk.isShared = true;
+        }
+        changeCost = 0;
+        return new Snapshot(shared, size);
+    }
+
+    void add(Internship internship) {
+        if (isStale) {
+            return;
+        }
+        Chunk last;
+        if (chunkCount == 0 || chunks[chunkCount - 1].size == CHUNK_SIZE) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            last = new Chunk(new Internship[CHUNK_SIZE], 0);
+            chunks[chunkCount++] = last;
+        } else {
+            last = ownChunk(chunkCount - 1);
+        }
+        last.items[last.size++] = Storage.copyOf(internship);
+        size++;
+        charge(1);
+    }
+
+    void set(int index, Internship internship) {
+        if (isStale || !isValidIndex(index)) {
+            return;
+        }
+        int chunkIndex = chunkOf(index);
+        ownChunk(chunkIndex).items[index - chunkStart] = Storage.copyOf(internship);
+    }
+
+    void remove(int index) {
+        if (isStale || !isValidIndex(index)) {
+            return;
+        }
+        int chunkIndex = chunkOf(index);
+        Chunk chunk = ownChunk(chunkIndex);
+        int offset = index - chunkStart;
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.size - offset - 1);
+        chunk.items[--chunk.size] = null;
+        charge(chunk.size - offset);
+        if (chunk.size == 0) {
+            System.arraycopy(chunks, chunkIndex + 1, chunks, chunkIndex, chunkCount - chunkIndex - 1);
+            chunks[--chunkCount] = null;
+            charge(chunkCount);
+        }
+        size--;
+    }
+
+    private boolean isValidIndex(int index) {
+        if (index < 0 || index >= size) {
+            isStale = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds the chunk holding the copy at the given position, and sets {@link #chunkStart} to its first position.
+     */
+    private int chunkOf(int index) {
+        int start = 0;
+        int chunkIndex = 0;
+        while (start + chunks[chunkIndex].size <= index) {
+            start += chunks[chunkIndex].size;
+            chunkIndex++;
+        }
+        chunkStart = start;
+        charge(chunkIndex);
+        return chunkIndex;
+    }
+
+    /**
+     * Returns the chunk at the given index, first replacing it with a copy if a snapshot shares it.
+     */
+    private Chunk ownChunk(int chunkIndex) {
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk.isShared) {
+            chunk = new Chunk(Arrays.copyOf(chunk.items, CHUNK_SIZE), chunk.size);
+            chunks[chunkIndex] = chunk;
+            charge(chunk.size);
+        }
+        return chunk;
+    }
+
+    private void charge(long cost) {
+        changeCost += cost;
+        if (changeCost > (long) MOVES_PER_COPY * Math.max(size, CHUNK_SIZE)) {
+            isStale = true;
+        }
+    }
+
+    /**
+     * Up to {@value #CHUNK_SIZE} consecutive copies. A shared chunk belongs to a snapshot and is never changed.
+     */
+    private static final class Chunk {
+        private final Internship[] items;
+        private int size;
+        private boolean isShared;
+
+        Chunk(Internship[] items, int size) {
+            this.items = items;
+            this.size = size;
+        }
+    }
+
+    /**
+     * The copies at the time of a snapshot, read by the writer thread.
+     */
+    private static final class Snapshot extends AbstractList<Internship> {
+        private final Chunk[] chunks;
+        private final int[] starts;
+        private final int size;
+
+        Snapshot(Chunk[] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+            this.starts = new int[chunks.length];
+            for (int i = 1; i < chunks.length; i++) {
+                starts[i] = starts[i - 1] + chunks[i - 1].size;
+            }
+        }
+
+        @Override
+        public Internship get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+            int chunkIndex = Arrays.binarySearch(starts, index);
+            if (chunkIndex < 0) {
+                chunkIndex = -chunkIndex - 2;
+            }
+            // Starts repeat only for empty chunks, which snapshots never hold
+            return chunks[chunkIndex].items[index - starts[chunkIndex]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Internship> iterator() {
+            return new Iterator<>() {
+                private int chunkIndex;
+                private int offset;
+
+                @Override
+                public boolean hasNext() {
+                    return chunkIndex < chunks.length;
+                }
+
+                @Override
+                public Internship next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Chunk chunk = chunks[chunkIndex];
+                    Internship internship = chunk.items[offset++];
+                    if (offset == chunk.size) {
+                        chunkIndex++;
+                        offset = 0;
+                    }
+                    return internship;
+                }
+            };
+        }
+    }
+}
@@ -1,18 +1,20 @@
 package internity.storage;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,8 +27,12 @@ import internity.utils.DateFormatter;
 
 /**
  * Handles loading and saving internships to a file for persistent storage.
- * The storage format is a pipe-delimited text file where each line represents one internship.
- * Format: company | role | deadline (DD-MM-YYYY) | pay | status
+ * The default storage format is a pipe-delimited text file where each line represents one internship.
+ * Format: company | role | deadline (DD-MM-YYYY) | pay | status | id
+ * The trailing ID is optional, so files written before internships had stable IDs still load.
+ * Alternatively, snapshots can be saved in the compact {@link SnapshotFormat#BINARY} format.
+ * Either format is recognised when loading.
+ * How often written files are synced to the disk is set by a {@link Durability} policy.
  */
 public class Storage {
     private static final Logger logger = Logger.getLogger(Storage.class.getName());
@@ -41,21 +47,72 @@ public class Storage {
     private static final int IDX_DEADLINE = 2;
     private static final int IDX_PAY = 3;
     private static final int IDX_STATUS = 4;
+    private static final int IDX_ID = 5;
     private static final int LEN_REQUIRED_FIELDS = 5;
+    private static final int LEN_FIELDS_WITH_ID = 6;
 
-    private static final String PIPE_URL_ENCODED = "%7C";
+    static final String PIPE_URL_ENCODED = "%7C";
 
-    private final Path filePath;
+    static final String USERNAME_HEADER = "Username (in line below):";
+
+    protected final Path filePath;
+    protected final SnapshotFormat format;
+    protected final Durability durability;
+
+    private final WriteMetrics writeMetrics = new WriteMetrics();
+    private final AtomicBoolean isUnsynced = new AtomicBoolean();
+    private final ScheduledExecutorService syncer;
+    private final PipeRecordWriter textWriter = new PipeRecordWriter();
+
+    // Copies of the list for background saves, made at the first one and then kept in step by the record hooks
+    private SnapshotList snapshots;
 
     /**
-     * Creates a new Storage instance with the specified file path.
+     * Creates a new Storage instance with the specified file path, saving in the text format.
      *
      * @param filePath The path to the file for storing internships.
      */
     public Storage(String filePath) {
+        this(filePath, SnapshotFormat.TEXT);
+    }
+
+    /**
+     * Creates a new Storage instance with the specified file path and snapshot format.
+     *
+     * @param filePath The path to the file for storing internships.
+     * @param format The format snapshots are saved in.
+     */
+    public Storage(String filePath, SnapshotFormat format) {
+        this(filePath, format, Durability.NONE);
+    }
+
+    /**
+     * Creates a new Storage instance with the specified file path, snapshot format and durability policy.
+     * A group commit policy starts a background thread that syncs the written files.
+     *
+     * @param filePath The path to the file for storing internships.
+     * @param format The format snapshots are saved in.
+     * @param durability When written files are synced to the disk.
+     */
+    public Storage(String filePath, SnapshotFormat format, Durability durability) {
         assert filePath != null : "File path cannot be null";
         assert !filePath.trim().isEmpty() : "File path cannot be empty";
+        assert format != null : "Snapshot format cannot be null";
+        assert durability != null : "Durability cannot be null";
         this.filePath = Paths.get(filePath);
+        this.format = format;
+        this.durability = durability;
+        if (durability.getMode() == Durability.Mode.GROUP_COMMIT) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "internity-syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = durability.getIntervalMillis();
+            syncer.scheduleWithFixedDelay(this::syncIfUnsynced, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.syncer = null;
+        }
     }
 
     /**
@@ -63,12 +120,16 @@ public class Storage {
      * The first line should contain "Username (in line below):"
      * The second line should contain the actual username.
      * Remaining lines contain internship entries.
+     * The file is scanned as bytes by {@link MappedInternshipReader}, memory-mapping it and
+     * parsing it in parallel chunks when large.
+     * A file starting with the binary snapshot magic is read by {@link BinarySnapshot} instead.
      *
      * @return ArrayList of internships loaded from the file.
      * @throws InternityException If there is an error reading the file.
      */
     public ArrayList<Internship> load() throws InternityException {
         logger.info("Loading internships from: " + filePath);
+        snapshots = null;
         ArrayList<Internship> internships = new ArrayList<>();
 
         if (!Files.exists(filePath)) {
@@ -76,45 +137,115 @@ public class Storage {
             return internships; // First run: nothing to load
         }
 
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(Files.newInputStream(filePath), StandardCharsets.UTF_8))) {
+        try {
+            if (BinarySnapshot.isBinarySnapshot(filePath)) {
+                loadUsername(BinarySnapshot.read(filePath, internships));
+            } else {
+                loadText(internships);
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to load internships from " + filePath + ": " + e.getMessage());
+            throw new InternityException("Could not load internships: " + e.getMessage());
+        }
+
+        logger.info("Successfully loaded " + internships.size() + " internships");
+
+        return internships;
+    }
+
+    /**
+     * Loads the username header and internship lines of a text snapshot.
+     *
+     * @param internships The list to add the loaded internships to.
+     * @throws InternityException If the username header is missing.
+     * @throws IOException If the file cannot be read.
+     */
+    private void loadText(ArrayList<Internship> internships) throws InternityException, IOException {
+        try (MappedInternshipReader reader = MappedInternshipReader.open(filePath)) {
             // Read first line (username header)
-            String line = br.readLine();
-            if (line == null || !line.equals("Username (in line below):")) {
+            String line = reader.readLine();
+            if (line == null || !line.equals(USERNAME_HEADER)) {
                 logger.warning("Invalid file format: missing username header");
                 throw new InternityException("Invalid storage file format");
             }
 
             // Read second line (actual username)
-            String username = br.readLine();
-            if (username != null && !username.trim().isEmpty()) {
-                String trimmedUsername = username.trim();
-                if (!isAsciiOnly(trimmedUsername)) {
-                    logger.warning("Username contains non-ASCII characters: " + trimmedUsername);
-                    // Skip setting invalid username
-                } else {
-                    InternshipList.setUsername(trimmedUsername);
-                    logger.info("Loaded username: " + trimmedUsername);
-                }
-            }
+            loadUsername(reader.readLine());
 
             // Read remaining lines as internship data
-            int lineNumber = 2;
-            while ((line = br.readLine()) != null) {
-                lineNumber++;
-                String errorMessage = parseInternshipFromFile(line, internships);
-                if (errorMessage != null) {
-                    System.err.println(errorMessage);
-                }
-            }
+            reader.readInternships(this, internships);
+        }
+    }
+
+    /**
+     * Sets the username read from a snapshot, skipping it if it is blank or not ASCII.
+     *
+     * @param username The stored username, may be null.
+     */
+    private void loadUsername(String username) {
+        String validUsername = toValidUsername(username);
+        if (validUsername != null) {
+            InternshipList.setUsername(validUsername);
+            logger.info("Loaded username: " + validUsername);
+        }
+    }
+
+    /**
+     * Trims a stored username, returning null if it is blank or not ASCII.
+     *
+     * @param username The stored username, may be null.
+     * @return The username to use, or null if there is none.
+     */
+    private String toValidUsername(String username) {
+        if (username == null || username.trim().isEmpty()) {
+            return null;
+        }
+        String trimmedUsername = username.trim();
+        if (!isAsciiOnly(trimmedUsername)) {
+            logger.warning("Username contains non-ASCII characters: " + trimmedUsername);
+            return null;
+        }
+        return trimmedUsername;
+    }
+
+    /**
+     * Reads only the username that {@link #load()} would set, without reading any internships.
+     * This takes about as long for a large file as for an empty one, so the user can be greeted
+     * while the internships are still being loaded.
+     *
+     * @return The stored username, or null if none is stored.
+     * @throws InternityException If there is an error reading the file.
+     */
+    public String readUsername() throws InternityException {
+        try {
+            return readSnapshotUsername(filePath);
         } catch (IOException e) {
-            logger.severe("Failed to load internships from " + filePath + ": " + e.getMessage());
+            logger.severe("Failed to read username from " + filePath + ": " + e.getMessage());
             throw new InternityException("Could not load internships: " + e.getMessage());
         }
+    }
 
-        logger.info("Successfully loaded " + internships.size() + " internships");
-
-        return internships;
+    /**
+     * Reads the username stored in the header of a text or binary snapshot.
+     *
+     * @param snapshot The snapshot file.
+     * @return The stored username, or null if the file does not exist, has no username or no valid header.
+     * @throws IOException If the file cannot be read.
+     */
+    String readSnapshotUsername(Path snapshot) throws IOException {
+        if (!Files.exists(snapshot)) {
+            return null;
+        }
+        if (BinarySnapshot.isBinarySnapshot(snapshot)) {
+            return toValidUsername(BinarySnapshot.readUsername(snapshot));
+        }
+        try (MappedInternshipReader reader = MappedInternshipReader.open(snapshot)) {
+            // A missing header is reported by load(); there is no username to greet until then
+            if (!USERNAME_HEADER.equals(reader.readLine())) {
+                return null;
+            }
+            return toValidUsername(reader.readLine());
+        }
     }
 
     /**
@@ -124,7 +255,7 @@ public class Storage {
      * @param internships The list to add the parsed internship to.
      * @return Error message if parsing failed, null if successful.
      */
-    private String parseInternshipFromFile(String line, ArrayList<Internship> internships) {
+    String parseInternshipFromFile(String line, ArrayList<Internship> internships) {
         assert line != null : "Line to parse cannot be null";
 
         String[] parts = line.split("\\|");
@@ -135,7 +266,7 @@ public class Storage {
         }
 
         // Validate field count
-        if (parts.length != LEN_REQUIRED_FIELDS) {
+        if (parts.length != LEN_REQUIRED_FIELDS && parts.length != LEN_FIELDS_WITH_ID) {
             return "Warning: Skipped line with invalid number of fields: " + line;
         }
 
@@ -155,6 +286,7 @@ public class Storage {
      * - Deadline must be in valid DD-MM-YYYY format
      * - Deadline must represent a valid calendar date (no Feb 31, etc.)
      * - Status must be one of the valid status values
+     * - ID, if present, must be a positive integer
      *
      * @param parts The split and trimmed line parts.
      * @param line The original line for error reporting.
@@ -223,9 +355,24 @@ public class Storage {
             return "Warning: Skipped line - " + e.getMessage() + ": " + line;
         }
 
+        // Parse optional ID
+        long id = 0;
+        if (parts.length == LEN_FIELDS_WITH_ID) {
+            try {
+                id = Long.parseLong(parts[IDX_ID]);
+            } catch (NumberFormatException e) {
+                id = -1;
+            }
+            if (id <= 0) {
+                logger.warning("Invalid ID in line: " + line);
+                return "Warning: Skipped line with invalid ID: " + line;
+            }
+        }
+
         // Create and add internship
         Internship internship = new Internship(company, role, deadline, pay);
         internship.setStatus(status);
+        internship.setId(id);
         internships.add(internship);
 
         return null;
@@ -249,44 +396,329 @@ public class Storage {
         logger.info("Saving " + internships.size() + " internships to: " + filePath);
 
         try {
-            // Create parent directories if they don't exist
-            if (filePath.getParent() != null) {
-                Files.createDirectories(filePath.getParent());
-                logger.info("Created parent directories for: " + filePath);
+            replaceSnapshot(internships, InternshipList.getUsername());
+            logger.info("Successfully saved " + internships.size() + " internships");
+        } catch (IOException e) {
+            logger.severe("Failed to save internships to " + filePath + ": " + e.getMessage());
+            throw new InternityException("Could not save internships: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prepares a save of the given internships that {@link BackgroundStorage} writes later on its own thread.
+     * The write gets an immutable snapshot of the copies kept by {@link SnapshotList}, so the list may keep
+     * changing before it runs. Every internship is copied only at the first save, or when the copies have
+     * fallen out of step with the list.
+     *
+     * @param internships The current list of internships.
+     * @return the prepared write, which replaces the data file with the snapshot
+     */
+    PendingWrite prepareSave(ArrayList<Internship> internships) {
+        if (snapshots == null || snapshots.isStale() || snapshots.size() != internships.size()) {
+            snapshots = new SnapshotList(internships);
+        }
+        List<Internship> snapshot = snapshots.snapshot();
+        String username = InternshipList.getUsername();
+        return new PendingWrite() {
+            @Override
+            void write() throws IOException {
+                replaceSnapshot(snapshot, username);
+            }
+        };
+    }
+
+    /**
+     * Waits until every save handed to this storage has been written to disk.
+     * The plain storage writes during {@link #save(ArrayList)}, so there is nothing to wait for.
+     *
+     * @throws InternityException If an earlier save could not be written.
+     */
+    public void flush() throws InternityException {
+    }
+
+    /**
+     * Writes a snapshot to a temporary file and atomically replaces the data file with it,
+     * so a crash during the write never leaves a half-written data file.
+     *
+     * @param internships The internships to write.
+     * @param username The username to write in the header, may be null.
+     * @throws IOException If the snapshot cannot be written or moved.
+     */
+    private void replaceSnapshot(List<Internship> internships, String username) throws IOException {
+        long startTime = System.nanoTime();
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        writeSnapshot(tempFile, internships, username);
+        // The data must be on the disk before the rename, or a crash can leave an empty data file
+        syncFile(tempFile);
+
+        // This is atomic on most filesystems, preventing data loss
+        moveAtomically(tempFile, filePath);
+        syncDirectory();
+        writeMetrics.recordWrite(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Syncs a file that was just written if the {@link Durability} policy syncs every write.
+     * Otherwise the file is left for the next group commit or the sync on exit.
+     *
+     * @param file The written file.
+     * @throws IOException If the file cannot be synced.
+     */
+    protected void syncFile(Path file) throws IOException {
+        if (durability.getMode() == Durability.Mode.EVERY_WRITE) {
+            force(file, false);
+        } else {
+            isUnsynced.set(true);
+        }
+    }
+
+    /**
+     * Syncs the directory of the data file after a file in it was created or renamed, if the
+     * {@link Durability} policy syncs every write. Otherwise it is left for the next group commit
+     * or the sync on exit.
+     *
+     * @throws IOException If the directory cannot be synced.
+     */
+    protected void syncDirectory() throws IOException {
+        if (durability.getMode() == Durability.Mode.EVERY_WRITE) {
+            force(getDirectory(), true);
+        } else {
+            isUnsynced.set(true);
+        }
+    }
+
+    /**
+     * Returns the files that a group commit or the sync on exit forces to the disk.
+     *
+     * @return the data files, which need not exist
+     */
+    protected List<Path> getSyncedFiles() {
+        return List.of(filePath);
+    }
+
+    /**
+     * Returns the write and sync counts and latencies of this storage.
+     *
+     * @return the metrics
+     */
+    public WriteMetrics getWriteMetrics() {
+        return writeMetrics;
+    }
+
+    /**
+     * Returns the durability policy of this storage.
+     *
+     * @return the policy
+     */
+    public Durability getDurability() {
+        return durability;
+    }
+
+    /**
+     * Syncs the data files and their directory if anything was written since the last sync.
+     * A failed sync is logged and retried the next time.
+     */
+    void syncIfUnsynced() {
+        if (!isUnsynced.getAndSet(false)) {
+            return;
+        }
+        try {
+            for (Path file : getSyncedFiles()) {
+                force(file, false);
+            }
+            force(getDirectory(), true);
+        } catch (IOException e) {
+            isUnsynced.set(true);
+            logger.warning("Failed to sync " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Forces a file or directory to the disk with {@link FileChannel#force(boolean)}.
+     * A file that no longer exists, such as a rotated journal, is skipped. Directories cannot be
+     * opened on some platforms, such as Windows, where renames are durable without a directory sync.
+     */
+    private void force(Path path, boolean isDirectory) throws IOException {
+        long startTime = System.nanoTime();
+        StandardOpenOption option = isDirectory ? StandardOpenOption.READ : StandardOpenOption.WRITE;
+        try (FileChannel channel = FileChannel.open(path, option)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            if (!isDirectory) {
+                throw e;
             }
+            logger.info("Directory " + path + " cannot be synced: " + e.getMessage());
+            return;
+        }
+        writeMetrics.recordSync(System.nanoTime() - startTime);
+    }
+
+    private Path getDirectory() {
+        Path directory = filePath.toAbsolutePath().getParent();
+        assert directory != null : "Data file must have a parent directory";
+        return directory;
+    }
+
+    /**
+     * Copies the given internships, so that a snapshot of them can be written while the list keeps changing.
+     *
+     * @param internships The internships to copy.
+     * @return new internships with the same fields and IDs
+     */
+    static ArrayList<Internship> copyOf(List<Internship> internships) {
+        ArrayList<Internship> copy = new ArrayList<>(internships.size());
+        for (Internship internship : internships) {
+            copy.add(copyOf(internship));
+        }
+        return copy;
+    }
 
-            // Write to a temporary file first for atomic save
-            Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+    /**
+     * Copies one internship.
+     *
+     * @param internship The internship to copy, may be null.
+     * @return a new internship with the same fields and ID, or null
+     */
+    static Internship copyOf(Internship internship) {
+        if (internship == null) {
+            return null;
+        }
+        Internship duplicate = Internship.ofCodes(internship.getCompanyCode(), internship.getRoleCode(),
+                internship.getDeadline(), internship.getPay());
+        duplicate.setStatus(internship.getStatusValue());
+        duplicate.setId(internship.getId());
+        return duplicate;
+    }
 
-            try (PrintWriter pw = new PrintWriter(new BufferedWriter(
-                    new OutputStreamWriter(Files.newOutputStream(tempFile), StandardCharsets.UTF_8)))) {
-                // Write username header and value
-                pw.println("Username (in line below):");
-                String username = InternshipList.getUsername();
-                pw.println(username != null ? username : "");
+    /**
+     * Writes a full snapshot (username header followed by every internship) to the given file
+     * in the configured {@link SnapshotFormat}.
+     * Parent directories are created if they don't exist.
+     *
+     * @param target The file to write the snapshot to.
+     * @param internships The internships to write.
+     * @param username The username to write in the header, may be null.
+     * @throws IOException If the file cannot be written.
+     */
+    protected void writeSnapshot(Path target, List<Internship> internships, String username) throws IOException {
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
 
-                // Write internships
+        if (format == SnapshotFormat.BINARY) {
+            BinarySnapshot.write(target, internships, username);
+        } else {
+            writeTextSnapshot(target, internships, username);
+        }
+    }
+
+    /**
+     * Writes a full snapshot in the pipe-delimited text format.
+     *
+     * @param target The file to write the snapshot to.
+     * @param internships The internships to write.
+     * @param username The username to write in the header, may be null.
+     * @throws IOException If the file cannot be written.
+     */
+    private void writeTextSnapshot(Path target, List<Internship> internships, String username) throws IOException {
+        // The writer reuses one buffer, and snapshots may be written by the writer and compaction threads
+        synchronized (textWriter) {
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                textWriter.open(channel);
+                textWriter.writeHeader(username);
                 for (Internship internship : internships) {
-                    pw.println(formatInternshipForFile(internship));
+                    textWriter.writeRecord(internship);
                 }
+                textWriter.flush();
             }
+        }
+    }
+
+    /**
+     * Moves a file over another, atomically where the filesystem supports it.
+     *
+     * @param source The file to move.
+     * @param target The file to replace.
+     * @throws IOException If the move fails.
+     */
+    protected void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Successfully saved with atomic move");
+        } catch (AtomicMoveNotSupportedException e) {
+            // Fallback: non-atomic move (still safer than direct write)
+            logger.warning("Atomic move not supported, using regular move");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-            // Atomically replace the old file with the new one
-            // This is atomic on most filesystems, preventing data loss
+    /**
+     * Records that an internship was appended to the list.
+     * The plain storage rewrites the whole file on {@link #save(ArrayList)}, so this only keeps the copies
+     * for background saves in step.
+     *
+     * @param internship The internship that was added.
+     */
+    public void recordAdd(Internship internship) {
+        if (snapshots != null) {
+            snapshots.add(internship);
+        }
+    }
+
+    /**
+     * Records that the internship at the given index was modified.
+     * The plain storage rewrites the whole file on {@link #save(ArrayList)}, so this only keeps the copies
+     * for background saves in step.
+     *
+     * @param index The zero-based index of the modified internship.
+     * @param internship The internship after modification.
+     */
+    public void recordUpdate(int index, Internship internship) {
+        if (snapshots != null) {
+            snapshots.set(index, internship);
+        }
+    }
+
+    /**
+     * Records that the internship at the given index was removed.
+     * The plain storage rewrites the whole file on {@link #save(ArrayList)}, so this only keeps the copies
+     * for background saves in step.
+     *
+     * @param index The zero-based index of the removed internship.
+     */
+    public void recordDelete(int index) {
+        if (snapshots != null) {
+            snapshots.remove(index);
+        }
+    }
+
+    /**
+     * Records that the username was changed.
+     * The plain storage rewrites the whole file on {@link #save(ArrayList)}, so this does nothing.
+     *
+     * @param username The new username.
+     */
+    public void recordUsername(String username) {
+    }
+
+    /**
+     * Releases any resources held by this storage and waits for background work to finish.
+     * Stops the group commit thread, and syncs anything not yet synced unless the policy is {@link Durability#NONE}.
+     */
+    public void close() {
+        if (syncer != null) {
+            syncer.shutdown();
             try {
-                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING,
-                        StandardCopyOption.ATOMIC_MOVE);
-                logger.info("Successfully saved with atomic move");
-            } catch (AtomicMoveNotSupportedException e) {
-                // Fallback: non-atomic move (still safer than direct write)
-                logger.warning("Atomic move not supported, using regular move");
-                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+                syncer.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
-
-            logger.info("Successfully saved " + internships.size() + " internships");
-        } catch (IOException e) {
-            logger.severe("Failed to save internships to " + filePath + ": " + e.getMessage());
-            throw new InternityException("Could not save internships: " + e.getMessage());
+        }
+        if (durability.getMode() != Durability.Mode.NONE) {
+            syncIfUnsynced();
         }
     }
 
@@ -297,7 +729,7 @@ public class Storage {
      * @param str The string to check.
      * @return true if the string contains only printable ASCII characters, false otherwise.
      */
-    private boolean isAsciiOnly(String str) {
+    boolean isAsciiOnly(String str) {
         if (str == null) {
             return false;
         }
@@ -310,14 +742,25 @@ public class Storage {
         return true;
     }
 
+    /**
+     * Formats the header of a text snapshot: the username header line followed by the username line.
+     *
+     * @param username The username, may be null.
+     * @return the two header lines, each ending with the line separator
+     */
+    String formatTextHeader(String username) {
+        return USERNAME_HEADER + System.lineSeparator() + (username != null ? username : "") + System.lineSeparator();
+    }
+
     /**
      * Formats an internship for storage in the file.
      * Pipe characters in company and role are URL-encoded to prevent delimiter conflicts.
+     * The ID is only written once the internship has been given one.
      *
      * @param internship The internship to format.
      * @return A pipe-delimited string representation of the internship.
      */
-    private String formatInternshipForFile(Internship internship) {
+    String formatInternshipForFile(Internship internship) {
         assert internship != null : "Internship to format cannot be null";
         assert internship.getCompany() != null : "Company cannot be null";
         assert internship.getRole() != null : "Role cannot be null";
@@ -327,10 +770,11 @@ public class Storage {
         String encodedCompany = internship.getCompany().replace("|", PIPE_URL_ENCODED);
         String encodedRole = internship.getRole().replace("|", PIPE_URL_ENCODED);
 
-        return encodedCompany + " | "
+        String line = encodedCompany + " | "
                 + encodedRole + " | "
                 + internship.getDeadline().toString() + " | "
                 + internship.getPay() + " | "
                 + internship.getStatus();
+        return internship.getId() > 0 ? line + " | " + internship.getId() : line;
     }
 }
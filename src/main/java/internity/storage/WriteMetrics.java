@@ -0,0 +1,91 @@
+package internity.storage;
+
+/**
+ * Counts the writes and syncs of a {@link Storage} and how long they took,
+ * to compare the cost of the {@link Durability} policies.
+ *
+ * <p>
+ * A write is one save reaching the disk: a snapshot replacing the data file, or journal entries being appended.
+ * With {@link Durability#EVERY_WRITE} its syncs are part of its latency. A sync is one
+ * {@link java.nio.channels.FileChannel#force(boolean)} call on a file or directory, whether part of a write
+ * or made by a group commit or on exit. Writes and syncs may be recorded from different threads.
+ * </p>
+ */
+public class WriteMetrics {
+    private static final long NANOS_PER_MICRO = 1_000;
+
+    private long writeCount;
+    private long totalWriteNanos;
+    private long maxWriteNanos;
+    private long syncCount;
+    private long totalSyncNanos;
+    private long maxSyncNanos;
+
+    /**
+     * Records a write that took the given time.
+     *
+     * @param nanos The duration of the write in nanoseconds.
+     */
+    synchronized void recordWrite(long nanos) {
+        writeCount++;
+        totalWriteNanos += nanos;
+        maxWriteNanos = Math.max(maxWriteNanos, nanos);
+    }
+
+    /**
+     * Records a sync that took the given time.
+     *
+     * @param nanos The duration of the sync in nanoseconds.
+     */
+    synchronized void recordSync(long nanos) {
+        syncCount++;
+        totalSyncNanos += nanos;
+        maxSyncNanos = Math.max(maxSyncNanos, nanos);
+    }
+
+    public synchronized long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Returns the average write latency.
+     *
+     * @return the average in microseconds, or 0 if nothing was written
+     */
+    public synchronized long getAverageWriteMicros() {
+        return writeCount == 0 ? 0 : totalWriteNanos / writeCount / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns the highest write latency.
+     *
+     * @return the maximum in microseconds
+     */
+    public synchronized long getMaxWriteMicros() {
+        return maxWriteNanos / NANOS_PER_MICRO;
+    }
+
+    public synchronized long getSyncCount() {
+        return syncCount;
+    }
+
+    /**
+     * Returns the average sync latency.
+     *
+     * @return the average in microseconds, or 0 if nothing was synced
+     */
+    public synchronized long getAverageSyncMicros() {
+        return syncCount == 0 ? 0 : totalSyncNanos / syncCount / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns a one-line summary of the counts and latencies.
+     *
+     * @return the summary
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("%d write(s), average %d us, max %d us; %d sync(s), average %d us",
+                writeCount, getAverageWriteMicros(), getMaxWriteMicros(), syncCount, getAverageSyncMicros());
+    }
+}
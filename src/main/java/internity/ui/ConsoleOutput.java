@@ -0,0 +1,148 @@
+package internity.ui;
+
+import java.io.PrintStream;
+
+/**
+ * Collects console output in a reusable buffer and writes it to {@link System#out} in large blocks.
+ *
+ * <p>
+ * {@code PrintStream} locks, and flushes on every line, on each call, and {@code printf} parses its
+ * format string every time. Rendering a long table row by row through it is dominated by that overhead,
+ * so table rows are appended here with hand-padded columns and written once the buffer is large or the
+ * caller is done. The bytes written are the same as the equivalent {@code printf} calls.
+ * </p>
+ *
+ * <p>
+ * In plain mode every completed line is written straight away, which keeps the output interleaved
+ * with anything printed directly, as the text UI test expects.
+ * </p>
+ */
+final class ConsoleOutput {
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private static boolean isPlain;
+
+    private ConsoleOutput() {
+    }
+
+    /**
+     * Sets whether every line is written as soon as it is complete.
+     *
+     * @param plain {@code true} to write line by line, {@code false} to write in blocks
+     */
+    static void setPlain(boolean plain) {
+        isPlain = plain;
+        flush();
+    }
+
+    /**
+     * Appends text without ending the line.
+     *
+     * @param text the text to append
+     */
+    static void print(String text) {
+        buffer.append(text);
+        if (text.endsWith("\n")) {
+            flushIfFull();
+        }
+    }
+
+    /**
+     * Appends text followed by a line separator.
+     *
+     * @param text the text to append
+     */
+    static void println(String text) {
+        buffer.append(text);
+        newLine();
+    }
+
+    /**
+     * Ends the current line.
+     */
+    static void newLine() {
+        buffer.append(LINE_SEPARATOR);
+        flushIfFull();
+    }
+
+    /**
+     * Appends text padded with trailing spaces to the given width, like {@code %-Ns}.
+     *
+     * @param text  the text to append
+     * @param width the minimum width
+     */
+    static void padRight(String text, int width) {
+        int start = buffer.length();
+        buffer.append(text);
+        pad(start + width);
+    }
+
+    /**
+     * Appends a number padded with trailing spaces to the given width, like {@code %-Nd}.
+     *
+     * @param value the number to append
+     * @param width the minimum width
+     */
+    static void padRight(int value, int width) {
+        int start = buffer.length();
+        buffer.append(value);
+        pad(start + width);
+    }
+
+    /**
+     * Appends text padded with leading spaces to the given width, like {@code %Ns}.
+     *
+     * @param text  the text to append
+     * @param width the minimum width
+     */
+    static void padLeft(String text, int width) {
+        pad(buffer.length() + width - String.valueOf(text).length());
+        buffer.append(text);
+    }
+
+    /**
+     * Appends a number padded with leading spaces to the given width, like {@code %Nd}.
+     *
+     * @param value the number to append
+     * @param width the minimum width
+     */
+    static void padLeft(int value, int width) {
+        pad(buffer.length() + width - digitCount(value));
+        buffer.append(value);
+    }
+
+    /**
+     * Writes everything buffered so far to {@link System#out}.
+     */
+    static void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        PrintStream out = System.out;
+        out.append(buffer);
+        out.flush();
+        buffer.setLength(0);
+    }
+
+    private static void flushIfFull() {
+        if (isPlain || buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    private static void pad(int end) {
+        for (int i = buffer.length(); i < end; i++) {
+            buffer.append(' ');
+        }
+    }
+
+    private static int digitCount(int value) {
+        int count = value < 0 ? 2 : 1;
+        for (long remaining = Math.abs((long) value); remaining >= 10; remaining /= 10) {
+            count++;
+        }
+        return count;
+    }
+}
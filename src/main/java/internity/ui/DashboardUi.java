@@ -1,14 +1,12 @@
 package internity.ui;
 
 import java.util.AbstractMap;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 
 import internity.core.InternityException;
 import internity.core.Internship;
 import internity.core.InternshipList;
+import internity.core.Status;
 
 /**
  * Provides a command-line dashboard interface for the Internity application.
@@ -26,6 +24,7 @@ import internity.core.InternshipList;
 public class DashboardUi {
     private static final Logger logger = Logger.getLogger(DashboardUi.class.getName());
     private static final String INDENT = "  ";
+    private static final int STATUS_WIDTH = 15;
 
     /**
      * Prints the complete dashboard to the console.
@@ -46,6 +45,7 @@ public class DashboardUi {
         printStatusOverview();
     }
 
+
     /**
      * Prints the current user's username to the console.
      * <p>
@@ -74,6 +74,7 @@ public class DashboardUi {
      * <p>
      * Statuses are displayed in the following fixed order:
      * {@code Pending, Interested, Applied, Interviewing, Offer, Accepted, Rejected}.
+     * The counts are maintained by {@link InternshipList}, so no internships are visited.
      * </p>
      *
      * @throws InternityException if an error occurs while accessing internship data
@@ -85,34 +86,23 @@ public class DashboardUi {
             return;
         }
 
-        List<String> statusOrder = List.of(
-                "Pending", "Interested", "Applied", "Interviewing",
-                "Offer", "Accepted", "Rejected"
-        );
-
-        Map<String, Integer> statusCount = new LinkedHashMap<>();
-
-        for (String status : statusOrder) {
-            statusCount.put(status, 0);
-        }
-
-        for (int i = 0; i < InternshipList.size(); i++) {
-            Internship internship;
-            internship = InternshipList.get(i);
-
-            String status = internship.getStatus();
-            if (statusCount.containsKey(status)) {
-                statusCount.put(status, statusCount.get(status) + 1);
-            }
-        }
-
-        System.out.println("\nStatus Overview:");
-        for (String status : statusOrder) {
-            System.out.printf("%s%-15s : %d%n", INDENT, status, statusCount.get(status));
+        ConsoleOutput.println("\nStatus Overview:");
+        for (Status status : Status.values()) {
+            printStatusCount(status);
         }
+        ConsoleOutput.flush();
         logger.fine("Status overview printed");
     }
 
+    /**
+     * Appends one line of the status overview, like {@code printf("  %-15s : %d%n")}.
+     */
+    private static void printStatusCount(Status status) {
+        ConsoleOutput.print(INDENT);
+        ConsoleOutput.padRight(status.getDisplayName(), STATUS_WIDTH);
+        ConsoleOutput.println(" : " + InternshipList.countByStatus(status));
+    }
+
     /**
      * Prints the internship with the nearest upcoming deadline.
      * <p>
@@ -18,21 +18,35 @@ public class Ui {
     public static final int PAY_MAXLEN = 10;
     public static final int STATUS_MAXLEN = 10;
 
-    //table formatting strings
-    static final String FORMAT_HEADER = "%" + INDEX_MAXLEN + "s %-" + COMPANY_MAXLEN + "s %-" + ROLE_MAXLEN
-            + "s %-" + DEADLINE_MAXLEN + "s %-" + PAY_MAXLEN + "s %-" + STATUS_MAXLEN + "s%n";
-    static final String FORMAT_CONTENT = "%" + INDEX_MAXLEN + "d %-" + COMPANY_MAXLEN + "s %-" + ROLE_MAXLEN
-            + "s %-" + DEADLINE_MAXLEN + "s %-" + PAY_MAXLEN + "d %-" + STATUS_MAXLEN + "s%n";
-
     /** Horizontal line used to visually separate sections in the console output. */
     static final String LINE = "____________________________________________________" +
             "_________________________________________________________\n";
 
     /**
      * Prints a horizontal divider line to the console.
+     * Anything still buffered by a table is written first, so the line always ends a command's output.
      */
     public static void printHorizontalLine() {
-        System.out.print(LINE);
+        ConsoleOutput.print(LINE);
+        ConsoleOutput.flush();
+    }
+
+    /**
+     * Sets whether table output is written line by line instead of in large blocks.
+     * Plain output is used by the text UI test.
+     *
+     * @param isPlain {@code true} to write every line as soon as it is complete
+     */
+    public static void setPlainOutput(boolean isPlain) {
+        ConsoleOutput.setPlain(isPlain);
+    }
+
+    /**
+     * Writes any buffered table output to the console.
+     * Must be called once a table is complete, before anything is printed directly.
+     */
+    public static void flush() {
+        ConsoleOutput.flush();
     }
 
     /**
@@ -65,6 +79,26 @@ public class Ui {
         System.out.println("Thank you for using Internity! Goodbye!");
     }
 
+    /**
+     * Prints a warning that the internships could not be loaded, with the reason.
+     *
+     * @param message the reason the load failed
+     */
+    public static void printLoadWarning(String message) {
+        System.out.println("Warning: Could not load data from storage. Starting with empty list.");
+        System.out.println("Error: " + message);
+    }
+
+    /**
+     * Prints a warning that the internships could not be saved, with the reason.
+     *
+     * @param message the reason the save failed
+     */
+    public static void printSaveWarning(String message) {
+        System.out.println("Warning: Could not save data to storage.");
+        System.out.println("Error: " + message);
+    }
+
     /**
      * Prints a confirmation message after successfully adding an internship.
      *
@@ -88,6 +122,15 @@ public class Ui {
         System.out.println("Now you have " + totalItems + " internship(s) in the list.");
     }
 
+    public static void printRemoveInternships(int removedCount, int totalItems) {
+        System.out.println("Removed " + removedCount + " internship(s).");
+        System.out.println("Now you have " + totalItems + " internship(s) in the list.");
+    }
+
+    public static void printUpdateInternships(int updatedCount) {
+        System.out.println("Updated " + updatedCount + " internship(s).");
+    }
+
     /**
      * Prints a confirmation message after successfully updating an internship field.
      *
@@ -131,6 +174,27 @@ public class Ui {
         System.out.println("Your internship list is currently empty.");
     }
 
+    public static void printNoInternshipMatchesFilter() {
+        System.out.println("No internships match this filter.");
+    }
+
+    public static void printInternshipPageEmpty(int totalItems) {
+        System.out.println("There are no internships on this page. You have " + totalItems
+                + " internship(s) in the list.");
+    }
+
+    /**
+     * Appends the line below a paged internship table stating which rows were shown.
+     * The line is buffered with the table rows.
+     *
+     * @param first      the one-based display rank of the first row shown
+     * @param last       the one-based display rank of the last row shown
+     * @param totalItems the number of internships in the list
+     */
+    public static void printInternshipPageSummary(int first, int last, int totalItems) {
+        ConsoleOutput.println("Showing " + first + "-" + last + " of " + totalItems + " internship(s).");
+    }
+
     public static void printNoInternshipFound() {
         System.out.println("No internships with this company or role found.");
     }
@@ -147,11 +211,15 @@ public class Ui {
      * @param message the custom message to display before the header
      */
     public static void printInternshipListHeader(String message) {
-        System.out.println(message);
-        Ui.printHorizontalLine();
-        System.out.printf(FORMAT_HEADER,
-                "No.", "Company", "Role", "Deadline", "Pay", "Status");
-        Ui.printHorizontalLine();
+        ConsoleOutput.println(message);
+        ConsoleOutput.print(LINE);
+        ConsoleOutput.padLeft("No.", INDEX_MAXLEN);
+        printTableCells("Company", "Role", "Deadline");
+        ConsoleOutput.padRight("Pay", PAY_MAXLEN);
+        ConsoleOutput.print(" ");
+        ConsoleOutput.padRight("Status", STATUS_MAXLEN);
+        ConsoleOutput.newLine();
+        ConsoleOutput.print(LINE);
     }
 
     /**
@@ -164,18 +232,34 @@ public class Ui {
      * for consistent presentation.
      * </p>
      *
+     * <p>
+     * The row is buffered; call {@link #flush()} once the table is complete.
+     * </p>
+     *
      * @param index      the index of the internship in the list (0-based)
      * @param internship the {@code Internship} object whose details are to be printed
      */
     public static void printInternshipListContent(int index, Internship internship) {
-        System.out.printf(FORMAT_CONTENT,
-                index + 1,
-                internship.getCompany(),
-                internship.getRole(),
-                internship.getDeadline().toString(),
-                internship.getPay(),
-                internship.getStatus()
-        );
+        ConsoleOutput.padLeft(index + 1, INDEX_MAXLEN);
+        printTableCells(internship.getCompany(), internship.getRole(), internship.getDeadline().toString());
+        ConsoleOutput.padRight(internship.getPay(), PAY_MAXLEN);
+        ConsoleOutput.print(" ");
+        ConsoleOutput.padRight(internship.getStatus(), STATUS_MAXLEN);
+        ConsoleOutput.newLine();
+    }
+
+    /**
+     * Appends the company, role and deadline columns, each preceded by a space and followed by the
+     * space before the pay column.
+     */
+    private static void printTableCells(String company, String role, String deadline) {
+        ConsoleOutput.print(" ");
+        ConsoleOutput.padRight(company, COMPANY_MAXLEN);
+        ConsoleOutput.print(" ");
+        ConsoleOutput.padRight(role, ROLE_MAXLEN);
+        ConsoleOutput.print(" ");
+        ConsoleOutput.padRight(deadline, DEADLINE_MAXLEN);
+        ConsoleOutput.print(" ");
     }
 
     public static void printAskUsername() {
@@ -193,6 +277,7 @@ public class Ui {
                   - add       : Add a new internship application with company, role, deadline, and pay.
                   - delete    : Remove an internship application at the specified index.
                   - find      : Search and list internship applications matching a keyword.
+                  - filter    : List internship applications by status, pay range and deadline.
                   - list      : Display all internship applications, optionally sorted by deadline.
                   - update    : Update any field of an internship application at the specified index.
                   - username  : Set your username for personalised greetings.
@@ -204,4 +289,31 @@ public class Ui {
                 """;
         System.out.print(commandList);
     }
+
+    /**
+     * Prints the summary of a batch run in place of the output of each command.
+     *
+     * @param commandCount  the number of commands run
+     * @param failedCount   the number of commands that failed
+     * @param saveCount     the number of times storage was written
+     * @param totalItems    the number of internships in the list afterwards
+     * @param elapsedMillis the time taken by the batch in milliseconds
+     */
+    public static void printBatchSummary(int commandCount, int failedCount, int saveCount, int totalItems,
+            long elapsedMillis) {
+        System.out.printf("Batch complete: %d command(s) run, %d succeeded, %d failed in %d ms.%n",
+                commandCount, commandCount - failedCount, failedCount, elapsedMillis);
+        System.out.println("Saved " + saveCount + " time(s). Now you have " + totalItems
+                + " internship(s) in the list.");
+    }
+
+    /**
+     * Prints the write and sync latencies of the storage after a batch.
+     *
+     * @param durability the name of the durability policy of the storage
+     * @param metrics the summary of the storage writes and syncs
+     */
+    public static void printWriteMetrics(String durability, String metrics) {
+        System.out.println("Storage writes (durability " + durability + "): " + metrics + ".");
+    }
 }
@@ -15,6 +15,10 @@ import internity.core.InternityException;
  * </p>
  */
 public class DateFormatter {
+    private static final int DATE_LENGTH = 10;
+    private static final int FIRST_DASH = 2;
+    private static final int SECOND_DASH = 5;
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -51,30 +55,38 @@ public class DateFormatter {
 
         String trimmed = dateString.trim();
 
-        // Check for an absolute dd-MM-yyyy format
-        if (!trimmed.matches("\\d{2}-\\d{2}-\\d{4}")) {
+        // Check for an absolute dd-MM-yyyy format in a single scan
+        if (trimmed.length() != DATE_LENGTH
+                || trimmed.charAt(FIRST_DASH) != '-' || trimmed.charAt(SECOND_DASH) != '-') {
             throw InternityException.invalidDateFormat();
         }
 
-        String[] parts = trimmed.split("-");
+        int day = parseDigits(trimmed, 0, FIRST_DASH);
+        int month = parseDigits(trimmed, FIRST_DASH + 1, SECOND_DASH);
+        int year = parseDigits(trimmed, SECOND_DASH + 1, DATE_LENGTH);
 
-        if (parts.length != 3) {
+        if (day < 0 || month < 0 || year < 0 || !isValidDate(day, month, year)) {
             throw InternityException.invalidDateFormat();
         }
 
-        // Regex validation above guarantees numeric format, so parseInt() cannot throw NumberFormatException
-        assert parts[0].matches("\\d+") && parts[1].matches("\\d+") && parts[2].matches("\\d+")
-                : "Regex should guarantee numeric format";
-
-        int day = Integer.parseInt(parts[0]);
-        int month = Integer.parseInt(parts[1]);
-        int year = Integer.parseInt(parts[2]);
+        return new Date(day, month, year);
+    }
 
-        if (!isValidDate(day, month, year)) {
-            throw InternityException.invalidDateFormat();
+    /**
+     * Parses the ASCII digits between the given indexes.
+     *
+     * @return the value of the digits, or -1 if any character is not an ASCII digit
+     */
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
         }
-
-        return new Date(day, month, year);
+        return value;
     }
 
     /**
@@ -85,7 +97,7 @@ public class DateFormatter {
      * @param year year component of the date
      * @return {@code true} if the date is valid, {@code false} otherwise
      */
-    private static boolean isValidDate(int day, int month, int year) {
+    public static boolean isValidDate(int day, int month, int year) {
         if (day < 1 || month < 1 || month > 12) {
             return false;
         }
@@ -0,0 +1,47 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class DateTest {
+
+    @Test
+    void constructor_matchesLocalDateEpochDay() {
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.getYear() < 2101; date = date.plusDays(1)) {
+            Date converted = new Date(date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+
+            assertEquals(date.toEpochDay(), converted.toEpochDay());
+            assertEquals(date.getDayOfMonth(), converted.getDay());
+            assertEquals(date.getMonthValue(), converted.getMonth());
+            assertEquals(date.getYear(), converted.getYear());
+        }
+    }
+
+    @Test
+    void toString_padsDayMonthAndYear() {
+        assertEquals("03-04-2025", new Date(3, 4, 2025).toString());
+        assertEquals("29-02-0400", new Date(29, 2, 400).toString());
+        assertEquals("01-01-1970", Date.ofEpochDay(0).toString());
+    }
+
+    @Test
+    void compareTo_ordersChronologically() {
+        assertTrue(new Date(31, 12, 2024).compareTo(new Date(1, 1, 2025)) < 0);
+        assertTrue(new Date(1, 3, 2025).compareTo(new Date(28, 2, 2025)) > 0);
+        assertEquals(0, new Date(15, 6, 2025).compareTo(new Date(15, 6, 2025)));
+        assertEquals(new Date(15, 6, 2025), new Date(15, 6, 2025));
+    }
+
+    @Test
+    void getToday_repeatedCalls_returnCachedValue() {
+        Date today = Date.getToday();
+
+        assertEquals(LocalDate.now().toEpochDay(), today.toEpochDay());
+        assertSame(today, Date.getToday());
+    }
+}
@@ -0,0 +1,138 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeadlineIndexTest {
+
+    private List<Internship> internships;
+    private InternshipColumns columns;
+    private DeadlineIndex index;
+
+    @BeforeEach
+    void setUp() {
+        internships = new ArrayList<>();
+        columns = new InternshipColumns();
+        index = new DeadlineIndex(columns);
+    }
+
+    private void add(Date deadline) {
+        Internship internship = new Internship("Company" + internships.size(), "Role", deadline, 0);
+        internships.add(internship);
+        columns.add(internship);
+        index.addLast();
+    }
+
+    private void remove(int position) {
+        index.remove(position);
+        internships.remove(position);
+        columns.remove(position);
+    }
+
+    private void setDeadline(int position, Date deadline) {
+        Date oldDeadline = internships.get(position).getDeadline();
+        internships.get(position).setDeadline(deadline);
+        columns.set(position, internships.get(position));
+        index.updateDeadline(position, oldDeadline);
+    }
+
+    private List<Integer> walk(boolean isDescending) {
+        List<Integer> visited = new ArrayList<>();
+        index.forEach(isDescending, visited::add);
+        return visited;
+    }
+
+    private List<Integer> stableSort(boolean isDescending) {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < internships.size(); i++) {
+            positions.add(i);
+        }
+        Comparator<Integer> comparator = Comparator.comparing(i -> internships.get(i).getDeadline());
+        positions.sort(isDescending ? comparator.reversed() : comparator);
+        return positions;
+    }
+
+    @Test
+    void forEach_equalDeadlines_keepListOrderInBothDirections() {
+        add(new Date(1, 3, 2025));
+        add(new Date(1, 1, 2025));
+        add(new Date(1, 3, 2025));
+        add(new Date(1, 2, 2025));
+
+        assertEquals(List.of(1, 3, 0, 2), walk(false));
+        assertEquals(List.of(0, 2, 3, 1), walk(true));
+    }
+
+    @Test
+    void remove_shiftsLaterPositions() {
+        add(new Date(3, 1, 2025));
+        add(new Date(1, 1, 2025));
+        add(new Date(2, 1, 2025));
+
+        remove(0);
+
+        assertEquals(List.of(0, 1), walk(false));
+    }
+
+    @Test
+    void updateDeadline_movesEntry() {
+        add(new Date(1, 1, 2025));
+        add(new Date(2, 1, 2025));
+
+        setDeadline(0, new Date(3, 1, 2025));
+
+        assertEquals(List.of(1, 0), walk(false));
+    }
+
+    @Test
+    void remove_manyWithoutWalking_matchesStableSort() {
+        Random random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            add(new Date(1 + random.nextInt(28), 1 + random.nextInt(12), 2025));
+        }
+        for (int i = 0; i < 700; i++) {
+            remove(random.nextInt(internships.size()));
+            if (i % 50 == 0) {
+                setDeadline(random.nextInt(internships.size()), new Date(15, 6, 2025));
+                add(new Date(1 + random.nextInt(28), 1 + random.nextInt(12), 2025));
+            }
+        }
+
+        List<Integer> sorted = stableSort(false);
+        assertEquals(sorted, walk(false));
+        assertEquals(stableSort(true), walk(true));
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            assertEquals(sorted.get(rank), index.positionAt(rank));
+        }
+    }
+
+    @Test
+    void randomOperations_matchStableSort() {
+        Random random = new Random(7);
+        for (int step = 0; step < 1500; step++) {
+            int operation = random.nextInt(10);
+            Date deadline = new Date(1 + random.nextInt(3), 1 + random.nextInt(2), 2025);
+            if (operation < 5 || internships.isEmpty()) {
+                add(deadline);
+            } else if (operation < 8) {
+                remove(random.nextInt(internships.size()));
+            } else {
+                setDeadline(random.nextInt(internships.size()), deadline);
+            }
+
+            assertEquals(stableSort(false), walk(false));
+            assertEquals(stableSort(true), walk(true));
+        }
+
+        index.rebuild();
+        assertEquals(stableSort(false), walk(false));
+        assertEquals(stableSort(true), walk(true));
+    }
+}
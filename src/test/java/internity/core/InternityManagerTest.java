@@ -0,0 +1,99 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import internity.storage.Storage;
+
+class InternityManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = tempDir.resolve("internships.txt");
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    private void runBatch(String script, int saveInterval) {
+        InternityManager manager = new InternityManager(new Storage(dataFile.toString()));
+        manager.startBatch(new BufferedReader(new StringReader(script)), saveInterval);
+    }
+
+    @Test
+    void startBatch_validAndInvalidCommands_savesOnceAndPrintsSummaryOnly() throws IOException {
+        runBatch("""
+                username Alice
+                add company/Google role/SWE deadline/01-01-2026 pay/100
+
+                add company/Meta
+                add company/Grab role/Analyst deadline/02-01-2026 pay/200
+                list
+                """, 0);
+
+        String output = outContent.toString();
+        assertTrue(output.contains("5 command(s) run, 4 succeeded, 1 failed"), output);
+        assertTrue(output.contains("Saved 1 time(s). Now you have 2 internship(s)"), output);
+        assertTrue(output.contains("Line 4: "), output);
+        assertFalse(output.contains("Added this internship"), output);
+
+        List<String> lines = Files.readAllLines(dataFile);
+        assertEquals("Alice", lines.get(1));
+        assertEquals("Google | SWE | 01-01-2026 | 100 | Pending | 1", lines.get(2));
+        assertEquals("Grab | Analyst | 02-01-2026 | 200 | Pending | 2", lines.get(3));
+    }
+
+    @Test
+    void startBatch_saveInterval_savesAfterEveryIntervalAndAtEnd() {
+        runBatch("""
+                add company/A role/R deadline/01-01-2026 pay/1
+                add company/B role/R deadline/01-01-2026 pay/1
+                add company/C role/R deadline/01-01-2026 pay/1
+                """, 2);
+
+        assertTrue(outContent.toString().contains("Saved 2 time(s)."), outContent.toString());
+    }
+
+    @Test
+    void startBatch_exitCommand_stopsReading() {
+        runBatch("""
+                add company/A role/R deadline/01-01-2026 pay/1
+                exit
+                add company/B role/R deadline/01-01-2026 pay/1
+                """, 0);
+
+        assertEquals(1, InternshipList.size());
+        assertTrue(outContent.toString().contains("2 command(s) run"), outContent.toString());
+    }
+}
@@ -2,7 +2,12 @@ package internity.core;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -15,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import internity.logic.commands.ListCommand;
+import internity.storage.Storage;
 
 
 class InternshipListTest {
@@ -212,4 +218,337 @@ class InternshipListTest {
         assertEquals("OlderCo", InternshipList.get(0).getCompany());
         assertEquals("NewerCo", InternshipList.get(1).getCompany());
     }
+
+    @Test
+    public void add_marksListAsChanged() {
+        long before = InternshipList.getVersion();
+
+        InternshipList.add(new Internship("Co", "Role", new Date(1, 1, 2025), 5000));
+
+        assertTrue(InternshipList.getVersion() > before);
+        assertTrue(InternshipList.hasUnsavedChanges());
+    }
+
+    @Test
+    public void saveToStorage_onlyWritesWhenChanged() throws InternityException {
+        int[] saveCount = {0};
+        InternshipList.setStorage(new Storage("unused.txt") {
+            @Override
+            public void save(ArrayList<Internship> internships) {
+                saveCount[0]++;
+            }
+        });
+        try {
+            InternshipList.add(new Internship("Co", "Role", new Date(1, 1, 2025), 5000));
+            InternshipList.saveToStorage();
+            InternshipList.saveToStorage();
+            InternshipList.findInternship("Co");
+            InternshipList.saveToStorage();
+
+            assertEquals(1, saveCount[0]);
+            assertFalse(InternshipList.hasUnsavedChanges());
+
+            InternshipList.updatePay(0, 6000);
+            InternshipList.saveToStorage();
+            assertEquals(2, saveCount[0]);
+        } finally {
+            InternshipList.setStorage(null);
+        }
+    }
+
+    /**
+     * Returns a storage whose load blocks until the latch is released, setting a username as a real load would.
+     */
+    private static Storage blockingStorage(CountDownLatch release, List<String> recordedUsernames) {
+        return new Storage("unused.txt") {
+            @Override
+            public String readUsername() {
+                return "Stored";
+            }
+
+            @Override
+            public ArrayList<Internship> load() throws InternityException {
+                InternshipList.setUsername("Stored");
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InternityException("Interrupted");
+                }
+                ArrayList<Internship> internships = new ArrayList<>();
+                internships.add(new Internship("A", "Role", new Date(1, 1, 2025), 0));
+                internships.add(new Internship("B", "Role", new Date(2, 1, 2025), 0));
+                return internships;
+            }
+
+            @Override
+            public void recordUsername(String username) {
+                recordedUsernames.add(username);
+            }
+        };
+    }
+
+    @Test
+    public void loadFromStorageInBackground_setsUsernameAtOnceAndWaitsForInternships() throws InternityException {
+        CountDownLatch release = new CountDownLatch(1);
+        InternshipList.setStorage(blockingStorage(release, new ArrayList<>()));
+        try {
+            InternshipList.loadFromStorageInBackground();
+
+            assertEquals("Stored", InternshipList.getUsername());
+            assertFalse(InternshipList.isLoaded());
+
+            release.countDown();
+            assertEquals(2, InternshipList.size());
+            assertTrue(InternshipList.isLoaded());
+            assertFalse(InternshipList.hasUnsavedChanges());
+        } finally {
+            InternshipList.setStorage(null);
+            InternshipList.setUsername(null);
+        }
+    }
+
+    @Test
+    public void setUsername_whileLoading_isKeptAndRecordedAfterLoad() throws InternityException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> recordedUsernames = new ArrayList<>();
+        InternshipList.setStorage(blockingStorage(release, recordedUsernames));
+        try {
+            InternshipList.loadFromStorageInBackground();
+            InternshipList.setUsername("New");
+            assertTrue(recordedUsernames.isEmpty());
+
+            release.countDown();
+            InternshipList.awaitLoad();
+
+            assertEquals("New", InternshipList.getUsername());
+            assertEquals(List.of("New"), recordedUsernames);
+            assertTrue(InternshipList.hasUnsavedChanges());
+        } finally {
+            InternshipList.setStorage(null);
+            InternshipList.setUsername(null);
+        }
+    }
+
+    @Test
+    public void countByStatus_followsAddUpdateAndDelete() throws InternityException {
+        InternshipList.add(new Internship("A", "Role", new Date(1, 1, 2025), 0));
+        InternshipList.add(new Internship("B", "Role", new Date(1, 1, 2025), 0));
+        InternshipList.updateStatus(1, "offer");
+
+        assertEquals(1, InternshipList.countByStatus(Status.PENDING));
+        assertEquals(1, InternshipList.countByStatus(Status.OFFER));
+
+        InternshipList.delete(1);
+
+        assertEquals(0, InternshipList.countByStatus(Status.OFFER));
+        InternshipList.clear();
+        assertEquals(0, InternshipList.countByStatus(Status.PENDING));
+    }
+
+    @Test
+    public void findNearestDeadlineInternship_futureTie_returnsFirstAddedAndCount() throws InternityException {
+        InternshipList.add(new Internship("Past", "Role", new Date(1, 1, 2010), 0));
+        InternshipList.add(new Internship("Later", "Role", new Date(1, 1, 2099), 0));
+        InternshipList.add(new Internship("First", "Role", new Date(1, 6, 2098), 0));
+        InternshipList.add(new Internship("Second", "Role", new Date(1, 6, 2098), 0));
+
+        AbstractMap.SimpleEntry<Internship, Integer> nearest = InternshipList.findNearestDeadlineInternship();
+
+        assertEquals("First", nearest.getKey().getCompany());
+        assertEquals(1, nearest.getValue());
+    }
+
+    @Test
+    public void findNearestDeadlineInternship_onlyPast_returnsLatestDeadline() throws InternityException {
+        InternshipList.add(new Internship("Old", "Role", new Date(1, 1, 2010), 0));
+        InternshipList.add(new Internship("Recent", "Role", new Date(1, 1, 2012), 0));
+        InternshipList.add(new Internship("Recent2", "Role", new Date(1, 1, 2012), 0));
+        InternshipList.delete(1);
+
+        AbstractMap.SimpleEntry<Internship, Integer> nearest = InternshipList.findNearestDeadlineInternship();
+
+        assertEquals("Recent2", nearest.getKey().getCompany());
+        assertEquals(0, nearest.getValue());
+    }
+
+    @Test
+    void filterInternships_statusPayAndDeadline_printsOnlyMatchesInListOrder() {
+        InternshipList.add(new Internship("Google", "SWE", new Date(10, 1, 2026), 5000));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(5, 1, 2026), 2000));
+        InternshipList.add(new Internship("Grab", "SWE", new Date(1, 1, 2026), 4000));
+        InternshipList.add(new Internship("Shopee", "SWE", new Date(1, 3, 2026), 9000));
+        assertDoesNotThrow(() -> {
+            InternshipList.updateStatus(0, "interviewing");
+            InternshipList.updateStatus(1, "interviewing");
+            InternshipList.updateStatus(2, "interviewing");
+        });
+
+        InternshipList.filterInternships(InternshipFilter.all()
+                .withStatus(Status.INTERVIEWING)
+                .withPayBetween(3000, null)
+                .withDeadlineBetween(new Date(1, 1, 2026), new Date(31, 1, 2026)));
+
+        String output = outContent.toString();
+        assertTrue(output.contains("    1 Google"), output);
+        assertTrue(output.contains("    3 Grab"), output);
+        assertFalse(output.contains("Meta"), output);
+        assertFalse(output.contains("Shopee"), output);
+        assertTrue(output.indexOf("Google") < output.indexOf("Grab"), output);
+    }
+
+    @Test
+    void filterPositions_randomUpdates_matchLinearScan() throws InternityException {
+        Random random = new Random(11);
+        Status[] statuses = Status.values();
+        for (int step = 0; step < 600; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || InternshipList.size() == 0) {
+                InternshipList.add(new Internship("C", "R", new Date(1 + random.nextInt(20), 1, 2026),
+                        random.nextInt(10) * 1000));
+            } else if (operation < 7) {
+                InternshipList.delete(random.nextInt(InternshipList.size()));
+            } else if (operation < 8) {
+                InternshipList.updatePay(random.nextInt(InternshipList.size()), random.nextInt(10) * 1000);
+            } else if (operation < 9) {
+                InternshipList.updateDeadline(random.nextInt(InternshipList.size()),
+                        new Date(1 + random.nextInt(20), 1, 2026));
+            } else {
+                InternshipList.updateStatus(random.nextInt(InternshipList.size()),
+                        statuses[random.nextInt(statuses.length)].name());
+            }
+
+            int low = random.nextInt(10) * 1000;
+            InternshipFilter filter = InternshipFilter.all()
+                    .withStatus(random.nextBoolean() ? statuses[random.nextInt(3)] : null)
+                    .withPayBetween(low, low + random.nextInt(5000))
+                    .withDeadlineBetween(new Date(1 + random.nextInt(10), 1, 2026), null);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < InternshipList.size(); i++) {
+                if (filter.matches(InternshipList.get(i))) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> actual = new ArrayList<>();
+            for (int position : InternshipList.filterPositions(filter)) {
+                actual.add(position);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void filterPositions_afterBulkChanges_matchLinearScan() throws InternityException {
+        for (int i = 0; i < 20; i++) {
+            InternshipList.add(new Internship("C" + i, "R", new Date(1 + i, 1, 2026), i * 100));
+        }
+        InternshipList.updateAll(new int[] {1, 4, 9, 15}, null, null, new Date(1, 2, 2026), 50, "offer");
+        InternshipList.deleteAll(new int[] {0, 4, 5, 19});
+
+        InternshipFilter filter = InternshipFilter.all()
+                .withStatus(Status.OFFER)
+                .withDeadlineBetween(new Date(1, 2, 2026), null);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < InternshipList.size(); i++) {
+            if (filter.matches(InternshipList.get(i))) {
+                expected.add(i);
+            }
+        }
+        List<Integer> actual = new ArrayList<>();
+        for (int position : InternshipList.filterPositions(filter)) {
+            actual.add(position);
+        }
+        assertEquals(List.of(0, 6, 12), actual);
+        assertEquals(expected, actual);
+        assertEquals(3, InternshipList.countByStatus(Status.OFFER));
+        assertEquals(13, InternshipList.countByStatus(Status.PENDING));
+    }
+
+    @Test
+    void add_internshipsWithoutIds_assignsIncreasingIds() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2026), 100));
+        Internship withId = new Internship("Meta", "SWE", new Date(1, 1, 2026), 100);
+        withId.setId(10);
+        InternshipList.add(withId);
+        Internship duplicate = new Internship("Grab", "SWE", new Date(1, 1, 2026), 100);
+        duplicate.setId(10);
+        InternshipList.add(duplicate);
+
+        assertEquals(1, InternshipList.get(0).getId());
+        assertEquals(10, InternshipList.get(1).getId());
+        assertEquals(11, InternshipList.get(2).getId());
+        assertEquals(2, InternshipList.indexOfId(11));
+        assertEquals(-1, InternshipList.indexOfId(2));
+        assertThrows(InternityException.class, () -> InternshipList.getById(2));
+    }
+
+    @Test
+    void indexOfId_randomAddsAndDeletes_matchesLinearScan() throws InternityException {
+        Random random = new Random(15);
+        long maxId = 0;
+        for (int step = 0; step < 3000; step++) {
+            if (random.nextInt(3) > 0 || InternshipList.size() == 0) {
+                InternshipList.add(new Internship("C", "R", new Date(1, 1, 2026), 0));
+                maxId = InternshipList.get(InternshipList.size() - 1).getId();
+            } else {
+                InternshipList.delete(random.nextInt(InternshipList.size()));
+            }
+
+            long id = 1 + random.nextInt((int) maxId);
+            int expected = -1;
+            for (int i = 0; i < InternshipList.size(); i++) {
+                if (InternshipList.get(i).getId() == id) {
+                    expected = i;
+                }
+            }
+            assertEquals(expected, InternshipList.indexOfId(id));
+        }
+    }
+
+    @Test
+    void deleteAll_randomSelections_keepsIndexesConsistent() throws InternityException {
+        Random random = new Random(16);
+        for (int i = 0; i < 300; i++) {
+            InternshipList.add(new Internship("C" + i, "R", new Date(1 + random.nextInt(20), 1, 2026),
+                    random.nextInt(10) * 1000));
+        }
+        List<Internship> expected = new ArrayList<>();
+        List<Integer> selected = new ArrayList<>();
+        for (int i = 0; i < InternshipList.size(); i++) {
+            if (random.nextInt(3) == 0) {
+                selected.add(i);
+            } else {
+                expected.add(InternshipList.get(i));
+            }
+        }
+
+        List<Internship> deleted = InternshipList.deleteAll(selected.stream().mapToInt(Integer::intValue).toArray());
+
+        assertEquals(selected.size(), deleted.size());
+        assertEquals(expected.size(), InternshipList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), InternshipList.get(i));
+            assertEquals(i, InternshipList.indexOfId(expected.get(i).getId()));
+        }
+        for (Internship internship : deleted) {
+            assertEquals(-1, InternshipList.indexOfId(internship.getId()));
+        }
+        InternshipFilter filter = InternshipFilter.all().withPayBetween(2000, 6000);
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < InternshipList.size(); i++) {
+            if (filter.matches(InternshipList.get(i))) {
+                matches.add(i);
+            }
+        }
+        assertEquals(matches, IntStream.of(InternshipList.filterPositions(filter)).boxed().toList());
+    }
+
+    @Test
+    void deleteAll_unsortedPositions_throwsWithoutChangingList() {
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2026), 100));
+
+        assertThrows(InternityException.class, () -> InternshipList.deleteAll(new int[] {1, 0}));
+        assertThrows(InternityException.class, () -> InternshipList.deleteAll(new int[] {2}));
+        assertEquals(2, InternshipList.size());
+    }
 }
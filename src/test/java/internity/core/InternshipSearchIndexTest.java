@@ -0,0 +1,132 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InternshipSearchIndexTest {
+
+    private InternshipSearchIndex index;
+    private List<Internship> internships;
+
+    @BeforeEach
+    void setUp() {
+        index = new InternshipSearchIndex();
+        internships = new ArrayList<>();
+    }
+
+    private void add(String company, String role) {
+        Internship internship = new Internship(company, role, new Date(1, 1, 2026), 0);
+        internships.add(internship);
+        index.add(internship);
+    }
+
+    private int[] linearFind(String keyword) {
+        String folded = keyword.toLowerCase();
+        return IntStream.range(0, internships.size())
+                .filter(i -> internships.get(i).getCompany().toLowerCase().contains(folded)
+                        || internships.get(i).getRole().toLowerCase().contains(folded))
+                .toArray();
+    }
+
+    @Test
+    void find_shortAndLongKeywords_matchIgnoringCase() {
+        add("Google", "Software Engineer");
+        add("Meta", "Data Analyst");
+        add("Goldman Sachs", "Analyst");
+
+        assertArrayEquals(new int[] {0, 2}, index.find("go"));
+        assertArrayEquals(new int[] {1, 2}, index.find("ANALYST"));
+        assertArrayEquals(new int[] {0}, index.find("soft"));
+        assertArrayEquals(new int[] {0, 1, 2}, index.find("a"));
+        assertArrayEquals(new int[0], index.find("goo gle"));
+    }
+
+    @Test
+    void find_trigramsPresentButNotContiguous_returnsNoMatch() {
+        add("abcXbcd", "Role");
+
+        assertArrayEquals(new int[0], index.find("abcd"));
+    }
+
+    @Test
+    void remove_shiftsLaterPositions() {
+        add("Google", "SWE");
+        add("Meta", "SWE");
+        add("Grab", "SWE");
+
+        index.remove(0);
+        internships.remove(0);
+
+        assertArrayEquals(new int[] {0, 1}, index.find("swe"));
+        assertArrayEquals(new int[] {1}, index.find("grab"));
+        assertArrayEquals(new int[0], index.find("google"));
+    }
+
+    @Test
+    void update_reindexesChangedCompany() {
+        add("Google", "SWE");
+        add("Meta", "SWE");
+
+        internships.get(0).setCompany("Shopee");
+        index.update(0, internships.get(0));
+
+        assertArrayEquals(new int[0], index.find("goog"));
+        assertArrayEquals(new int[] {0}, index.find("shop"));
+    }
+
+    @Test
+    void update_companyAndRoleSharingText_matchesLinearScan() {
+        Random random = new Random(6);
+        String[] words = {"Data", "Meta", "Grab"};
+        for (int i = 0; i < 30; i++) {
+            add(words[random.nextInt(words.length)], words[random.nextInt(words.length)]);
+        }
+        for (int step = 0; step < 300; step++) {
+            int position = random.nextInt(internships.size());
+            Internship internship = internships.get(position);
+            internship.setCompany(words[random.nextInt(words.length)]);
+            internship.setRole(words[random.nextInt(words.length)]);
+            index.update(position, internship);
+
+            for (String word : words) {
+                assertArrayEquals(linearFind(word), index.find(word), "keyword " + word);
+            }
+        }
+    }
+
+    @Test
+    void randomOperations_matchLinearScan() {
+        Random random = new Random(42);
+        String[] words = {"Google", "Meta", "Grab", "Shopee", "Analyst", "Engineer", "Intern", "Data"};
+        String[] keywords = {"g", "an", "eng", "goo", "data", "intern", "ee", "shopee data", "x"};
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || internships.isEmpty()) {
+                add(words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)],
+                        words[random.nextInt(words.length)]);
+            } else if (operation < 8) {
+                int position = random.nextInt(internships.size());
+                internships.remove(position);
+                index.remove(position);
+            } else {
+                int position = random.nextInt(internships.size());
+                internships.get(position).setRole(words[random.nextInt(words.length)]);
+                index.update(position, internships.get(position));
+            }
+
+            for (String keyword : keywords) {
+                assertArrayEquals(linearFind(keyword), index.find(keyword), "keyword " + keyword);
+            }
+        }
+        assertEquals(internships.size(), index.find("").length);
+    }
+}
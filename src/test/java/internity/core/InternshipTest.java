@@ -2,6 +2,8 @@ package internity.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -50,4 +52,24 @@ class InternshipTest {
     void isValidStatus_nullStatus_returnsFalse() {
         assertFalse(Internship.isValidStatus(null));
     }
+
+    @Test
+    void setStatus_anyCase_storesCanonicalStatus() {
+        Internship internship = new Internship("Google", "SWE", new Date(1, 1, 2025), 8000);
+        assertEquals("Pending", internship.getStatus());
+
+        internship.setStatus("  interVIEWING ");
+
+        assertEquals("Interviewing", internship.getStatus());
+        assertSame(Status.INTERVIEWING, internship.getStatusValue());
+        assertEquals(Status.INTERVIEWING.ordinal(), internship.getStatusOrdinal());
+    }
+
+    @Test
+    void setStatus_invalidStatus_throwsAndKeepsStatus() {
+        Internship internship = new Internship("Google", "SWE", new Date(1, 1, 2025), 8000);
+
+        assertThrows(IllegalArgumentException.class, () -> internship.setStatus("Waiting"));
+        assertSame(Status.PENDING, internship.getStatusValue());
+    }
 }
@@ -0,0 +1,67 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class TextDictionaryTest {
+
+    @Test
+    void codeOf_sameText_returnsSameCodeAndSharedString() {
+        String first = new String("Software Engineer Intern");
+        String second = new String("Software Engineer Intern");
+
+        int code = TextDictionary.codeOf(first);
+
+        assertEquals(code, TextDictionary.codeOf(second));
+        assertNotEquals(code, TextDictionary.codeOf("software engineer intern"));
+        assertEquals("Software Engineer Intern", TextDictionary.textOf(code));
+    }
+
+    @Test
+    void codeOf_bytes_matchesCodeOfString() {
+        byte[] bytes = "xxGoogle Singaporexx".getBytes(StandardCharsets.US_ASCII);
+
+        int code = TextDictionary.codeOf(bytes, 2, 16);
+
+        assertEquals(TextDictionary.codeOf("Google Singapore"), code);
+        assertEquals("Google Singapore".hashCode(), TextDictionary.hashOf(bytes, 2, 16));
+        assertTrue(TextDictionary.matches(code, bytes, 2, 16));
+        assertFalse(TextDictionary.matches(code, bytes, 2, 15));
+    }
+
+    @Test
+    void codeOf_manyTexts_keepsEveryCodeAfterGrowing() {
+        int[] codes = new int[5000];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = TextDictionary.codeOf("Company " + i);
+        }
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals("Company " + i, TextDictionary.textOf(codes[i]));
+            assertEquals(codes[i], TextDictionary.codeOf("Company " + i));
+        }
+    }
+
+    @Test
+    void codeOf_null_returnsNoCode() {
+        assertEquals(TextDictionary.NO_CODE, TextDictionary.codeOf(null));
+        assertNull(TextDictionary.textOf(TextDictionary.NO_CODE));
+    }
+
+    @Test
+    void internship_sameCompanyAndRole_sharesStrings() {
+        Internship first = new Internship(new String("Grab"), new String("Analyst"), new Date(1, 1, 2026), 0);
+        Internship second = new Internship(new String("Grab"), new String("Analyst"), new Date(1, 1, 2026), 0);
+
+        assertSame(first.getCompany(), second.getCompany());
+        assertSame(first.getRole(), second.getRole());
+        assertEquals(first.getCompanyCode(), second.getCompanyCode());
+    }
+}
@@ -1,6 +1,7 @@
 package internity.logic.cli;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -10,6 +11,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import internity.logic.commands.AddCommand;
+import internity.logic.commands.BulkDeleteCommand;
+import internity.logic.commands.BulkUpdateCommand;
+import internity.logic.commands.Command;
 import internity.logic.commands.ListCommand;
 import internity.logic.commands.UpdateCommand;
 import internity.logic.commands.UsernameCommand;
@@ -17,6 +21,7 @@ import internity.core.Date;
 import internity.core.InternityException;
 import internity.core.Internship;
 import internity.core.InternshipList;
+import internity.core.Status;
 
 class ArgumentParserTest {
     
@@ -166,14 +171,14 @@ class ArgumentParserTest {
 
     @Test
     void parseUpdateCommandArgs_validSingleField_returnsCommand() throws InternityException {
-        UpdateCommand command = ArgumentParser.parseUpdateCommandArgs("1 company/Meta");
-        assertNotNull(command);
+        Command command = ArgumentParser.parseUpdateCommandArgs("1 company/Meta");
+        assertInstanceOf(UpdateCommand.class, command);
     }
 
     @Test
     void parseUpdateCommandArgs_multipleFields_returnsCommand() throws InternityException {
-        UpdateCommand command = ArgumentParser.parseUpdateCommandArgs("1 company/Meta role/AI Intern pay/9000");
-        assertNotNull(command);
+        Command command = ArgumentParser.parseUpdateCommandArgs("1 company/Meta role/AI Intern pay/9000");
+        assertInstanceOf(UpdateCommand.class, command);
     }
 
     @Test
@@ -196,6 +201,116 @@ class ArgumentParserTest {
         assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("abc"));
     }
 
+    @Test
+    void parseDeleteCommandArgs_id_deletesInternshipWithThatId() throws InternityException {
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.add(new Internship("Grab", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.delete(0);
+
+        ArgumentParser.parseDeleteCommandArgs("id/3").execute();
+
+        assertEquals(1, InternshipList.size());
+        assertEquals("Meta", InternshipList.get(0).getCompany());
+    }
+
+    @Test
+    void parseDeleteCommandArgs_unknownOrInvalidId_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("id/2"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("id/0"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("id/abc"));
+    }
+
+    @Test
+    void parseDeleteAndUpdateCommandArgs_idListOrRange_throwsIdSelectionError() {
+        for (String target : new String[] {"id/3-5", "id/3,4"}) {
+            InternityException deleteError = assertThrows(InternityException.class,
+                    () -> ArgumentParser.parseDeleteCommandArgs(target));
+            assertTrue(deleteError.getMessage().startsWith("IDs cannot be ranges or lists"));
+            InternityException updateError = assertThrows(InternityException.class,
+                    () -> ArgumentParser.parseUpdateCommandArgs(target + " pay/500"));
+            assertTrue(updateError.getMessage().startsWith("IDs cannot be ranges or lists"));
+        }
+    }
+
+    @Test
+    void parseUpdateCommandArgs_id_updatesInternshipWithThatId() throws InternityException {
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2026), 100));
+
+        ArgumentParser.parseUpdateCommandArgs("id/2 pay/500").execute();
+
+        assertEquals(8000, InternshipList.get(0).getPay());
+        assertEquals(500, InternshipList.get(1).getPay());
+    }
+
+    @Test
+    void parseDeleteCommandArgs_indexRangesAndList_deletesSelectedInternships() throws InternityException {
+        for (int i = 2; i <= 8; i++) {
+            InternshipList.add(new Internship("Company" + i, "SWE", new Date(1, 1, 2026), i));
+        }
+
+        Command command = ArgumentParser.parseDeleteCommandArgs("2-4, 3-5,7");
+        assertInstanceOf(BulkDeleteCommand.class, command);
+        command.execute();
+
+        assertEquals(3, InternshipList.size());
+        assertEquals("Google", InternshipList.get(0).getCompany());
+        assertEquals("Company6", InternshipList.get(1).getCompany());
+        assertEquals("Company8", InternshipList.get(2).getCompany());
+    }
+
+    @Test
+    void parseDeleteCommandArgs_invalidSelection_throwsInternityException() {
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2026), 100));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("1-3"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("2-1"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("0,1"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("1,a"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("1-"));
+    }
+
+    @Test
+    void parseDeleteCommandArgs_status_deletesMatchingInternships() throws InternityException {
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.add(new Internship("Grab", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.updateStatus(0, "Rejected");
+        InternshipList.updateStatus(2, "Rejected");
+
+        ArgumentParser.parseDeleteCommandArgs("status/Rejected").execute();
+
+        assertEquals(1, InternshipList.size());
+        assertEquals("Meta", InternshipList.get(0).getCompany());
+    }
+
+    @Test
+    void parseUpdateCommandArgs_statusTransition_updatesMatchingInternships() throws InternityException {
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.add(new Internship("Grab", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.updateStatus(1, "Applied");
+
+        Command command = ArgumentParser.parseUpdateCommandArgs("status/Pending to/Interviewing");
+        assertInstanceOf(BulkUpdateCommand.class, command);
+        command.execute();
+
+        assertEquals("Interviewing", InternshipList.get(0).getStatus());
+        assertEquals("Applied", InternshipList.get(1).getStatus());
+        assertEquals("Interviewing", InternshipList.get(2).getStatus());
+        assertEquals(2, InternshipList.countByStatus(Status.INTERVIEWING));
+        assertThrows(InternityException.class,
+                () -> ArgumentParser.parseUpdateCommandArgs("status/Pending pay/100"));
+    }
+
+    @Test
+    void parseUpdateCommandArgs_indexRange_updatesSelectedInternships() throws InternityException {
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2026), 100));
+        InternshipList.add(new Internship("Grab", "SWE", new Date(1, 1, 2026), 100));
+
+        ArgumentParser.parseUpdateCommandArgs("2-3 pay/500 role/Analyst").execute();
+
+        assertEquals(8000, InternshipList.get(0).getPay());
+        assertEquals(500, InternshipList.get(1).getPay());
+        assertEquals("Analyst", InternshipList.get(2).getRole());
+    }
+
     @Test
     void parseDeleteCommandArgs_blankArgs_throwsInternityException() {
         assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("   "));
@@ -255,6 +370,47 @@ class ArgumentParserTest {
         assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("sort/asc sort/desc"));
     }
 
+    @Test
+    void parseListCommandArgs_limitPageAndSortInAnyOrder_returnsListCommand() throws InternityException {
+        assertNotNull(ArgumentParser.parseListCommandArgs("page/2 limit/10 sort/desc"));
+        assertNotNull(ArgumentParser.parseListCommandArgs("limit/   5"));
+        assertNotNull(ArgumentParser.parseListCommandArgs("page/3"));
+    }
+
+    @Test
+    void parseListCommandArgs_nonPositiveOrNonNumericLimit_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("limit/0"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("limit/-3"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("page/two"));
+    }
+
+    @Test
+    void parseListCommandArgs_repeatedLimit_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("limit/5 limit/6"));
+    }
+
+    @Test
+    void parseFilterCommandArgs_validConditionsInAnyOrder_returnsFilterCommand() throws InternityException {
+        assertNotNull(ArgumentParser.parseFilterCommandArgs("minpay/3000 status/interviewing due/14"));
+        assertNotNull(ArgumentParser.parseFilterCommandArgs("from/01-01-2026 to/31-01-2026 maxpay/5000"));
+    }
+
+    @Test
+    void parseFilterCommandArgs_invalidConditions_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFilterCommandArgs(""));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFilterCommandArgs("status/hired"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFilterCommandArgs("minpay/abc"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFilterCommandArgs("minpay/1 minpay/2"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFilterCommandArgs("due/7 from/01-01-2026"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFilterCommandArgs("company/Google"));
+    }
+
+    @Test
+    void parseFilterCommandArgs_dueBeyondLastDate_throwsInternityException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFilterCommandArgs("due/2147483647"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("due/2147483647"));
+    }
+
     @Test
     void parseUsernameCommandArgs_validArgs_shouldReturnUsernameCommand() throws Exception {
         String validUsername = "Jesse Pinkman";
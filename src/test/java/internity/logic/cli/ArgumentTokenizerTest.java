@@ -0,0 +1,54 @@
+package internity.logic.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ArgumentTokenizerTest {
+    private static final String[] TAGS = {"company/", "role/", "pay/"};
+    private static final String REGEX = "\\s+(?=company/|role/|pay/)";
+    private static final String[] PIECES = {
+        "company/", "role/", "pay/", "compan", "Goo gle", " ", "  ", "\t", "x", "/"
+    };
+
+    @Test
+    void splitBeforeTags_addArguments_splitsBeforeEachTag() {
+        String[] parts = ArgumentTokenizer.splitBeforeTags(
+                "company/Goo gle  role/SWE pay/5000", TAGS);
+
+        assertArrayEquals(new String[] {"company/Goo gle", "role/SWE", "pay/5000"}, parts);
+    }
+
+    @Test
+    void splitBeforeTags_leadingWhitespaceBeforeTag_keepsEmptyFirstPart() {
+        assertArrayEquals(new String[] {"", "company/A"}, ArgumentTokenizer.splitBeforeTags(" company/A", TAGS));
+        assertArrayEquals(new String[] {""}, ArgumentTokenizer.splitBeforeTags("", TAGS));
+    }
+
+    @Test
+    void splitBeforeTags_randomInput_matchesRegexSplit() {
+        Random random = new Random(20);
+        for (int run = 0; run < 5000; run++) {
+            StringBuilder input = new StringBuilder();
+            int pieceCount = random.nextInt(8);
+            for (int i = 0; i < pieceCount; i++) {
+                input.append(PIECES[random.nextInt(PIECES.length)]);
+            }
+            String args = input.toString();
+
+            assertArrayEquals(args.split(REGEX), ArgumentTokenizer.splitBeforeTags(args, TAGS), args);
+        }
+    }
+
+    @Test
+    void skipWhitespace_andIndexOfWhitespace_findCommandWordBounds() {
+        String input = "update \t 3 pay/1";
+
+        assertEquals(6, ArgumentTokenizer.indexOfWhitespace(input, 0));
+        assertEquals(9, ArgumentTokenizer.skipWhitespace(input, 6));
+        assertEquals(-1, ArgumentTokenizer.indexOfWhitespace("list", 0));
+    }
+}
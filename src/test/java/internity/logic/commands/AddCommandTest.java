@@ -3,6 +3,7 @@ package internity.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,4 +72,14 @@ class AddCommandTest {
         AddCommand command = ArgumentParser.parseAddCommandArgs(args);
         assertFalse(command.isExit(), "AddCommand should not terminate the application");
     }
+
+    /**
+     * Tests that the command declares that it modifies saved data.
+     */
+    @Test
+    void isMutating_returnsTrue() throws InternityException {
+        String args = "company/Test role/Tester deadline/01-01-2026 pay/1000";
+        AddCommand command = ArgumentParser.parseAddCommandArgs(args);
+        assertTrue(command.isMutating(), "AddCommand should trigger a save");
+    }
 }
@@ -108,4 +108,36 @@ class ListCommandTest {
         assertEquals("Google", result.get(0).getCompany());
         assertEquals("Amazon", result.get(1).getCompany());
     }
+
+    @Test
+    void execute_sortedPage_printsOnlyThatWindowWithOriginalIndexes() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE", new Date(4, 1, 2026), 1));
+        InternshipList.add(new Internship("Amazon", "SWE", new Date(1, 1, 2026), 1));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(3, 1, 2026), 1));
+        InternshipList.add(new Internship("Grab", "SWE", new Date(2, 1, 2026), 1));
+
+        new ListCommand(ListCommand.OrderType.ASCENDING, 2, 2).execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("    3 Meta"), output);
+        assertTrue(output.contains("    1 Google"), output);
+        assertFalse(output.contains("Amazon"), output);
+        assertFalse(output.contains("Grab"), output);
+        assertTrue(output.indexOf("Meta") < output.indexOf("Google"), output);
+        assertTrue(output.contains("Showing 3-4 of 4 internship(s)."), output);
+    }
+
+    @Test
+    void execute_pagePastEnd_printsNoInternshipsOnPage() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE", new Date(4, 1, 2026), 1));
+
+        new ListCommand(ListCommand.OrderType.DEFAULT, 5, 2).execute();
+
+        assertTrue(outContent.toString().contains("There are no internships on this page."));
+    }
+
+    @Test
+    public void isMutating_returnsFalse() {
+        assertFalse(new ListCommand(ListCommand.OrderType.DEFAULT).isMutating());
+    }
 }
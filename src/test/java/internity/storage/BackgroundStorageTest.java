@@ -0,0 +1,119 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class BackgroundStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+    private BackgroundStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = tempDir.resolve("internships.txt");
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    private void openStorage(Storage wrapped) throws InternityException {
+        storage = new BackgroundStorage(wrapped);
+        InternshipList.setStorage(storage);
+        InternshipList.loadFromStorage();
+    }
+
+    @Test
+    void flush_afterSeveralSaves_fileHoldsLatestState() throws InternityException, IOException {
+        openStorage(new Storage(dataFile.toString()));
+        InternshipList.setUsername("Alice");
+        for (int i = 0; i < 20; i++) {
+            InternshipList.add(new Internship("Company" + i, "Role", new Date(1, 1, 2026), i));
+            InternshipList.saveToStorage();
+        }
+        InternshipList.delete(0);
+        InternshipList.saveToStorage();
+        InternshipList.flushStorage();
+
+        List<String> lines = Files.readAllLines(dataFile);
+        assertEquals(21, lines.size());
+        assertEquals("Alice", lines.get(1));
+        assertEquals("Company1 | Role | 01-01-2026 | 1 | Pending | 2", lines.get(2));
+    }
+
+    @Test
+    void flush_journaledStorage_appendsEntriesInOrder() throws InternityException {
+        openStorage(new JournaledStorage(dataFile.toString(), 100));
+        for (int i = 0; i < 10; i++) {
+            InternshipList.add(new Internship("Company" + i, "Role", new Date(1, 1, 2026), i));
+            InternshipList.saveToStorage();
+            if (i % 3 == 0) {
+                InternshipList.delete(0);
+                InternshipList.saveToStorage();
+            }
+        }
+        storage.close();
+        storage = null;
+
+        InternshipList.clear();
+        openStorage(new JournaledStorage(dataFile.toString(), 100));
+        assertEquals(6, InternshipList.size());
+        assertEquals("Company4", InternshipList.get(0).getCompany());
+        assertEquals("Company9", InternshipList.get(5).getCompany());
+    }
+
+    @Test
+    void flush_journaledStoragePastThreshold_compactsWithIds() throws InternityException, IOException {
+        openStorage(new JournaledStorage(dataFile.toString(), 5));
+        for (int i = 0; i < 12; i++) {
+            InternshipList.add(new Internship("Company" + i, "Role", new Date(1, 1, 2026), i));
+            InternshipList.saveToStorage();
+        }
+        InternshipList.flushStorage();
+
+        List<String> snapshot = Files.readAllLines(dataFile);
+        assertEquals("Company0 | Role | 01-01-2026 | 0 | Pending | 1", snapshot.get(2));
+        assertFalse(Files.exists(tempDir.resolve("internships.txt.journal.compacting")));
+    }
+
+    @Test
+    void save_afterFailedWrite_reportsFailureAndKeepsChanges() throws InternityException, IOException {
+        Files.createDirectories(dataFile.resolveSibling("internships.txt.tmp"));
+        openStorage(new Storage(dataFile.toString()));
+        InternshipList.add(new Internship("Google", "SWE", new Date(15, 3, 2025), 6000));
+        InternshipList.saveToStorage();
+
+        assertThrows(InternityException.class, InternshipList::flushStorage);
+
+        Files.delete(dataFile.resolveSibling("internships.txt.tmp"));
+        InternshipList.flushStorage();
+        assertEquals("Google | SWE | 15-03-2025 | 6000 | Pending | 1", Files.readAllLines(dataFile).get(2));
+    }
+}
@@ -0,0 +1,191 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class BinarySnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = tempDir.resolve("internships.txt");
+        InternshipList.setUsername(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    private ArrayList<Internship> sampleInternships() {
+        ArrayList<Internship> internships = new ArrayList<>();
+        internships.add(new Internship("Google|X", "SWE", new Date(29, 2, 2024), 6000));
+        Internship offer = new Internship("Meta", "Data Analyst", new Date(1, 1, 1970), 0);
+        offer.setStatus("Offer");
+        internships.add(offer);
+        return internships;
+    }
+
+    @Test
+    void save_binaryFormat_roundTripsAllFields() throws InternityException, IOException {
+        InternshipList.setUsername("Pam");
+        Storage storage = new Storage(dataFile.toString(), SnapshotFormat.BINARY);
+        storage.save(sampleInternships());
+        InternshipList.setUsername(null);
+
+        assertTrue(BinarySnapshot.isBinarySnapshot(dataFile));
+        ArrayList<Internship> loaded = storage.load();
+
+        assertEquals("Pam", InternshipList.getUsername());
+        assertEquals(2, loaded.size());
+        assertEquals("Google|X", loaded.get(0).getCompany());
+        assertEquals("SWE", loaded.get(0).getRole());
+        assertEquals("29-02-2024", loaded.get(0).getDeadline().toString());
+        assertEquals(6000, loaded.get(0).getPay());
+        assertEquals("Pending", loaded.get(0).getStatus());
+        assertEquals("01-01-1970", loaded.get(1).getDeadline().toString());
+        assertEquals("Offer", loaded.get(1).getStatus());
+    }
+
+    @Test
+    void readUsername_binaryAndTextSnapshots_readsOnlyHeader() throws InternityException {
+        InternshipList.setUsername("Pam");
+        new Storage(dataFile.toString(), SnapshotFormat.BINARY).save(sampleInternships());
+        Path textFile = tempDir.resolve("internships-text.txt");
+        new Storage(textFile.toString()).save(sampleInternships());
+        InternshipList.setUsername(null);
+
+        assertEquals("Pam", new Storage(dataFile.toString()).readUsername());
+        assertEquals("Pam", new Storage(textFile.toString()).readUsername());
+        assertNull(new Storage(tempDir.resolve("missing.txt").toString()).readUsername());
+        assertNull(InternshipList.getUsername());
+    }
+
+    @Test
+    void save_binaryFormat_roundTripsIds() throws InternityException {
+        ArrayList<Internship> internships = sampleInternships();
+        internships.get(0).setId(3);
+        internships.get(1).setId(Long.MAX_VALUE);
+        Storage storage = new Storage(dataFile.toString(), SnapshotFormat.BINARY);
+        storage.save(internships);
+
+        ArrayList<Internship> loaded = storage.load();
+
+        assertEquals(3, loaded.get(0).getId());
+        assertEquals(Long.MAX_VALUE, loaded.get(1).getId());
+    }
+
+    @Test
+    void load_versionOneSnapshot_readsRecordsWithoutIds() throws InternityException, IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.write(BinarySnapshot.MAGIC);
+        headerOut.writeShort(BinarySnapshot.VERSION_WITHOUT_IDS);
+        headerOut.writeInt(1);
+        headerOut.writeShort(-1);
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        recordOut.writeByte(6);
+        recordOut.writeBytes("Google");
+        recordOut.writeByte(3);
+        recordOut.writeBytes("SWE");
+        recordOut.writeInt(new Date(15, 3, 2025).toEpochDay());
+        recordOut.writeInt(6000);
+        recordOut.writeByte(0);
+
+        DataOutputStream file = new DataOutputStream(Files.newOutputStream(dataFile));
+        file.write(header.toByteArray());
+        file.writeInt(crcOf(header.toByteArray()));
+        file.write(record.toByteArray());
+        file.writeInt(crcOf(record.toByteArray()));
+        file.close();
+
+        ArrayList<Internship> loaded = new Storage(dataFile.toString(), SnapshotFormat.BINARY).load();
+
+        assertEquals(1, loaded.size());
+        assertEquals("Google", loaded.get(0).getCompany());
+        assertEquals(6000, loaded.get(0).getPay());
+        assertEquals(0, loaded.get(0).getId());
+    }
+
+    private static int crcOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    @Test
+    void load_textFileWithBinaryFormat_importsTextAndSavesBinary() throws InternityException, IOException {
+        new Storage(dataFile.toString()).save(sampleInternships());
+        assertFalse(BinarySnapshot.isBinarySnapshot(dataFile));
+
+        Storage storage = new Storage(dataFile.toString(), SnapshotFormat.BINARY);
+        ArrayList<Internship> loaded = storage.load();
+        storage.save(loaded);
+
+        assertTrue(BinarySnapshot.isBinarySnapshot(dataFile));
+        assertEquals(2, storage.load().size());
+    }
+
+    @Test
+    void load_binaryFileWithTextFormat_exportsText() throws InternityException, IOException {
+        new Storage(dataFile.toString(), SnapshotFormat.BINARY).save(sampleInternships());
+
+        Storage storage = new Storage(dataFile.toString());
+        storage.save(storage.load());
+
+        List<String> lines = Files.readAllLines(dataFile);
+        assertEquals("Google%7CX | SWE | 29-02-2024 | 6000 | Pending", lines.get(2));
+        assertEquals("Meta | Data Analyst | 01-01-1970 | 0 | Offer", lines.get(3));
+    }
+
+    @Test
+    void load_corruptedRecord_throwsChecksumError() throws InternityException, IOException {
+        Storage storage = new Storage(dataFile.toString(), SnapshotFormat.BINARY);
+        storage.save(sampleInternships());
+        byte[] bytes = Files.readAllBytes(dataFile);
+        bytes[bytes.length - 6] ^= 1; // flip a bit in the last record's pay
+        Files.write(dataFile, bytes);
+
+        InternityException e = assertThrows(InternityException.class, storage::load);
+        assertTrue(e.getMessage().contains("records checksum mismatch"));
+    }
+
+    @Test
+    void load_truncatedFile_throwsInternityException() throws InternityException, IOException {
+        Storage storage = new Storage(dataFile.toString(), SnapshotFormat.BINARY);
+        storage.save(sampleInternships());
+        byte[] bytes = Files.readAllBytes(dataFile);
+        Files.write(dataFile, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(InternityException.class, storage::load);
+    }
+}
@@ -0,0 +1,35 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class DurabilityTest {
+
+    @Test
+    void parse_namedPolicies_returnsConstants() {
+        assertSame(Durability.NONE, Durability.parse("none"));
+        assertSame(Durability.ON_EXIT, Durability.parse("on-exit"));
+        assertSame(Durability.EVERY_WRITE, Durability.parse("every-write"));
+    }
+
+    @Test
+    void parse_groupCommit_readsInterval() {
+        Durability durability = Durability.parse("every-250-ms");
+
+        assertEquals(Durability.Mode.GROUP_COMMIT, durability.getMode());
+        assertEquals(250, durability.getIntervalMillis());
+        assertEquals("every-250-ms", durability.toString());
+    }
+
+    @Test
+    void parse_invalidNames_returnsNull() {
+        assertNull(Durability.parse("always"));
+        assertNull(Durability.parse("every-ms"));
+        assertNull(Durability.parse("every-0-ms"));
+        assertNull(Durability.parse("every-x-ms"));
+        assertNull(Durability.parse("every-100"));
+    }
+}
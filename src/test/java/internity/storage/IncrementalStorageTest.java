@@ -0,0 +1,270 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class IncrementalStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+    private Path referenceFile;
+    private Path patchFile;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = tempDir.resolve("internships.txt");
+        referenceFile = tempDir.resolve("reference.txt");
+        patchFile = tempDir.resolve("internships.txt.patch");
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    private IncrementalStorage openStorage() throws InternityException {
+        IncrementalStorage storage = new IncrementalStorage(dataFile.toString());
+        InternshipList.setStorage(storage);
+        InternshipList.loadFromStorage();
+        return storage;
+    }
+
+    private void assertMatchesFullSave() throws InternityException, IOException {
+        ArrayList<Internship> internships = new ArrayList<>();
+        for (int i = 0; i < InternshipList.size(); i++) {
+            internships.add(InternshipList.get(i));
+        }
+        new Storage(referenceFile.toString()).save(internships);
+        assertArrayEquals(Files.readAllBytes(referenceFile), Files.readAllBytes(dataFile));
+    }
+
+    /**
+     * Stops the save once the redo log is on the disk, leaving only part of the new tail in the data file.
+     */
+    private static class CrashingStorage extends IncrementalStorage {
+        private boolean isCrashing;
+
+        CrashingStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        protected void syncFile(Path file) throws IOException {
+            super.syncFile(file);
+            if (isCrashing && file.getFileName().toString().endsWith(".patch")) {
+                Path target = file.resolveSibling("internships.txt");
+                byte[] old = Files.readAllBytes(target);
+                int tornAt = old.length * 3 / 4;
+                byte[] torn = Arrays.copyOf(old, tornAt + 7);
+                System.arraycopy("Torn co".getBytes(StandardCharsets.UTF_8), 0, torn, tornAt, 7);
+                Files.write(target, torn);
+                throw new IOException("Simulated crash");
+            }
+        }
+    }
+
+    /**
+     * Counts the saves that replace the whole file instead of patching it.
+     */
+    private static class RecordingStorage extends IncrementalStorage {
+        private int replacements;
+
+        RecordingStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        protected void moveAtomically(Path source, Path target) throws IOException {
+            replacements++;
+            super.moveAtomically(source, target);
+        }
+    }
+
+    private RecordingStorage openRecordingStorage(int count) throws InternityException {
+        RecordingStorage storage = new RecordingStorage(dataFile.toString());
+        InternshipList.setStorage(storage);
+        InternshipList.loadFromStorage();
+        for (int i = 0; i < count; i++) {
+            InternshipList.add(internship(i));
+        }
+        InternshipList.saveToStorage();
+        storage.replacements = 0;
+        return storage;
+    }
+
+    private static Internship internship(int i) {
+        return new Internship("Company" + i, "Role", new Date(1, 1, 2026), i);
+    }
+
+    @Test
+    void save_sameLengthUpdate_patchesInPlace() throws InternityException, IOException {
+        openStorage();
+        for (int i = 0; i < 5; i++) {
+            InternshipList.add(internship(i));
+        }
+        InternshipList.saveToStorage();
+        long length = Files.size(dataFile);
+
+        InternshipList.updatePay(2, 9);
+        InternshipList.updateStatus(3, "Applied");
+        InternshipList.saveToStorage();
+
+        assertEquals(length, Files.size(dataFile));
+        assertMatchesFullSave();
+    }
+
+    @Test
+    void save_deleteAndLongerUpdate_rewritesTail() throws InternityException, IOException {
+        RecordingStorage storage = openRecordingStorage(10);
+
+        InternshipList.updateCompany(7, "A much longer company name");
+        InternshipList.delete(8);
+        InternshipList.saveToStorage();
+        assertEquals(0, storage.replacements);
+        assertMatchesFullSave();
+
+        InternshipList.delete(InternshipList.size() - 1);
+        InternshipList.saveToStorage();
+        assertEquals(0, storage.replacements);
+        assertMatchesFullSave();
+    }
+
+    @Test
+    void save_deleteFirstRecord_replacesWholeFile() throws InternityException, IOException {
+        RecordingStorage storage = openRecordingStorage(10);
+
+        InternshipList.delete(0);
+        InternshipList.saveToStorage();
+
+        assertEquals(1, storage.replacements);
+        assertFalse(Files.exists(patchFile));
+        assertMatchesFullSave();
+    }
+
+    @Test
+    void save_usernameChange_rewritesHeader() throws InternityException, IOException {
+        openStorage();
+        InternshipList.setUsername("Bob");
+        InternshipList.add(internship(0));
+        InternshipList.saveToStorage();
+
+        InternshipList.setUsername("Amy");
+        InternshipList.saveToStorage();
+        assertMatchesFullSave();
+
+        InternshipList.setUsername("Alexandra");
+        InternshipList.saveToStorage();
+        assertMatchesFullSave();
+    }
+
+    @Test
+    void save_randomChanges_matchesFullSave() throws InternityException, IOException {
+        openStorage();
+        Random random = new Random(23);
+        for (int step = 0; step < 300; step++) {
+            int size = InternshipList.size();
+            int choice = size < 3 ? 0 : random.nextInt(6);
+            if (choice <= 1) {
+                InternshipList.add(internship(random.nextInt(1000)));
+            } else if (choice == 2) {
+                InternshipList.delete(random.nextInt(size));
+            } else if (choice == 3) {
+                InternshipList.updatePay(random.nextInt(size), random.nextInt(1000));
+            } else if (choice == 4) {
+                InternshipList.updateAll(new int[] {0, size - 1}, null, "R" + random.nextInt(100), null, null, null);
+            } else {
+                InternshipList.deleteAll(new int[] {0, random.nextInt(size - 1) + 1});
+            }
+            if (random.nextInt(3) == 0) {
+                InternshipList.saveToStorage();
+                assertMatchesFullSave();
+            }
+        }
+        InternshipList.saveToStorage();
+        assertMatchesFullSave();
+    }
+
+    @Test
+    void save_inBackground_mergesPatchesInOrder() throws InternityException, IOException {
+        BackgroundStorage storage = new BackgroundStorage(new IncrementalStorage(dataFile.toString()));
+        InternshipList.setStorage(storage);
+        InternshipList.loadFromStorage();
+        for (int i = 0; i < 50; i++) {
+            InternshipList.add(internship(i));
+            InternshipList.saveToStorage();
+            if (i % 4 == 0) {
+                InternshipList.updatePay(i / 2, 99);
+                InternshipList.delete(i / 3);
+                InternshipList.saveToStorage();
+            }
+        }
+        storage.close();
+
+        assertMatchesFullSave();
+    }
+
+    @Test
+    void load_afterCrashDuringTailRewrite_completesPatch() throws InternityException, IOException {
+        CrashingStorage storage = new CrashingStorage(dataFile.toString());
+        InternshipList.setStorage(storage);
+        InternshipList.loadFromStorage();
+        for (int i = 0; i < 10; i++) {
+            InternshipList.add(internship(i));
+        }
+        InternshipList.saveToStorage();
+
+        InternshipList.updateCompany(6, "A much longer company name");
+        InternshipList.delete(8);
+        storage.isCrashing = true;
+        assertThrows(InternityException.class, InternshipList::saveToStorage);
+
+        openStorage();
+        assertEquals(9, InternshipList.size());
+        assertEquals("A much longer company name", InternshipList.get(6).getCompany());
+        assertEquals("Company9", InternshipList.get(8).getCompany());
+        assertFalse(Files.exists(patchFile));
+        assertMatchesFullSave();
+    }
+
+    @Test
+    void load_incompletePatchLog_keepsLastSave() throws InternityException, IOException {
+        openStorage();
+        for (int i = 0; i < 5; i++) {
+            InternshipList.add(internship(i));
+        }
+        InternshipList.saveToStorage();
+        byte[] saved = Files.readAllBytes(dataFile);
+        Files.write(patchFile, new byte[] {0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 2, 0});
+
+        openStorage();
+        assertEquals(5, InternshipList.size());
+        assertFalse(Files.exists(patchFile));
+        assertArrayEquals(saved, Files.readAllBytes(dataFile));
+    }
+}
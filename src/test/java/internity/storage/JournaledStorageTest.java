@@ -0,0 +1,282 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class JournaledStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+    private Path journalFile;
+    private final PrintStream originalErr = System.err;
+    private ByteArrayOutputStream errContent;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = tempDir.resolve("internships.txt");
+        journalFile = tempDir.resolve("internships.txt.journal");
+        errContent = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errContent));
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setErr(originalErr);
+        InternshipList.setStorage(null);
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+    }
+
+    private JournaledStorage openStorage(int threshold) throws InternityException {
+        JournaledStorage storage = new JournaledStorage(dataFile.toString(), threshold);
+        InternshipList.setStorage(storage);
+        InternshipList.loadFromStorage();
+        return storage;
+    }
+
+    @Test
+    void save_afterAdd_appendsToJournalWithoutWritingSnapshot() throws InternityException, IOException {
+        openStorage(100);
+        InternshipList.add(new Internship("Google", "SWE", new Date(15, 3, 2025), 6000));
+        InternshipList.saveToStorage();
+
+        assertFalse(Files.exists(dataFile));
+        List<String> lines = Files.readAllLines(journalFile);
+        assertEquals(1, lines.size());
+        assertEquals("add | Google | SWE | 15-03-2025 | 6000 | Pending | 1", lines.get(0));
+    }
+
+    @Test
+    void save_withoutChanges_doesNotTouchJournal() throws InternityException {
+        openStorage(100);
+        InternshipList.saveToStorage();
+
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void load_replaysAddUpdateDeleteAndUsername() throws InternityException {
+        JournaledStorage storage = openStorage(100);
+        InternshipList.setUsername("Alice");
+        InternshipList.add(new Internship("Google", "SWE", new Date(15, 3, 2025), 6000));
+        InternshipList.add(new Internship("Meta", "Data | Analyst", new Date(1, 4, 2025), 5000));
+        InternshipList.add(new Internship("Apple", "PM", new Date(2, 5, 2025), 4000));
+        InternshipList.updateStatus(0, "accepted");
+        InternshipList.updateCompany(1, "Meta | FB");
+        InternshipList.delete(2);
+        InternshipList.saveToStorage();
+        storage.close();
+
+        InternshipList.clear();
+        InternshipList.setUsername(null);
+        openStorage(100);
+
+        assertEquals("Alice", InternshipList.getUsername());
+        assertEquals(2, InternshipList.size());
+        assertEquals("Accepted", InternshipList.get(0).getStatus());
+        assertEquals("Meta | FB", InternshipList.get(1).getCompany());
+        assertEquals("Data | Analyst", InternshipList.get(1).getRole());
+    }
+
+    @Test
+    void load_replaysBulkDeleteAndUpdate() throws InternityException {
+        JournaledStorage storage = openStorage(100);
+        for (int i = 0; i < 6; i++) {
+            InternshipList.add(new Internship("Company" + i, "SWE", new Date(15, 3, 2025), i));
+        }
+        InternshipList.deleteAll(new int[] {0, 2, 3});
+        InternshipList.updateAll(new int[] {0, 2}, null, null, null, 100, "Offer");
+        InternshipList.saveToStorage();
+        storage.close();
+
+        InternshipList.clear();
+        openStorage(100);
+
+        assertEquals(3, InternshipList.size());
+        assertEquals("Company1", InternshipList.get(0).getCompany());
+        assertEquals("Company4", InternshipList.get(1).getCompany());
+        assertEquals("Company5", InternshipList.get(2).getCompany());
+        assertEquals(100, InternshipList.get(0).getPay());
+        assertEquals("Offer", InternshipList.get(2).getStatus());
+        assertEquals(4, InternshipList.get(1).getPay());
+    }
+
+    @Test
+    void save_pastThreshold_compactsJournalIntoSnapshot() throws InternityException, IOException {
+        JournaledStorage storage = openStorage(3);
+        InternshipList.setUsername("Bob");
+        for (int i = 0; i < 3; i++) {
+            InternshipList.add(new Internship("Company" + i, "Role", new Date(1, 1, 2026), i));
+        }
+        InternshipList.saveToStorage();
+        storage.awaitCompaction();
+
+        List<String> snapshot = Files.readAllLines(dataFile);
+        assertEquals(5, snapshot.size());
+        assertEquals("Bob", snapshot.get(1));
+        assertEquals("Company2 | Role | 01-01-2026 | 2 | Pending | 3", snapshot.get(4));
+        assertFalse(Files.exists(journalFile));
+        assertFalse(Files.exists(tempDir.resolve("internships.txt.journal.compacting")));
+        assertEquals(0, storage.getJournalEntryCount());
+    }
+
+    @Test
+    void load_afterCompaction_combinesSnapshotAndNewJournal() throws InternityException {
+        JournaledStorage storage = openStorage(2);
+        InternshipList.add(new Internship("A", "R", new Date(1, 1, 2026), 1));
+        InternshipList.add(new Internship("B", "R", new Date(2, 1, 2026), 2));
+        InternshipList.saveToStorage();
+        storage.awaitCompaction();
+        InternshipList.delete(0);
+        InternshipList.add(new Internship("C", "R", new Date(3, 1, 2026), 3));
+        InternshipList.saveToStorage();
+        storage.close();
+
+        InternshipList.clear();
+        openStorage(2);
+
+        assertEquals(2, InternshipList.size());
+        assertEquals("B", InternshipList.get(0).getCompany());
+        assertEquals("C", InternshipList.get(1).getCompany());
+    }
+
+    private void assertAfterFailedCompaction() throws InternityException {
+        assertEquals(3, InternshipList.size());
+        assertEquals("A", InternshipList.get(0).getCompany());
+        assertEquals(9, InternshipList.get(0).getPay());
+        assertEquals("C", InternshipList.get(1).getCompany());
+        assertEquals("D", InternshipList.get(2).getCompany());
+    }
+
+    /**
+     * Makes changes that compact three times. The first fold fails because the new snapshot path is
+     * a directory, which is removed afterwards only if asked.
+     */
+    private void changeAfterFailedCompaction(JournaledStorage storage, boolean isFailureFixed)
+            throws InternityException, IOException {
+        Path compactFile = tempDir.resolve("internships.txt.compact");
+        Files.createDirectory(compactFile);
+        InternshipList.add(new Internship("A", "R", new Date(1, 1, 2026), 1));
+        InternshipList.add(new Internship("B", "R", new Date(2, 1, 2026), 2));
+        InternshipList.saveToStorage();
+        storage.awaitCompaction();
+        if (isFailureFixed) {
+            Files.delete(compactFile);
+        }
+
+        // The next rotation must not replace the segment the failed fold left behind
+        InternshipList.add(new Internship("C", "R", new Date(3, 1, 2026), 3));
+        InternshipList.updatePay(0, 9);
+        InternshipList.saveToStorage();
+        storage.awaitCompaction();
+        InternshipList.delete(1);
+        InternshipList.add(new Internship("D", "R", new Date(4, 1, 2026), 4));
+        InternshipList.saveToStorage();
+        storage.awaitCompaction();
+        storage.close();
+        Files.deleteIfExists(compactFile);
+    }
+
+    @Test
+    void save_foldKeepsFailing_keepsEveryEntryForReload() throws InternityException, IOException {
+        changeAfterFailedCompaction(openStorage(2), false);
+        assertTrue(Files.exists(tempDir.resolve("internships.txt.journal.compacting")));
+
+        InternshipList.clear();
+        openStorage(2).awaitCompaction();
+        assertAfterFailedCompaction();
+
+        InternshipList.clear();
+        openStorage(2);
+        assertAfterFailedCompaction();
+    }
+
+    @Test
+    void save_afterFailedFold_retriesItBeforeRotating() throws InternityException, IOException {
+        changeAfterFailedCompaction(openStorage(2), true);
+        assertFalse(Files.exists(tempDir.resolve("internships.txt.journal.compacting")));
+
+        InternshipList.clear();
+        openStorage(2);
+        assertAfterFailedCompaction();
+    }
+
+    @Test
+    void load_withFoldedJournal_rollsCompactionForward() throws InternityException, IOException {
+        Files.write(dataFile, List.of("Username (in line below):", "Old", "Stale | R | 01-01-2026 | 1 | Pending"));
+        Files.write(tempDir.resolve("internships.txt.compact"),
+                List.of("Username (in line below):", "New", "Fresh | R | 01-01-2026 | 1 | Pending"));
+        Files.write(tempDir.resolve("internships.txt.journal.folded"),
+                List.of("add | Fresh | R | 01-01-2026 | 1 | Pending"));
+
+        openStorage(100);
+
+        assertEquals("New", InternshipList.getUsername());
+        assertEquals(1, InternshipList.size());
+        assertEquals("Fresh", InternshipList.get(0).getCompany());
+        assertFalse(Files.exists(tempDir.resolve("internships.txt.journal.folded")));
+        assertFalse(Files.exists(tempDir.resolve("internships.txt.compact")));
+    }
+
+    @Test
+    void load_withTornJournalEntry_skipsEntryWithWarning() throws InternityException, IOException {
+        Files.write(journalFile, List.of(
+                "add | Google | SWE | 15-03-2025 | 6000 | Pending",
+                "delete | 7",
+                "add | Meta | SW"));
+
+        openStorage(100);
+
+        assertEquals(1, InternshipList.size());
+        assertTrue(errContent.toString().contains("Warning: Skipped journal entry with invalid index"));
+        assertTrue(errContent.toString().contains("Warning: Skipped line with invalid number of fields"));
+    }
+
+    @Test
+    void load_doesNotRecordReplayedEntries() throws InternityException, IOException {
+        Files.write(journalFile, List.of("add | Google | SWE | 15-03-2025 | 6000 | Pending", "username | Carol"));
+
+        JournaledStorage storage = openStorage(100);
+        InternshipList.saveToStorage();
+
+        assertEquals(2, Files.readAllLines(journalFile).size());
+        assertEquals(2, storage.getJournalEntryCount());
+        assertEquals("Carol", InternshipList.getUsername());
+    }
+
+    @Test
+    void readUsername_usernameInJournal_returnsReplayedUsername() throws InternityException, IOException {
+        Files.write(dataFile, List.of("Username (in line below):", "Alice",
+                "Google | SWE | 15-03-2025 | 6000 | Pending"));
+        Files.write(journalFile, List.of("username | Bob", "add | Meta | SWE | 15-03-2025 | 6000 | Pending",
+                "username | Carol%7CD", "username |   "));
+
+        JournaledStorage storage = new JournaledStorage(dataFile.toString(), 100);
+
+        assertEquals("Carol|D", storage.readUsername());
+        storage.load();
+        assertEquals("Carol|D", InternshipList.getUsername());
+    }
+}
@@ -0,0 +1,173 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import internity.core.Internship;
+
+class MappedInternshipReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private Storage storage;
+    private final PrintStream originalErr = System.err;
+    private ByteArrayOutputStream errContent;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("internships.txt");
+        storage = new Storage(file.toString());
+        errContent = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void restoreStreams() {
+        System.setErr(originalErr);
+    }
+
+    private ArrayList<Internship> readAll(long mapThreshold, long windowSize) throws IOException {
+        ArrayList<Internship> internships = new ArrayList<>();
+        try (MappedInternshipReader reader = MappedInternshipReader.open(file, mapThreshold, windowSize)) {
+            reader.readInternships(storage, internships);
+        }
+        return internships;
+    }
+
+    @Test
+    void readInternships_validRecord_parsesAllFields() throws IOException {
+        Files.writeString(file, "  Google%7CX | SWE |15-03-2025|  6000 | Interviewing  \n");
+
+        ArrayList<Internship> internships = readAll(Long.MAX_VALUE, MappedInternshipReader.MAX_WINDOW_SIZE);
+
+        assertEquals(1, internships.size());
+        Internship internship = internships.get(0);
+        assertEquals("Google|X", internship.getCompany());
+        assertEquals("SWE", internship.getRole());
+        assertEquals("15-03-2025", internship.getDeadline().toString());
+        assertEquals(6000, internship.getPay());
+        assertEquals("Interviewing", internship.getStatus());
+    }
+
+    @Test
+    void readInternships_recordWithId_parsesId() throws IOException {
+        Files.writeString(file, "Google | SWE | 15-03-2025 | 6000 | Pending | 42\n"
+                + "Meta | SWE | 15-03-2025 | 6000 | Pending | 0\n");
+
+        ArrayList<Internship> internships = readAll(Long.MAX_VALUE, MappedInternshipReader.MAX_WINDOW_SIZE);
+
+        assertEquals(1, internships.size());
+        assertEquals(42, internships.get(0).getId());
+        assertTrue(errContent.toString().contains("Warning: Skipped line with invalid ID"));
+    }
+
+    @Test
+    void readInternships_repeatedCompanyAndRole_sharesStrings() throws IOException {
+        Files.writeString(file, "Shopee | Data Analyst | 15-03-2025 | 6000 | Pending\n"
+                + "Shopee | Data Analyst | 16-03-2025 | 6000 | Pending\n"
+                + "Shop%7Cee | Data Analyst | 16-03-2025 | 6000 | Pending\n");
+
+        ArrayList<Internship> internships = readAll(Long.MAX_VALUE, MappedInternshipReader.MAX_WINDOW_SIZE);
+
+        assertEquals(3, internships.size());
+        assertSame(internships.get(0).getCompany(), internships.get(1).getCompany());
+        assertSame(internships.get(0).getRole(), internships.get(2).getRole());
+        assertEquals("Shop|ee", internships.get(2).getCompany());
+    }
+
+    @Test
+    void readLine_mixedLineTerminators_splitsLikeBufferedReader() throws IOException {
+        Files.writeString(file, "a\r\nb\rc\n\nd");
+
+        try (MappedInternshipReader reader = MappedInternshipReader.open(file, 0, 3)) {
+            assertEquals("a", reader.readLine());
+            assertEquals("b", reader.readLine());
+            assertEquals("c", reader.readLine());
+            assertEquals("", reader.readLine());
+            assertEquals("d", reader.readLine());
+            assertNull(reader.readLine());
+        }
+    }
+
+    @Test
+    void readInternships_mappedInSmallWindows_readsEveryLine() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            content.append("Company").append(i).append(" | Role | 01-01-2026 | ").append(i).append(" | Pending\r\n");
+        }
+        Files.writeString(file, content.toString());
+
+        ArrayList<Internship> internships = readAll(0, 64);
+
+        assertEquals(500, internships.size());
+        assertEquals("Company0", internships.get(0).getCompany());
+        assertEquals(499, internships.get(499).getPay());
+    }
+
+    @Test
+    void readInternships_invalidLines_reportSameWarningsAsStorage() throws IOException {
+        Files.write(file, ("Google | SWE | 15-03-2025 | abc | Pending\n"
+                + "Google | SWE | 31-02-2025 | 10 | Pending\n"
+                + "Café | SWE | 15-03-2025 | 10 | Pending\n"
+                + "Meta | SWE | 15-03-2025 | 10 | Done\n"
+                + "Apple\t| SWE | 15-03-2025 | +10 | Offer\n").getBytes(StandardCharsets.UTF_8));
+
+        ArrayList<Internship> internships = readAll(0, MappedInternshipReader.MAX_WINDOW_SIZE);
+
+        String errors = errContent.toString();
+        assertTrue(errors.contains("Warning: Skipped line with invalid pay format"));
+        assertTrue(errors.contains("Warning: Skipped line - Invalid date format"));
+        assertTrue(errors.contains("Warning: Skipped line with non-ASCII characters in company name: Café"));
+        assertTrue(errors.contains("Warning: Skipped line with invalid status"));
+        assertEquals(1, internships.size());
+        assertEquals("Apple", internships.get(0).getCompany());
+        assertEquals(10, internships.get(0).getPay());
+    }
+
+    @Test
+    void readInternships_parallelChunks_matchSequentialOrderAndWarnings() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            if (i % 97 == 0) {
+                content.append("Broken").append(i).append(" | SWE | 01-01-2026 | x | Pending\r\n");
+            } else {
+                content.append("Company").append(i).append(" | Role | 01-01-2026 | ").append(i).append(" | Offer\n");
+            }
+        }
+        Files.writeString(file, content.toString());
+
+        ArrayList<Internship> sequential = readAll(0, 4096);
+        String sequentialErrors = errContent.toString();
+        errContent.reset();
+
+        ArrayList<Internship> parallel = new ArrayList<>();
+        try (MappedInternshipReader reader = MappedInternshipReader.open(file, 0, 4096, 512)) {
+            reader.readInternships(storage, parallel);
+        }
+
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getCompany(), parallel.get(i).getCompany());
+            assertEquals(sequential.get(i).getPay(), parallel.get(i).getPay());
+        }
+        assertEquals(sequentialErrors, errContent.toString());
+        assertTrue(sequentialErrors.indexOf("Broken0 ") < sequentialErrors.indexOf("Broken1940 "));
+    }
+}
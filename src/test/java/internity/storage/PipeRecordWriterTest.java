@@ -0,0 +1,79 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import internity.core.Date;
+import internity.core.Internship;
+import internity.core.Status;
+
+class PipeRecordWriterTest {
+
+    private final Storage storage = new Storage("unused.txt");
+    private final PipeRecordWriter writer = new PipeRecordWriter();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private byte[] expectedLine(Internship internship) {
+        return (storage.formatInternshipForFile(internship) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void writeRecord_specialValues_matchesFormatInternshipForFile() throws IOException {
+        Internship[] internships = {
+            new Internship("A|B", "x||y", new Date(3, 4, 2025), 0),
+            new Internship("Café €", "R😀le", new Date(31, 12, 10000), Integer.MAX_VALUE),
+            new Internship("Lone\ud83d", "Role\ude00", new Date(1, 1, 1), 7),
+        };
+        internships[0].setId(Long.MAX_VALUE);
+        internships[1].setStatus(Status.INTERVIEWING);
+
+        for (Internship internship : internships) {
+            out.reset();
+            writer.open(Channels.newChannel(out));
+            int count = writer.writeRecord(internship);
+            writer.flush();
+
+            assertArrayEquals(expectedLine(internship), out.toByteArray());
+            assertEquals(out.size(), count);
+        }
+    }
+
+    @Test
+    void writeHeader_matchesFormatTextHeader() throws IOException {
+        for (String username : new String[] {null, "", "Alice", "Jürgen|x"}) {
+            out.reset();
+            writer.open(Channels.newChannel(out));
+            int count = writer.writeHeader(username);
+            writer.flush();
+
+            assertArrayEquals(storage.formatTextHeader(username).getBytes(StandardCharsets.UTF_8), out.toByteArray());
+            assertEquals(out.size(), count);
+        }
+    }
+
+    @Test
+    void writeRecord_moreThanBuffer_writesEveryRecordInOrder() throws IOException {
+        Random random = new Random(24);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        writer.open(Channels.newChannel(out));
+        for (int i = 0; i < 5000; i++) {
+            Internship internship = new Internship("Company " + random.nextInt(), "Role|" + i,
+                    Date.ofEpochDay(random.nextInt(40000)), random.nextInt(100000));
+            internship.setId(i);
+            internship.setStatus(Status.ofOrdinal(random.nextInt(Status.count())));
+            writer.writeRecord(internship);
+            expected.writeBytes(expectedLine(internship));
+        }
+        writer.flush();
+
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+}
@@ -0,0 +1,144 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import internity.core.Date;
+import internity.core.Internship;
+
+class SnapshotListTest {
+
+    private static Internship internship(int i) {
+        Internship internship = new Internship("Company" + i, "Role" + (i % 7), new Date(1 + i % 28, 1, 2026), i);
+        internship.setId(i + 1);
+        return internship;
+    }
+
+    private static List<String> describe(List<Internship> internships) {
+        List<String> descriptions = new ArrayList<>();
+        for (Internship internship : internships) {
+            descriptions.add(internship.toString());
+        }
+        return descriptions;
+    }
+
+    private static void assertSameInternships(List<Internship> expected, List<Internship> actual) {
+        assertEquals(describe(expected), describe(actual));
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
+
+    @Test
+    void snapshot_laterChanges_doNotShowInEarlierSnapshots() {
+        List<Internship> list = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            list.add(internship(i));
+        }
+        SnapshotList copies = new SnapshotList(list);
+        List<Internship> first = copies.snapshot();
+        List<String> expectedFirst = describe(list);
+
+        list.get(5).setPay(999);
+        copies.set(5, list.get(5));
+        list.remove(2500);
+        copies.remove(2500);
+        list.add(internship(5000));
+        copies.add(list.get(list.size() - 1));
+        List<Internship> second = copies.snapshot();
+
+        assertEquals(expectedFirst, describe(first));
+        assertSameInternships(list, second);
+        assertNotSame(list.get(5), second.get(5));
+    }
+
+    @Test
+    void snapshot_randomChanges_matchesList() {
+        List<Internship> list = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(internship(i));
+        }
+        SnapshotList copies = new SnapshotList(list);
+        List<List<Internship>> snapshots = new ArrayList<>();
+        List<List<String>> expected = new ArrayList<>();
+        Random random = new Random(21);
+        for (int step = 0; step < 400; step++) {
+            int choice = list.isEmpty() ? 0 : random.nextInt(3);
+            if (choice == 0) {
+                list.add(internship(random.nextInt(100000)));
+                copies.add(list.get(list.size() - 1));
+            } else if (choice == 1) {
+                int index = random.nextInt(list.size());
+                list.get(index).setPay(random.nextInt(1000));
+                copies.set(index, list.get(index));
+            } else {
+                int index = random.nextInt(list.size());
+                list.remove(index);
+                copies.remove(index);
+            }
+            if (random.nextInt(10) == 0) {
+                assertFalse(copies.isStale());
+                snapshots.add(copies.snapshot());
+                expected.add(describe(list));
+            }
+        }
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(expected.get(i), describe(snapshots.get(i)));
+        }
+        assertSameInternships(list, copies.snapshot());
+    }
+
+    @Test
+    void remove_wholeChunks_dropsEmptyChunks() {
+        List<Internship> list = new ArrayList<>();
+        for (int i = 0; i < 3 * SnapshotList.CHUNK_SIZE; i++) {
+            list.add(internship(i));
+        }
+        SnapshotList copies = new SnapshotList(list);
+        for (int i = 2 * SnapshotList.CHUNK_SIZE - 1; i >= SnapshotList.CHUNK_SIZE; i--) {
+            list.remove(i);
+            copies.remove(i);
+        }
+        assertFalse(copies.isStale());
+        assertSameInternships(list, copies.snapshot());
+    }
+
+    @Test
+    void change_outOfStep_makesListStale() {
+        List<Internship> list = new ArrayList<>();
+        list.add(internship(0));
+        SnapshotList copies = new SnapshotList(list);
+
+        copies.remove(1);
+
+        assertTrue(copies.isStale());
+    }
+
+    @Test
+    void changes_costlierThanCopy_makeListStale() {
+        List<Internship> list = new ArrayList<>();
+        for (int i = 0; i < 4 * SnapshotList.CHUNK_SIZE; i++) {
+            list.add(internship(i));
+        }
+        SnapshotList copies = new SnapshotList(list);
+        copies.snapshot();
+
+        int removed = 0;
+        while (!list.isEmpty() && !copies.isStale()) {
+            list.remove(0);
+            copies.remove(0);
+            removed++;
+        }
+
+        assertTrue(copies.isStale());
+        assertTrue(removed > 1);
+    }
+}
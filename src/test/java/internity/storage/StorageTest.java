@@ -400,6 +400,39 @@ class StorageTest {
         assertEquals("Accepted", loadedInternships.get(1).getStatus());
     }
 
+    @Test
+    void saveAndLoad_internshipsWithIds_preservesIds() throws InternityException, IOException {
+        ArrayList<Internship> internships = new ArrayList<>();
+        internships.add(new Internship("Google", "SWE", new Date(15, 3, 2025), 6000));
+        internships.get(0).setId(7);
+
+        storage.save(internships);
+        List<String> lines = Files.readAllLines(Path.of(testFilePath));
+        ArrayList<Internship> loadedInternships = storage.load();
+
+        assertEquals("Google | SWE | 15-03-2025 | 6000 | Pending | 7", lines.get(2));
+        assertEquals(7, loadedInternships.get(0).getId());
+    }
+
+    @Test
+    void loadFromStorage_missingAndDuplicateIds_assignsFreshIds() throws InternityException, IOException {
+        String content = "Username (in line below):\n"
+                + "TestUser\n"
+                + "Google | SWE | 15-03-2025 | 6000 | Pending | 5\n"
+                + "Meta | SWE | 15-03-2025 | 6000 | Pending\n"
+                + "Grab | SWE | 15-03-2025 | 6000 | Pending | 5\n";
+        Files.writeString(Path.of(testFilePath), content);
+
+        InternshipList.setStorage(storage);
+        InternshipList.loadFromStorage();
+        InternshipList.setStorage(null);
+
+        assertEquals(5, InternshipList.get(0).getId());
+        assertEquals(6, InternshipList.get(1).getId());
+        assertEquals(7, InternshipList.get(2).getId());
+        assertEquals(2, InternshipList.indexOfId(7));
+    }
+
     @Test
     void load_extraWhitespace_trimsCorrectly() throws InternityException, IOException {
         String content = "Username (in line below):\n"
@@ -918,4 +951,36 @@ class StorageTest {
         assertEquals("Valid_User-123!@#", InternshipList.getUsername()); // Username should be set
         assertEquals("Google", internships.get(0).getCompany());
     }
+
+    @Test
+    void save_everyWrite_syncsFileAndDirectory() throws InternityException {
+        Storage syncing = new Storage(testFilePath, SnapshotFormat.TEXT, Durability.EVERY_WRITE);
+        syncing.save(new ArrayList<>(List.of(new Internship("Google", "SWE", new Date(15, 3, 2025), 6000))));
+        syncing.save(new ArrayList<>());
+
+        assertEquals(2, syncing.getWriteMetrics().getWriteCount());
+        assertEquals(4, syncing.getWriteMetrics().getSyncCount());
+    }
+
+    @Test
+    void close_onExit_syncsOnlyOnce() throws InternityException {
+        Storage syncing = new Storage(testFilePath, SnapshotFormat.TEXT, Durability.ON_EXIT);
+        for (int i = 0; i < 5; i++) {
+            syncing.save(new ArrayList<>());
+        }
+        assertEquals(0, syncing.getWriteMetrics().getSyncCount());
+
+        syncing.close();
+        assertEquals(5, syncing.getWriteMetrics().getWriteCount());
+        assertEquals(2, syncing.getWriteMetrics().getSyncCount());
+    }
+
+    @Test
+    void save_none_neverSyncs() throws InternityException {
+        storage.save(new ArrayList<>());
+        storage.close();
+
+        assertEquals(1, storage.getWriteMetrics().getWriteCount());
+        assertEquals(0, storage.getWriteMetrics().getSyncCount());
+    }
 }
@@ -0,0 +1,73 @@
+package internity.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.Internship;
+
+class ConsoleOutputTest {
+    private static final String FORMAT_CONTENT = "%" + Ui.INDEX_MAXLEN + "d %-" + Ui.COMPANY_MAXLEN + "s %-"
+            + Ui.ROLE_MAXLEN + "s %-" + Ui.DEADLINE_MAXLEN + "s %-" + Ui.PAY_MAXLEN + "d %-"
+            + Ui.STATUS_MAXLEN + "s%n";
+
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Ui.setPlainOutput(false);
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void printInternshipListContent_matchesPrintfFormatting() {
+        Internship[] internships = {
+            new Internship("Google", "SWE", new Date(1, 1, 2026), 0),
+            new Internship("A company name longer than thirty characters", "R", new Date(31, 12, 999), 1234567890),
+            new Internship("Meta", "Data Analyst", new Date(9, 9, 2026), 42),
+        };
+        int[] indexes = {0, 99998, 123456};
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < internships.length; i++) {
+            Internship internship = internships[i];
+            Ui.printInternshipListContent(indexes[i], internship);
+            expected.append(String.format(FORMAT_CONTENT, indexes[i] + 1, internship.getCompany(),
+                    internship.getRole(), internship.getDeadline().toString(), internship.getPay(),
+                    internship.getStatus()));
+        }
+        Ui.flush();
+
+        assertEquals(expected.toString(), outContent.toString());
+    }
+
+    @Test
+    void printInternshipListContent_blockMode_writesOnlyOnFlush() {
+        Ui.printInternshipListContent(0, new Internship("Google", "SWE", new Date(1, 1, 2026), 0));
+        assertEquals("", outContent.toString());
+
+        Ui.flush();
+        assertEquals(1, outContent.toString().lines().count());
+    }
+
+    @Test
+    void printInternshipListContent_plainMode_writesEachLine() {
+        Ui.setPlainOutput(true);
+        Ui.printInternshipListContent(0, new Internship("Google", "SWE", new Date(1, 1, 2026), 0));
+
+        assertEquals(1, outContent.toString().lines().count());
+    }
+}
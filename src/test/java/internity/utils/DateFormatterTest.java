@@ -180,4 +180,11 @@ class DateFormatterTest {
         );
     }
 
+    @Test
+    void parse_signsOrSurroundingSpaces_onlyAcceptsPlainDigits() throws InternityException {
+        assertEquals(8, DateFormatter.parse("  08-10-2025 ").getDay());
+        assertThrows(InternityException.class, () -> DateFormatter.parse("08-+1-2025"));
+        assertThrows(InternityException.class, () -> DateFormatter.parse("-1-10-2025"));
+        assertThrows(InternityException.class, () -> DateFormatter.parse("08-10-20 5"));
+    }
 }
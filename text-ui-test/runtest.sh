@@ -11,7 +11,7 @@ cd text-ui-test
 
 rm -rf data
 
-java  -jar $(find ../build/libs/ -mindepth 1 -print -quit) < input.txt > ACTUAL.TXT
+java  -jar $(find ../build/libs/ -mindepth 1 -print -quit) --plain < input.txt > ACTUAL.TXT
 
 cp EXPECTED.TXT EXPECTED-UNIX.TXT
 dos2unix EXPECTED-UNIX.TXT ACTUAL.TXT